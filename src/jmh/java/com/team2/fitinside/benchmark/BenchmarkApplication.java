@@ -0,0 +1,38 @@
+package com.team2.fitinside.benchmark;
+
+import com.team2.fitinside.FitinsideApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 내장 H2 위에서 애플리케이션 컨텍스트를 띄우는 서비스 벤치마크용 헬퍼 (웹 서버 없이 실행)
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        String secret = Base64.getEncoder().encodeToString(
+                "fitinside-benchmark-secret-key-fitinside-benchmark-secret-key-0123".getBytes(StandardCharsets.UTF_8));
+
+        return new SpringApplicationBuilder(FitinsideApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "jwt.secret=" + secret,
+                        "spring.security.oauth2.client.registration.google.client-id=benchmark",
+                        "spring.security.oauth2.client.registration.google.client-secret=benchmark",
+                        "spring.mail.password=benchmark",
+                        "cloud.aws.credentials.accessKey=benchmark",
+                        "cloud.aws.credentials.secretKey=benchmark")
+                .run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.team2.fitinside.benchmark;
+
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.member.entity.Authority;
+import com.team2.fitinside.member.entity.Member;
+import com.team2.fitinside.order.entity.Order;
+import com.team2.fitinside.order.entity.OrderProduct;
+import com.team2.fitinside.order.entity.OrderStatus;
+import com.team2.fitinside.product.entity.Product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크에서 공통으로 사용하는 엔티티 생성 헬퍼
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Category category(Long id, String name, Category parent) {
+        return Category.builder()
+                .id(id)
+                .name(name)
+                .displayOrder(id)
+                .isDeleted(false)
+                .parent(parent)
+                .imageUrl("https://fitinside.s3.ap-northeast-2.amazonaws.com/category-" + id + ".png")
+                .build();
+    }
+
+    public static Product product(Long id, Category category) {
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            imageUrls.add("https://fitinside.s3.ap-northeast-2.amazonaws.com/product-" + id + "-" + i + ".png");
+        }
+        return Product.builder()
+                .id(id)
+                .category(category)
+                .categoryName(category.getName())
+                .productName("상품 " + id)
+                .price(10_000 + id.intValue())
+                .info("벤치마크용 상품 설명 " + id)
+                .stock(100)
+                .manufacturer("fitinside")
+                .productImgUrls(imageUrls)
+                .productDescImgUrls(new ArrayList<>(imageUrls))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static Member member(Long id) {
+        return Member.builder()
+                .id(id)
+                .email("member" + id + "@fitinside.com")
+                .userName("member" + id)
+                .phone("010-0000-0000")
+                .authority(Authority.ROLE_USER)
+                .build();
+    }
+
+    public static Order order(Long id, Member member, List<Product> products) {
+        Order order = Order.builder()
+                .id(id)
+                .member(member)
+                .orderStatus(OrderStatus.ORDERED)
+                .totalPrice(0)
+                .deliveryFee(3000)
+                .postalCode("12345")
+                .deliveryAddress("서울시 성동구")
+                .detailedAddress("101호")
+                .deliveryReceiver("홍길동")
+                .deliveryPhone("010-0000-0000")
+                .createdAt(LocalDateTime.now())
+                .orderProducts(new ArrayList<>())
+                .build();
+
+        long orderProductId = 1;
+        for (Product product : products) {
+            order.addOrderProduct(OrderProduct.builder()
+                    .id(orderProductId++)
+                    .product(product)
+                    .orderProductName(product.getProductName())
+                    .orderProductPrice(product.getPrice())
+                    .count(2)
+                    .discountedPrice(product.getPrice() * 2)
+                    .build());
+        }
+        return order;
+    }
+}
@@ -0,0 +1,37 @@
+package com.team2.fitinside.cart.service;
+
+import com.team2.fitinside.benchmark.BenchmarkFixtures;
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.product.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartQuantityCheckBenchmark {
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        product = BenchmarkFixtures.product(1L, BenchmarkFixtures.category(1L, "상의", null));
+    }
+
+    @Benchmark
+    public void checkQuantityValid() {
+        CartService.checkQuantity(5, product);
+    }
+
+    // 범위를 벗어난 수량 (예외 생성 비용 포함)
+    @Benchmark
+    public Object checkQuantityOutOfRange() {
+        try {
+            CartService.checkQuantity(21, product);
+            return null;
+        } catch (CustomException e) {
+            return e;
+        }
+    }
+}
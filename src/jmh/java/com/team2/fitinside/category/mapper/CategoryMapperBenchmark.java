@@ -0,0 +1,27 @@
+package com.team2.fitinside.category.mapper;
+
+import com.team2.fitinside.benchmark.BenchmarkFixtures;
+import com.team2.fitinside.category.dto.CategoryResponseDTO;
+import com.team2.fitinside.category.entity.Category;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryMapperBenchmark {
+
+    private Category child;
+
+    @Setup
+    public void setUp() {
+        Category parent = BenchmarkFixtures.category(1L, "의류", null);
+        child = BenchmarkFixtures.category(2L, "상의", parent);
+    }
+
+    @Benchmark
+    public CategoryResponseDTO toResponseDTO() {
+        return CategoryMapper.toResponseDTO(child);
+    }
+}
@@ -0,0 +1,23 @@
+package com.team2.fitinside.coupon.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponCodeBenchmark {
+
+    @Benchmark
+    public String createCouponCode() {
+        return CouponAdminService.createCouponCode();
+    }
+
+    // 여러 스레드에서 동시에 쿠폰 코드를 생성하는 경우
+    @Benchmark
+    @Threads(4)
+    public String createCouponCodeContended() {
+        return CouponAdminService.createCouponCode();
+    }
+}
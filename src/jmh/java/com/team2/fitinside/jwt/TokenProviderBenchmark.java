@@ -0,0 +1,48 @@
+package com.team2.fitinside.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JwtFilter 가 매 요청마다 수행하는 토큰 검증/인증 객체 생성 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private TokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString(
+                "fitinside-benchmark-secret-key-fitinside-benchmark-secret-key-0123".getBytes(StandardCharsets.UTF_8));
+        tokenProvider = new TokenProvider(secret);
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                "1", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = tokenProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(accessToken);
+    }
+
+    // JwtFilter 와 동일하게 검증 후 인증 객체 생성
+    @Benchmark
+    public Authentication validateAndGetAuthentication() {
+        return tokenProvider.validateToken(accessToken) ? tokenProvider.getAuthentication(accessToken) : null;
+    }
+}
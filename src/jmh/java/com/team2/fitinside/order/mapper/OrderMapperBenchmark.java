@@ -0,0 +1,43 @@
+package com.team2.fitinside.order.mapper;
+
+import com.team2.fitinside.benchmark.BenchmarkFixtures;
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.order.dto.OrderDetailResponseDto;
+import com.team2.fitinside.order.entity.Order;
+import com.team2.fitinside.product.entity.Product;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMapperBenchmark {
+
+    // 주문 한 건에 포함된 상품 수
+    @Param({"1", "5", "20"})
+    private int orderProductCount;
+
+    private OrderMapper orderMapper;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        orderMapper = Mappers.getMapper(OrderMapper.class);
+
+        Category category = BenchmarkFixtures.category(1L, "상의", null);
+        List<Product> products = new ArrayList<>();
+        for (long i = 1; i <= orderProductCount; i++) {
+            products.add(BenchmarkFixtures.product(i, category));
+        }
+        order = BenchmarkFixtures.order(1L, BenchmarkFixtures.member(1L), products);
+    }
+
+    @Benchmark
+    public OrderDetailResponseDto toOrderDetailResponseDto() {
+        return orderMapper.toOrderDetailResponseDto(order);
+    }
+}
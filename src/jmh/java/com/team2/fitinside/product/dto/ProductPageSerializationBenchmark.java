@@ -0,0 +1,79 @@
+package com.team2.fitinside.product.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.team2.fitinside.benchmark.BenchmarkFixtures;
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.product.mapper.ProductMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// 상품 100개 목록 응답 직렬화 비용 (PageImpl vs ProductPageResponseDto, 기본 ObjectMapper vs Blackbird)
+// 전송 크기(원본/gzip)는 Setup 에서 출력
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"page", "envelope"})
+    private String format;
+
+    @Param({"default", "blackbird"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private Object body;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (mapper.equals("blackbird")) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        Category category = BenchmarkFixtures.category(1L, "상의", null);
+        List<ProductResponseDto> content = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            content.add(ProductMapper.INSTANCE.toDto(BenchmarkFixtures.product(id, category)));
+        }
+        Page<ProductResponseDto> page = new PageImpl<>(content,
+                PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending()), 10_000);
+        body = format.equals("page") ? page : ProductPageResponseDto.from(page);
+
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        System.out.printf("%n[bytes] format=%s raw=%d gzip=%d%n", format, json.length, gzip(json).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    // 직렬화 + 응답 압축 (server.compression 적용 시 CPU 비용)
+    @Benchmark
+    public byte[] serializeAndGzip() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(body));
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+}
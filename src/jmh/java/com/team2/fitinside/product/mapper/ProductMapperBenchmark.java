@@ -0,0 +1,28 @@
+package com.team2.fitinside.product.mapper;
+
+import com.team2.fitinside.benchmark.BenchmarkFixtures;
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.product.dto.ProductResponseDto;
+import com.team2.fitinside.product.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMapperBenchmark {
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        Category category = BenchmarkFixtures.category(1L, "상의", null);
+        product = BenchmarkFixtures.product(1L, category);
+    }
+
+    @Benchmark
+    public ProductResponseDto toDto() {
+        return ProductMapper.INSTANCE.toDto(product);
+    }
+}
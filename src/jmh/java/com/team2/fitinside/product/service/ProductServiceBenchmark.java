@@ -0,0 +1,96 @@
+package com.team2.fitinside.product.service;
+
+import com.team2.fitinside.benchmark.BenchmarkApplication;
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.category.repository.CategoryRepository;
+import com.team2.fitinside.product.dto.ProductResponseDto;
+import com.team2.fitinside.product.entity.Product;
+import com.team2.fitinside.product.repository.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 내장 H2 데이터셋 위에서 상품 조회 서비스 전체 경로(트랜잭션, JPA, 매핑) 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    private static final int PARENT_CATEGORIES = 5;
+    private static final int CHILDREN_PER_PARENT = 4;
+
+    @Param({"10000"})
+    private int productCount;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private List<Long> productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("product-benchmark");
+        productService = context.getBean(ProductService.class);
+        seed(context.getBean(CategoryRepository.class), context.getBean(ProductRepository.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProductResponseDto> getAllProducts() {
+        return productService.getAllProducts(0, 9, "createdAt", "desc", null);
+    }
+
+    @Benchmark
+    public Page<ProductResponseDto> searchProductsByKeyword() {
+        return productService.getAllProducts(0, 9, "createdAt", "desc", "상품 12");
+    }
+
+    @Benchmark
+    public Page<ProductResponseDto> getAllProductsByCategoryName() {
+        return productService.getAllProductsByCategoryName(0, 9, "createdAt", "desc", "의류1");
+    }
+
+    @Benchmark
+    public ProductResponseDto findProductById() {
+        Long id = productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+        return productService.findProductById(id);
+    }
+
+    private void seed(CategoryRepository categoryRepository, ProductRepository productRepository) {
+        List<Category> leafCategories = new ArrayList<>();
+        for (int p = 1; p <= PARENT_CATEGORIES; p++) {
+            Category parent = categoryRepository.save(Category.builder()
+                    .name("의류" + p).displayOrder((long) p).isDeleted(false).build());
+            for (int c = 1; c <= CHILDREN_PER_PARENT; c++) {
+                leafCategories.add(categoryRepository.save(Category.builder()
+                        .name("의류" + p + "-" + c).displayOrder((long) c).isDeleted(false).parent(parent).build()));
+            }
+        }
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            Category category = leafCategories.get(i % leafCategories.size());
+            Product product = Product.builder()
+                    .productName("상품 " + i)
+                    .price(10_000 + i)
+                    .info("벤치마크용 상품 설명 " + i)
+                    .stock(100)
+                    .manufacturer("fitinside")
+                    .productImgUrls(new ArrayList<>(List.of("https://fitinside.s3.ap-northeast-2.amazonaws.com/p-" + i + ".png")))
+                    .productDescImgUrls(new ArrayList<>())
+                    .build();
+            product.setCategory(category);
+            products.add(product);
+        }
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+    }
+}
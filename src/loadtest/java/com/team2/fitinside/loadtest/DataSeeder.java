@@ -0,0 +1,158 @@
+package com.team2.fitinside.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// JPA 를 거치지 않고 JDBC 배치로 대량 데이터 적재 (100만 상품 적재에 엔티티 저장은 너무 느림)
+public class DataSeeder {
+
+    static final String[] KEYWORDS = {"러닝", "요가", "헬스", "필라테스", "등산", "수영", "홈트", "사이클"};
+    static final String MEMBER_PASSWORD = "loadtest1!";
+
+    // 애플리케이션이 id(TSID) 를 발급하는 테이블은 현재 시각 기반 id(10^14 이상) 보다 작은 대역 사용
+    private static final long SEEDED_ID_BASE = 1_000_000_000_000L;
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] PARENT_CATEGORIES = {"상의", "하의", "신발", "용품"};
+    private static final String[] CHILD_CATEGORIES = {"기본", "기능성", "프리미엄", "아울렛"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestConfig config;
+    private final Random random;
+
+    public DataSeeder(JdbcTemplate jdbcTemplate, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.random = new Random(config.seed());
+    }
+
+    public SeededData seed(String encodedPassword) {
+        List<Long> categoryIds = seedCategories();
+        IdRange productIds = seedProducts(categoryIds);
+        IdRange memberIds = seedMembers(encodedPassword);
+        List<String> couponCodes = seedCoupons();
+        seedCarts(productIds, memberIds);
+        return new SeededData(categoryIds, productIds, memberIds, couponCodes);
+    }
+
+    private List<Long> seedCategories() {
+        List<Long> leafIds = new ArrayList<>();
+        long displayOrder = 1;
+        for (String parentName : PARENT_CATEGORIES) {
+            jdbcTemplate.update("INSERT INTO category (name, display_order, is_deleted, version) VALUES (?, ?, false, 0)",
+                    parentName, displayOrder++);
+            Long parentId = jdbcTemplate.queryForObject("SELECT MAX(category_id) FROM category", Long.class);
+            for (String childName : CHILD_CATEGORIES) {
+                jdbcTemplate.update("INSERT INTO category (name, display_order, is_deleted, parent_id, version) VALUES (?, ?, false, ?, 0)",
+                        parentName + "-" + childName, displayOrder++, parentId);
+                leafIds.add(jdbcTemplate.queryForObject("SELECT MAX(category_id) FROM category", Long.class));
+            }
+        }
+        return leafIds;
+    }
+
+    private IdRange seedProducts(List<Long> categoryIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= config.products(); i++) {
+            Long categoryId = categoryIds.get(i % categoryIds.size());
+            String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+            batch.add(new Object[]{categoryId, "category-" + categoryId, keyword + " 상품 " + i,
+                    10_000 + random.nextInt(90) * 1_000, "부하 테스트 상품", 1_000_000, "fitinside",
+                    new Timestamp(now.getTime() - i * 1_000L)});
+            if (batch.size() == BATCH_SIZE) {
+                insertProducts(batch);
+            }
+        }
+        insertProducts(batch);
+
+        jdbcTemplate.update("INSERT INTO product_img_urls (product_id, img_order, product_img_url) " +
+                "SELECT product_id, 0, CONCAT('https://fitinside.s3.ap-northeast-2.amazonaws.com/loadtest/', product_id, '.jpg') FROM product");
+        return idRange("product_id", "product");
+    }
+
+    private void insertProducts(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO product (category_id, category_name, product_name, price, info, product_stock, " +
+                "is_sold_out, manufacturer, created_at, is_deleted, version) VALUES (?, ?, ?, ?, ?, ?, false, ?, ?, false, 0)", batch);
+        batch.clear();
+    }
+
+    private IdRange seedMembers(String encodedPassword) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= config.members(); i++) {
+            batch.add(new Object[]{"loadtest" + i + "@fitinside.com", encodedPassword, "부하테스트" + i, "010-0000-0000", now});
+            if (batch.size() == BATCH_SIZE) {
+                insertMembers(batch);
+            }
+        }
+        insertMembers(batch);
+        return idRange("member_id", "member");
+    }
+
+    private void insertMembers(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO member (email, password, user_name, phone, authority, is_deleted, created_at) " +
+                "VALUES (?, ?, ?, ?, 'ROLE_USER', false, ?)", batch);
+        batch.clear();
+    }
+
+    private List<String> seedCoupons() {
+        List<String> codes = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        Date expiredAt = Date.valueOf(LocalDate.now().plusYears(1));
+        for (int i = 0; i < config.coupons(); i++) {
+            String code = String.format("LT%04d", i);
+            codes.add(code);
+            batch.add(new Object[]{"부하 테스트 쿠폰 " + i, code, expiredAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO coupon (coupon_name, coupon_code, coupon_type, discount_value, discount_percentage, " +
+                "minimum_purchase_amount, expired_at, active) VALUES (?, ?, 'AMOUNT', 1000, 0, 0, ?, true)", batch);
+        return codes;
+    }
+
+    private void seedCarts(IdRange productIds, IdRange memberIds) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long cartId = SEEDED_ID_BASE;
+        for (long memberId = memberIds.min(); memberId <= memberIds.max(); memberId++) {
+            for (int i = 0; i < config.cartItemsPerMember(); i++) {
+                // 회원별로 겹치지 않는 상품을 담아 장바구니 중복 예외 방지
+                long productId = productIds.min() + Math.floorMod(memberId * 31 + i * 7919L, productIds.size());
+                batch.add(new Object[]{cartId++, memberId, productId});
+                if (batch.size() == BATCH_SIZE) {
+                    insertCarts(batch);
+                }
+            }
+        }
+        insertCarts(batch);
+    }
+
+    private void insertCarts(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO cart (cart_id, member_id, product_id, quantity, version) VALUES (?, ?, ?, 1, 0)", batch);
+        batch.clear();
+    }
+
+    private IdRange idRange(String idColumn, String table) {
+        return jdbcTemplate.queryForObject("SELECT MIN(" + idColumn + "), MAX(" + idColumn + ") FROM " + table,
+                (rs, rowNum) -> new IdRange(rs.getLong(1), rs.getLong(2)));
+    }
+
+    public record IdRange(long min, long max) {
+
+        public long size() {
+            return max - min + 1;
+        }
+
+        public long pick(Random random) {
+            return min + (long) (random.nextDouble() * size());
+        }
+    }
+
+    public record SeededData(List<Long> categoryIds, IdRange productIds, IdRange memberIds, List<String> couponCodes) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.team2.fitinside.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// 엔드포인트별 응답 시간 / 상태 코드 집계
+public class EndpointStats {
+
+    private final String name;
+    private long[] latencies = new long[1 << 12];
+    private int size;
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public synchronized void record(long latencyNanos, int status) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+        statusCounts.merge(status, 1L, Long::sum);
+    }
+
+    public synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        long errors = statusCounts.entrySet().stream()
+                .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 300)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        return new Summary(name, size, errors, new TreeMap<>(statusCounts), size / seconds,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.90), percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(index, 0)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public record Summary(String endpoint, long requests, long errors, Map<Integer, Long> statusCounts,
+                          double throughputPerSecond, double p50Millis, double p90Millis, double p99Millis,
+                          double maxMillis) {
+    }
+}
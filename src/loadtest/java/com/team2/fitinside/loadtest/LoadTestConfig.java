@@ -0,0 +1,33 @@
+package com.team2.fitinside.loadtest;
+
+// 부하 테스트 설정 (-Ploadtest.xxx 로 전달된 시스템 프로퍼티)
+public record LoadTestConfig(
+        String jdbcUrl,
+        int products,
+        int members,
+        int coupons,
+        int cartItemsPerMember,
+        int users,
+        int warmupSeconds,
+        int durationSeconds,
+        long seed,
+        String reportDir) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.jdbcUrl", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1"),
+                intProperty("loadtest.products", 1_000_000),
+                intProperty("loadtest.members", 100_000),
+                intProperty("loadtest.coupons", 1_000),
+                intProperty("loadtest.cartItemsPerMember", 2),
+                intProperty("loadtest.users", 64),
+                intProperty("loadtest.warmupSeconds", 15),
+                intProperty("loadtest.durationSeconds", 60),
+                Long.getLong("loadtest.seed", 42L),
+                System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,151 @@
+package com.team2.fitinside.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.team2.fitinside.FitinsideApplication;
+import com.team2.fitinside.jwt.TokenProvider;
+import com.team2.fitinside.loadtest.DataSeeder.SeededData;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 내장 DB 로 애플리케이션을 띄우고 데이터 적재 후 스토어프론트 트래픽을 재생, 엔드포인트별 처리량과 p50/p99 를 JSON 으로 저장
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        log("설정: " + config);
+
+        try (ConfigurableApplicationContext context = start(config)) {
+            long seedStart = System.nanoTime();
+            DataSeeder seeder = new DataSeeder(context.getBean(JdbcTemplate.class), config);
+            SeededData data = seeder.seed(context.getBean(PasswordEncoder.class).encode(DataSeeder.MEMBER_PASSWORD));
+            log("데이터 적재 완료 (" + TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - seedStart) + "s): 상품 "
+                    + data.productIds().size() + ", 회원 " + data.memberIds().size() + ", 쿠폰 " + data.couponCodes().size());
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            Map<String, Object> report = run(config, context.getBean(TokenProvider.class), data, "http://localhost:" + port);
+            writeReport(config, report);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestConfig config) {
+        String secret = Base64.getEncoder().encodeToString(
+                "fitinside-load-test-secret-key-fitinside-load-test-secret-key-0123".getBytes(StandardCharsets.UTF_8));
+
+        return new SpringApplicationBuilder(FitinsideApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",   // 실행 중인 서버의 관리 포트(8081)와 겹치지 않도록
+                        "spring.datasource.url=" + config.jdbcUrl(),
+                        "fitinside.rate-limit.enabled=false",   // 부하 생성기는 한 IP 에서 익명으로 요청하므로 제한을 끔
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.com.team2.fitinside.loadtest=INFO",
+                        "jwt.secret=" + secret,
+                        "spring.security.oauth2.client.registration.google.client-id=load-test",
+                        "spring.security.oauth2.client.registration.google.client-secret=load-test",
+                        "spring.mail.password=load-test",
+                        "cloud.aws.credentials.accessKey=load-test",
+                        "cloud.aws.credentials.secretKey=load-test")
+                .run();
+    }
+
+    private static Map<String, Object> run(LoadTestConfig config, TokenProvider tokenProvider, SeededData data,
+                                           String baseUrl) throws Exception {
+        Map<Long, String> tokens = new ConcurrentHashMap<>();
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(8, config.users() / 4));
+        HttpClient client = HttpClient.newBuilder()
+                .executor(httpExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        StorefrontScenario scenario = new StorefrontScenario(client, baseUrl, data,
+                memberId -> tokens.computeIfAbsent(memberId, id -> tokenProvider.generateAccessToken(
+                        new UsernamePasswordAuthenticationToken(String.valueOf(id), "",
+                                List.of(new SimpleGrantedAuthority("ROLE_USER"))))));
+
+        ExecutorService users = Executors.newFixedThreadPool(config.users());
+        AtomicLong failures = new AtomicLong();
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        // 가상 사용자: 응답을 받으면 바로 다음 요청 (closed model)
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            Random random = new Random(config.seed() + i);
+            futures.add(users.submit(() -> {
+                while (System.nanoTime() < end) {
+                    try {
+                        scenario.runOnce(random);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        log("워밍업 " + config.warmupSeconds() + "s");
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        scenario.startRecording();
+        long measureStart = System.nanoTime();
+        log("측정 " + config.durationSeconds() + "s (가상 사용자 " + config.users() + ")");
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+        users.shutdown();
+        httpExecutor.shutdown();
+
+        List<EndpointStats.Summary> endpoints = scenario.summarize(seconds);
+        printTable(endpoints);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+        report.put("config", config);
+        report.put("measuredSeconds", seconds);
+        report.put("totalThroughputPerSecond", endpoints.stream().mapToLong(EndpointStats.Summary::requests).sum() / seconds);
+        report.put("clientFailures", failures.get());
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static void printTable(List<EndpointStats.Summary> endpoints) {
+        System.out.printf("%n%-42s %9s %7s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        for (EndpointStats.Summary summary : endpoints) {
+            System.out.printf("%-42s %9d %7d %10.1f %9.1f %9.1f %9.1f%n", summary.endpoint(), summary.requests(),
+                    summary.errors(), summary.throughputPerSecond(), summary.p50Millis(), summary.p99Millis(), summary.maxMillis());
+        }
+    }
+
+    private static void writeReport(LoadTestConfig config, Map<String, Object> report) throws Exception {
+        File dir = new File(config.reportDir());
+        dir.mkdirs();
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        objectMapper.writeValue(new File(dir, "loadtest-" + timestamp + ".json"), report);
+        objectMapper.writeValue(new File(dir, "latest.json"), report);
+        log("결과 저장: " + new File(dir, "loadtest-" + timestamp + ".json").getPath());
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+}
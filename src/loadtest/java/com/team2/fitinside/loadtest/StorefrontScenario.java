@@ -0,0 +1,167 @@
+package com.team2.fitinside.loadtest;
+
+import com.team2.fitinside.loadtest.DataSeeder.SeededData;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.LongFunction;
+
+// 스토어프론트 트래픽 비율 (조회 위주, 일부 장바구니/주문/쿠폰 등록)
+public class StorefrontScenario {
+
+    // 상세 조회의 80% 는 인기 상품(상위 HOT_PRODUCTS 개)에 집중
+    private static final int HOT_PRODUCTS = 1_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final SeededData data;
+    private final LongFunction<String> accessTokens;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    // 회원별 다음에 등록할 쿠폰 순번 (같은 쿠폰 중복 등록 방지)
+    private final AtomicIntegerArray nextCoupon;
+    private volatile boolean recording;
+
+    public StorefrontScenario(HttpClient client, String baseUrl, SeededData data, LongFunction<String> accessTokens) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.data = data;
+        this.accessTokens = accessTokens;
+        this.nextCoupon = new AtomicIntegerArray((int) data.memberIds().size());
+    }
+
+    enum Action {
+        BROWSE(35), SEARCH(20), PRODUCT_DETAIL(30), CART_ADD(8), CHECKOUT(4), COUPON_REDEEM(3);
+
+        private final int weight;
+
+        Action(int weight) {
+            this.weight = weight;
+        }
+
+        static Action pick(Random random) {
+            int total = 0;
+            for (Action action : values()) {
+                total += action.weight;
+            }
+            int roll = random.nextInt(total);
+            for (Action action : values()) {
+                roll -= action.weight;
+                if (roll < 0) {
+                    return action;
+                }
+            }
+            return BROWSE;
+        }
+    }
+
+    public void startRecording() {
+        stats.clear();
+        recording = true;
+    }
+
+    public List<EndpointStats.Summary> summarize(double seconds) {
+        return stats.values().stream()
+                .map(endpointStats -> endpointStats.summarize(seconds))
+                .sorted((a, b) -> a.endpoint().compareTo(b.endpoint()))
+                .toList();
+    }
+
+    public void runOnce(Random random) throws IOException, InterruptedException {
+        long memberId = data.memberIds().pick(random);
+        switch (Action.pick(random)) {
+            case BROWSE -> browse(random);
+            case SEARCH -> search(random);
+            case PRODUCT_DETAIL -> productDetail(random);
+            case CART_ADD -> cartAdd(random, memberId);
+            case CHECKOUT -> checkout(random, memberId);
+            case COUPON_REDEEM -> couponRedeem(memberId);
+        }
+    }
+
+    private void browse(Random random) throws IOException, InterruptedException {
+        if (random.nextBoolean()) {
+            send("GET /api/products", get("/api/products?page=" + random.nextInt(20) + "&size=9"));
+        } else {
+            Long categoryId = data.categoryIds().get(random.nextInt(data.categoryIds().size()));
+            send("GET /api/products/category/{categoryId}",
+                    get("/api/products/category/" + categoryId + "?page=" + random.nextInt(10) + "&size=9"));
+        }
+    }
+
+    private void search(Random random) throws IOException, InterruptedException {
+        String keyword = DataSeeder.KEYWORDS[random.nextInt(DataSeeder.KEYWORDS.length)];
+        send("GET /api/products?keyword", get("/api/products?page=0&size=9&keyword=" + encode(keyword)));
+    }
+
+    private void productDetail(Random random) throws IOException, InterruptedException {
+        send("GET /api/products/{id}", get("/api/products/" + pickProduct(random)));
+    }
+
+    private void cartAdd(Random random, long memberId) throws IOException, InterruptedException {
+        String body = "{\"productId\":" + pickProduct(random) + ",\"quantity\":1}";
+        send("POST /api/carts", post("/api/carts", memberId, "application/json", body));
+    }
+
+    // 장바구니 담기 후 해당 상품 주문
+    private void checkout(Random random, long memberId) throws IOException, InterruptedException {
+        long productId = pickProduct(random);
+        send("POST /api/carts (checkout)", post("/api/carts", memberId, "application/json",
+                "{\"productId\":" + productId + ",\"quantity\":1}"));
+
+        String order = "{\"postalCode\":\"06236\",\"deliveryAddress\":\"서울시 강남구 테헤란로\",\"detailedAddress\":\"1층\"," +
+                "\"deliveryReceiver\":\"부하테스트\",\"deliveryPhone\":\"010-0000-0000\",\"deliveryFee\":3000," +
+                "\"orderItems\":[{\"productId\":" + productId + ",\"quantity\":1}]}";
+        send("POST /api/order", post("/api/order", memberId, "application/json", order));
+    }
+
+    private void couponRedeem(long memberId) throws IOException, InterruptedException {
+        int index = nextCoupon.getAndIncrement((int) (memberId - data.memberIds().min()));
+        String code = data.couponCodes().get(index % data.couponCodes().size());
+        send("POST /api/coupons", post("/api/coupons", memberId, "text/plain", code));
+    }
+
+    private long pickProduct(Random random) {
+        if (random.nextInt(100) < 80) {
+            return data.productIds().min() + random.nextInt((int) Math.min(HOT_PRODUCTS, data.productIds().size()));
+        }
+        return data.productIds().pick(random);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest post(String path, long memberId, String contentType, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + accessTokens.apply(memberId))
+                .header("Content-Type", contentType + ";charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        long elapsed = System.nanoTime() - start;
+        if (recording) {
+            stats.computeIfAbsent(endpoint, EndpointStats::new).record(elapsed, response.statusCode());
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,8 @@
 package com.team2.fitinside.address.entity;
 
 import com.team2.fitinside.address.dto.AddressRequestDto;
+import com.team2.fitinside.global.id.TsidId;
+import com.team2.fitinside.global.util.HashUtils;
 import com.team2.fitinside.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -12,8 +14,15 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
+@Table(name = "address", indexes = {
+        @Index(name = "idx_address_member_default", columnList = "member_id, default_address"),
+        @Index(name = "idx_address_member_deleted_created", columnList = "member_id, is_deleted, created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_address_member_hash", columnNames = {"member_id", "address_hash"})
+})
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +31,7 @@ import java.time.LocalDateTime;
 public class Address {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "address_id")
     private Long id;
 
@@ -51,6 +60,11 @@ public class Address {
     @Column(name = "default_address", nullable = false)
     private String defaultAddress;
 
+    // 중복 배송지 판별용 해시 (수령인, 전화번호, 우편번호, 상세주소를 정규화해 SHA-256)
+    // 삭제된 배송지는 null 로 비워 같은 주소를 다시 등록할 수 있게 함
+    @Column(name = "address_hash", length = 64)
+    private String addressHash;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -68,6 +82,7 @@ public class Address {
 
     public void deleteAddress() {
         this.isDeleted = true;
+        this.addressHash = null;
     }
 
     public void updateAddress(AddressRequestDto request) {
@@ -78,6 +93,32 @@ public class Address {
         this.detailedAddress = request.getDetailedAddress();
         this.deliveryMemo = request.getDeliveryMemo();
         this.defaultAddress = request.getDefaultAddress();
+        this.addressHash = hashOf(request);
+    }
+
+    public void assignHash(String addressHash) {
+        this.addressHash = addressHash;
+    }
+
+    // 해시가 비어 있는 기존 배송지(V8 이전 데이터)는 현재 값으로 계산
+    public String currentHash() {
+        return addressHash != null ? addressHash
+                : hashOf(deliveryReceiver, deliveryPhone, postalCode, detailedAddress);
+    }
+
+    public static String hashOf(AddressRequestDto request) {
+        return hashOf(request.getDeliveryReceiver(), request.getDeliveryPhone(), request.getPostalCode(), request.getDetailedAddress());
+    }
+
+    // 공백/대소문자 차이, 전화번호의 '-' 등은 같은 주소로 취급
+    private static String hashOf(String receiver, String phone, String postalCode, String detailedAddress) {
+        String phoneDigits = phone == null ? "" : phone.replaceAll("[^0-9]", "");
+        return HashUtils.sha256Hex(String.join("|",
+                normalize(receiver), phoneDigits, normalize(postalCode), normalize(detailedAddress)));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
 
     // 기본 배송지로 설정 여부
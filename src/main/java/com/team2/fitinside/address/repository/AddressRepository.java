@@ -2,6 +2,7 @@ package com.team2.fitinside.address.repository;
 
 import com.team2.fitinside.address.entity.Address;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,4 +21,11 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
     Optional<Address> findByIdAndIsDeletedFalse(Long addressId);
 
     Optional<Address> findByMemberIdAndDefaultAddress(Long memberId, String defaultAddress);
+
+    // 기본 배송지 변경: 지정한 배송지만 Y, 기존 기본 배송지는 N (한 번의 UPDATE)
+    // 다른 회원의 배송지 id 가 넘어오면 0 건 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Address a SET a.defaultAddress = CASE WHEN a.id = :addressId THEN 'Y' ELSE 'N' END " +
+            "WHERE a.member.id = :memberId AND (a.defaultAddress = 'Y' OR a.id = :addressId)")
+    int switchDefaultAddress(@Param("memberId") Long memberId, @Param("addressId") Long addressId);
 }
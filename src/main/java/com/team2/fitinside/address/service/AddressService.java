@@ -13,11 +13,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 
 import static com.team2.fitinside.global.exception.ErrorCode.*;
 
+// 변경 작업은 회원의 배송지 목록(최대 5개)을 한 번만 읽어 중복/개수/권한 검사를 모두 처리
 @Service
 @RequiredArgsConstructor
 public class AddressService {
@@ -28,7 +31,9 @@ public class AddressService {
     private final AddressMapper addressMapper;
     private final AddressRepository addressRepository;
     private final MemberRepository memberRepository;
+    private final DefaultAddressCache defaultAddressCache;
 
+    @Transactional(readOnly = true)
     public List<AddressResponseDto> findAllAddresses() {
 
         Long loginMemberId = securityUtil.getCurrentMemberId();
@@ -37,6 +42,7 @@ public class AddressService {
         return addressMapper.toAddressResponseDtoList(addresses);
     }
 
+    @Transactional(readOnly = true)
     public AddressResponseDto findAddress(Long addressId) {
 
         Address address = addressRepository.findByIdAndIsDeletedFalse(addressId)
@@ -46,76 +52,78 @@ public class AddressService {
         return addressMapper.toAddressResponseDto(address);
     }
 
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
     public AddressResponseDto findDefaultAddress() {
-        // 회원의 전체 목록에서 isDefault = ture인 배송지 찾기
         Long loginMemberId = securityUtil.getCurrentMemberId();
-        Optional<Address> address = addressRepository.findByMemberIdAndDefaultAddress(loginMemberId, "Y");
-
-        if (address.isEmpty()) return null;
-        return addressMapper.toAddressResponseDto(address.get());
+        return defaultAddressCache.get(loginMemberId);
     }
 
     @Transactional
     public AddressResponseDto createAddress(AddressRequestDto request) {
 
         Long loginMemberId = securityUtil.getCurrentMemberId();
-        Member findMember = memberRepository.findById(loginMemberId)
-                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+        List<Address> addresses = loadAddresses(loginMemberId);
 
-        // 기본 배송지 설정
-        if (request.getDefaultAddress().equals("Y")) {
-            changeToNotDefaultAddress(); // 기존의 기본 배송지를 N으로 변경
+        // 중복된 배송지가 있으면 (기본 배송지 요청이면 기본으로만 변경하고) 반환, 없으면 저장
+        Address address = findDuplicateAddress(addresses, Address.hashOf(request));
+        if (address == null) {
+            address = saveNewAddress(loginMemberId, addresses, request);
+        }
 
-            // 중복된 배송지가 있으면 기본 배송지로 설정만 변경하고 반환
-            Address existingAddress = findDuplicateAddress(addressRepository.findAllByMemberId(loginMemberId), request);
-            if (existingAddress != null) {
-                existingAddress.checkDefault("Y");
-                return addressMapper.toAddressResponseDto(existingAddress);
-            }
+        if ("Y".equals(request.getDefaultAddress())) {
+            switchDefaultAddress(loginMemberId, address);
         }
 
-        // 중복된 배송지가 있으면 반환, 없으면 저장
-        return saveNewOrReturnExistingAddress(findMember, request);
+        defaultAddressCache.invalidate(loginMemberId);
+        return addressMapper.toAddressResponseDto(address);
     }
 
     @Transactional
     public AddressResponseDto updateAddress(Long addressId, AddressRequestDto request) {
 
-        Address address = addressRepository.findById(addressId)
-                .orElseThrow(() -> new CustomException(ADDRESS_NOT_FOUND));
-
-        checkAuthorization(address);
+        Long loginMemberId = securityUtil.getCurrentMemberId();
+        List<Address> addresses = loadAddresses(loginMemberId);
+        Address address = findOwnedAddress(addresses, addressId);
 
-        if(request.getDefaultAddress().equals("Y")){
-            changeToNotDefaultAddress();
+        // 수정한 내용이 다른 배송지와 같아지면 거절 (유니크 인덱스 위반 방지)
+        Address duplicateAddress = findDuplicateAddress(addresses, Address.hashOf(request));
+        if (duplicateAddress != null && duplicateAddress != address) {
+            throw new CustomException(DUPLICATE_ADDRESS);
         }
 
         address.updateAddress(request);
+        if ("Y".equals(request.getDefaultAddress())) {
+            switchDefaultAddress(loginMemberId, address);
+        }
+
+        defaultAddressCache.invalidate(loginMemberId);
         return addressMapper.toAddressResponseDto(address);
     }
 
     @Transactional
     public void deleteAddress(Long addressId) {
-        Address address = addressRepository.findById(addressId)
-                .orElseThrow(() -> new CustomException(ADDRESS_NOT_FOUND));
 
-        checkAuthorization(address);
+        Long loginMemberId = securityUtil.getCurrentMemberId();
+        Address address = findOwnedAddress(loadAddresses(loginMemberId), addressId);
+
         address.deleteAddress();
+        defaultAddressCache.invalidate(loginMemberId);
     }
 
     // 기존에 저장한 배송지의 기본 배송지 상태 변경
     @Transactional
     public void checkDefault(Long addressId, String isDefault) {
-        Address address = addressRepository.findById(addressId)
-                .orElseThrow(() -> new CustomException(ADDRESS_NOT_FOUND));
 
-        checkAuthorization(address);
+        Long loginMemberId = securityUtil.getCurrentMemberId();
+        Address address = findOwnedAddress(loadAddresses(loginMemberId), addressId);
 
         if (isDefault.equals("Y")) {
-            changeToNotDefaultAddress();
+            switchDefaultAddress(loginMemberId, address);
+        } else {
+            address.checkDefault("N");
         }
 
-        address.checkDefault(isDefault);
+        defaultAddressCache.invalidate(loginMemberId);
     }
 
     private void checkAuthorization(Address address) {
@@ -125,52 +133,59 @@ public class AddressService {
         }
     }
 
-    // 중복 배송지 검사: 수령인, 전화번호, 우편번호, 상세주소 중 하나라도 다르면 추가
-    private boolean isDuplicate(Address exist, AddressRequestDto request) {
-        return exist.getDeliveryReceiver().equals(request.getDeliveryReceiver()) &&
-                exist.getDeliveryPhone().equals(request.getDeliveryPhone()) &&
-                exist.getPostalCode().equals(request.getPostalCode()) &&
-                exist.getDetailedAddress().equals(request.getDetailedAddress());
-    }
-
-    // 배송지 최대 개수 검사
-    private void validateAddressLimit(Long loginMemberId) {
-        if (addressRepository.findAllByMemberId(loginMemberId).size() >= MAX_ADDRESS_LIMIT) {
-            throw new CustomException(EXCEEDED_MAX_ADDRESS_LIMIT);
+    // 회원의 배송지 목록 조회 + V8 이전에 저장되어 해시가 비어 있는 배송지는 해시 채움
+    // (기존 데이터에 이미 중복이 있으면 먼저 저장된 배송지만 해시를 가짐)
+    private List<Address> loadAddresses(Long memberId) {
+        List<Address> addresses = addressRepository.findAllByMemberId(memberId);
+
+        Set<String> hashes = new HashSet<>();
+        addresses.stream().map(Address::getAddressHash).filter(Objects::nonNull).forEach(hashes::add);
+        for (int i = addresses.size() - 1; i >= 0; i--) {
+            Address address = addresses.get(i);
+            if (address.getAddressHash() == null && hashes.add(address.currentHash())) {
+                address.assignHash(address.currentHash());
+            }
         }
+        return addresses;
     }
 
-    // 기본 배송지 설정 해제
-    private void changeToNotDefaultAddress() {
-        Long loginMemberId = securityUtil.getCurrentMemberId();
-        Optional<Address> defaultAddress = addressRepository.findByMemberIdAndDefaultAddress(loginMemberId, "Y");
-        defaultAddress.ifPresent(address -> address.checkDefault("N"));
+    // 목록에 없으면 다른 회원의 배송지인지(403), 없는 배송지인지(404) 구분
+    private Address findOwnedAddress(List<Address> addresses, Long addressId) {
+        return addresses.stream()
+                .filter(address -> address.getId().equals(addressId))
+                .findFirst()
+                .orElseThrow(() -> addressRepository.findByIdAndIsDeletedFalse(addressId).isPresent()
+                        ? new CustomException(USER_NOT_AUTHORIZED)
+                        : new CustomException(ADDRESS_NOT_FOUND));
     }
 
-    // 중복된 주소 찾기
-    private Address findDuplicateAddress(List<Address> addresses, AddressRequestDto request) {
+    // 중복 배송지 검사: 수령인, 전화번호, 우편번호, 상세주소의 정규화 해시 비교
+    private Address findDuplicateAddress(List<Address> addresses, String addressHash) {
         return addresses.stream()
-                .filter(existingAddress -> isDuplicate(existingAddress, request))
+                .filter(existingAddress -> existingAddress.currentHash().equals(addressHash))
                 .findFirst()
                 .orElse(null);
     }
 
-    // 중복된 주소가 있으면 반환, 없으면 저장
-    private AddressResponseDto saveNewOrReturnExistingAddress(Member findMember, AddressRequestDto request) {
-        // 중복된 주소가 있는지 확인
-        Address duplicateAddress = findDuplicateAddress(addressRepository.findAllByMemberId(findMember.getId()), request);
-        if (duplicateAddress != null) {
-            return addressMapper.toAddressResponseDto(duplicateAddress);
+    private Address saveNewAddress(Long memberId, List<Address> addresses, AddressRequestDto request) {
+        // 이미 존재하는 배송지가 5개면 저장X
+        if (addresses.size() >= MAX_ADDRESS_LIMIT) {
+            throw new CustomException(EXCEEDED_MAX_ADDRESS_LIMIT);
         }
 
-        // 중복된 주소가 없으면 새 주소 저장
-        validateAddressLimit(findMember.getId()); // 이미 존재하는 배송지가 5개면 저장X
+        Member findMember = memberRepository.findById(memberId)
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
         Address newAddress = addressMapper.toAddress(request);
         newAddress.setMember(findMember);
-        Address savedAddress = addressRepository.save(newAddress);
+        newAddress.assignHash(Address.hashOf(request));
 
-        return addressMapper.toAddressResponseDto(savedAddress);
+        return addressRepository.save(newAddress);
     }
 
-
+    // 기존 기본 배송지 해제 + 새 기본 배송지 설정을 UPDATE 한 번으로 처리
+    // (UPDATE 전에 변경 내용을 flush 하고 영속성 컨텍스트를 비우므로 응답용 엔티티 값만 맞춰 둠)
+    private void switchDefaultAddress(Long memberId, Address address) {
+        addressRepository.switchDefaultAddress(memberId, address.getId());
+        address.checkDefault("Y");
+    }
 }
@@ -0,0 +1,99 @@
+package com.team2.fitinside.address.service;
+
+import com.team2.fitinside.address.dto.AddressResponseDto;
+import com.team2.fitinside.address.mapper.AddressMapper;
+import com.team2.fitinside.address.repository.AddressRepository;
+import com.team2.fitinside.global.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 주문서 화면마다 호출되는 회원별 기본 배송지 캐시
+// 같은 서버의 변경은 invalidate 로 바로 반영, 다른 서버에서 변경된 경우는 ttl(수십 초) 이 지나면 반영
+// 항목마다 회원별 세대 번호를 두고, invalidate 는 세대를 올린 빈 항목(tombstone)으로 교체
+// 조회 도중 invalidate 가 끼어들면 세대가 달라지므로 읽어 온 (이미 지난) 값은 넣지 않음
+@Component
+public class DefaultAddressCache {
+
+    private final AddressRepository addressRepository;
+    private final AddressMapper addressMapper;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    // 캐시 적중률 지표 (cache.gets{cache="defaultAddress", result="hit|miss"})
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public DefaultAddressCache(AddressRepository addressRepository, AddressMapper addressMapper, MeterRegistry meterRegistry,
+                               @Value("${fitinside.address.default-cache-ttl:PT30S}") Duration ttl,
+                               @Value("${fitinside.address.default-cache-max-entries:50000}") int maxEntries) {
+        this.addressRepository = addressRepository;
+        this.addressMapper = addressMapper;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.hitCounter = cacheGets(meterRegistry, "hit");
+        this.missCounter = cacheGets(meterRegistry, "miss");
+    }
+
+    // 기본 배송지가 없으면 null (없는 경우도 캐시)
+    public AddressResponseDto get(Long memberId) {
+        long now = System.nanoTime();
+        Entry seen = entries.get(memberId);
+        if (seen != null && seen.loaded() && now - seen.stampedAt() < ttlNanos) {
+            hitCounter.increment();
+            return seen.address().orElse(null);
+        }
+
+        missCounter.increment();
+        long generation = seen == null ? 0 : seen.generation();
+        Optional<AddressResponseDto> address = addressRepository.findAllByMemberId(memberId).stream()
+                .filter(candidate -> "Y".equals(candidate.getDefaultAddress()))
+                .findFirst()
+                .map(addressMapper::toAddressResponseDto);
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        // 읽는 동안 세대가 바뀌지 않았을 때만 저장
+        entries.compute(memberId, (id, current) ->
+                (current == null ? 0 : current.generation()) == generation ? new Entry(address, now, generation) : current);
+        return address.orElse(null);
+    }
+
+    // 배송지 추가/수정/삭제 시 호출 (커밋 전에 다시 읽힌 값이 남지 않도록 커밋 이후에도 한번 더 세대를 올림)
+    public void invalidate(Long memberId) {
+        bumpGeneration(memberId);
+        AfterCommit.run(() -> bumpGeneration(memberId));
+    }
+
+    private void bumpGeneration(Long memberId) {
+        entries.compute(memberId, (id, current) ->
+                new Entry(null, System.nanoTime(), current == null ? 1 : current.generation() + 1));
+    }
+
+    // 값이 든 항목은 모두 비우고, tombstone 은 ttl 동안 남김 (진행 중인 조회가 세대 변화를 볼 수 있도록)
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.loaded() || now - entry.stampedAt() >= ttlNanos);
+    }
+
+    private static Counter cacheGets(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", "defaultAddress")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // address 가 null 이면 invalidate 로 생긴 tombstone
+    private record Entry(Optional<AddressResponseDto> address, long stampedAt, long generation) {
+
+        boolean loaded() {
+            return address != null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.team2.fitinside.banner.entity;
 
+import com.team2.fitinside.global.cache.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,6 +12,7 @@ import lombok.Builder;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(CatalogChangeListener.class)
 public class Banner {
 
     @Id
@@ -30,6 +32,11 @@ public class Banner {
     @Column(nullable = false)
     private boolean isDeleted = false;
 
+    // 낙관적 락 버전 (HTTP 캐시 ETag 계산에도 사용)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 배너의 정보를 업데이트하는 메서드
     public Banner updateDetails(String title, String imageUrl, Integer displayOrder, String targetUrl) {
         this.title = title;
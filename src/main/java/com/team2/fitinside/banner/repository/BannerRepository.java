@@ -2,20 +2,30 @@ package com.team2.fitinside.banner.repository;
 
 import com.team2.fitinside.banner.entity.Banner;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface BannerRepository extends JpaRepository<Banner, Long> {
 
-    // 삭제되지 않은 배너 목록 가져오기
-    List<Banner> findByIsDeletedFalse();
+    // 삭제되지 않은 배너 목록을 노출 순서대로 가져오기
+    List<Banner> findByIsDeletedFalseOrderByDisplayOrderAsc();
 
-    // 특정 displayOrder보다 크거나 같은 배너들을 조회 (새로운 배너를 삽입할 때 사용)
-    List<Banner> findByDisplayOrderGreaterThanEqual(Integer displayOrder);
+    // 삭제되지 않은 배너 수 (마지막 노출 순서 계산용)
+    long countByIsDeletedFalse();
 
-    // 특정 displayOrder 범위 내에 있는 배너들을 조회 (배너 순서 변경 시 사용)
-    List<Banner> findByDisplayOrderBetween(Integer startDisplayOrder, Integer endDisplayOrder);
+    // 특정 displayOrder 이상인 배너들의 순서를 한 번에 이동 (배너 추가/삭제 시 사용, 벌크 UPDATE 이므로 버전 직접 증가)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Banner b SET b.displayOrder = b.displayOrder + :delta, b.version = b.version + 1 " +
+            "WHERE b.isDeleted = false AND b.displayOrder >= :from")
+    int shiftDisplayOrderFrom(@Param("from") int from, @Param("delta") int delta);
 
-    // 특정 displayOrder보다 큰 배너들을 조회 (배너 삭제 시 사용)
-    List<Banner> findByDisplayOrderGreaterThan(Integer displayOrder);
+    // 특정 displayOrder 범위의 배너들의 순서를 한 번에 이동 (배너 순서 변경 시 사용, 변경 대상 배너 제외)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Banner b SET b.displayOrder = b.displayOrder + :delta, b.version = b.version + 1 " +
+            "WHERE b.isDeleted = false AND b.displayOrder BETWEEN :from AND :to AND b.id <> :excludeId")
+    int shiftDisplayOrderBetween(@Param("from") int from, @Param("to") int to,
+                                 @Param("delta") int delta, @Param("excludeId") Long excludeId);
 }
-
@@ -3,41 +3,54 @@ package com.team2.fitinside.banner.service;
 import com.team2.fitinside.banner.dto.BannerResponseDTO;
 import com.team2.fitinside.banner.entity.Banner;
 import com.team2.fitinside.banner.repository.BannerRepository;
+import com.team2.fitinside.global.util.AfterCommit;
+import com.team2.fitinside.product.image.ImageLifecycleManager;
 import com.team2.fitinside.product.image.S3ImageService;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.Comparator;
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class BannerService {
 
     private final BannerRepository bannerRepository;
     private final S3ImageService s3ImageService;
+    private final ImageLifecycleManager imageLifecycleManager;
+
+    // 메인 화면 배너 목록 스냅샷 (관리자 변경 시 세대를 올려 무효화, 다음 조회 시 다시 적재)
+    // 다른 서버에서 변경된 배너는 snapshot-ttl 이 지나 다시 적재할 때 반영
+    private final AtomicReference<BannerSnapshot> activeBanners = new AtomicReference<>(new BannerSnapshot(0, null, 0));
+    private final long snapshotTtlNanos;
+
+    public BannerService(BannerRepository bannerRepository, S3ImageService s3ImageService,
+                         ImageLifecycleManager imageLifecycleManager,
+                         @Value("${fitinside.banner.snapshot-ttl:PT30S}") Duration snapshotTtl) {
+        this.bannerRepository = bannerRepository;
+        this.s3ImageService = s3ImageService;
+        this.imageLifecycleManager = imageLifecycleManager;
+        this.snapshotTtlNanos = snapshotTtl.toNanos();
+    }
 
     // 배너 생성 로직
     public BannerResponseDTO createBanner(String title, Integer displayOrder, MultipartFile image, String targetUrl) {
-        String imageUrl = null;
-        if (image != null && !image.isEmpty()) {
-            imageUrl = s3ImageService.upload(image);
-        }
+        String imageUrl = uploadImage(image);
 
-        long maxDisplayOrder = bannerRepository.findByIsDeletedFalse().size() + 1;
+        long maxDisplayOrder = bannerRepository.countByIsDeletedFalse() + 1;
 
         if (displayOrder > maxDisplayOrder) {
             displayOrder = (int) maxDisplayOrder;
         }
 
-        List<Banner> bannersToUpdate = bannerRepository.findByDisplayOrderGreaterThanEqual(displayOrder);
-        bannersToUpdate.forEach(b -> b.updateDisplayOrder(b.getDisplayOrder() + 1));
-        bannerRepository.saveAll(bannersToUpdate);
+        // 뒤 순서 배너들을 UPDATE 한 번으로 한 칸씩 밀기
+        bannerRepository.shiftDisplayOrderFrom(displayOrder, 1);
 
         Banner banner = Banner.builder()
                 .title(title)
@@ -48,6 +61,7 @@ public class BannerService {
                 .build();
 
         bannerRepository.save(banner);
+        invalidateActiveBanners();
         return toResponseDTO(banner);
     }
 
@@ -57,37 +71,29 @@ public class BannerService {
                 .orElseThrow(() -> new IllegalArgumentException("Banner not found with id: " + id));
 
         Integer oldDisplayOrder = banner.getDisplayOrder();
-        long maxDisplayOrder = bannerRepository.findByIsDeletedFalse().size();
+        long maxDisplayOrder = bannerRepository.countByIsDeletedFalse();
         if (newDisplayOrder > maxDisplayOrder) {
             newDisplayOrder = (int) maxDisplayOrder;
         }
 
         if (!oldDisplayOrder.equals(newDisplayOrder)) {
-            adjustDisplayOrder(oldDisplayOrder, newDisplayOrder);
+            adjustDisplayOrder(banner.getId(), oldDisplayOrder, newDisplayOrder);
         }
 
-        String imageUrl = banner.getImageUrl();
-
-        if (image != null && !image.isEmpty()) {
-            if (banner.getImageUrl() != null) {
-                s3ImageService.deleteImageFromS3(banner.getImageUrl());
-            }
-            imageUrl = s3ImageService.upload(image);
+        // 새 이미지를 먼저 올리고 기존 이미지는 커밋 후 삭제 (업로드 실패 시 기존 이미지 유지)
+        String imageUrl = uploadImage(image);
+        if (imageUrl == null) {
+            imageUrl = banner.getImageUrl();
+        } else {
+            imageLifecycleManager.deleteAfterCommit(banner.getImageUrl());
         }
 
         String updatedTargetUrl = targetUrl != null ? targetUrl : banner.getTargetUrl();
 
-        Banner updatedBanner = Banner.builder()
-                .id(banner.getId())
-                .title(title)
-                .displayOrder(newDisplayOrder)
-                .imageUrl(imageUrl)
-                .targetUrl(updatedTargetUrl)
-                .isDeleted(banner.isDeleted())
-                .build();
-
-        bannerRepository.save(updatedBanner);
-        return toResponseDTO(updatedBanner);
+        // 영속 상태의 배너를 직접 변경 (변경 감지로 UPDATE)
+        banner.updateDetails(title, imageUrl, newDisplayOrder, updatedTargetUrl);
+        invalidateActiveBanners();
+        return toResponseDTO(banner);
     }
 
     // 배너 삭제 로직
@@ -97,34 +103,46 @@ public class BannerService {
 
         Integer currentDisplayOrder = banner.getDisplayOrder();
 
-        List<Banner> bannersToUpdate = bannerRepository.findByDisplayOrderGreaterThan(currentDisplayOrder);
-        bannersToUpdate.forEach(b -> b.updateDisplayOrder(b.getDisplayOrder() - 1));
-        bannerRepository.saveAll(bannersToUpdate);
+        imageLifecycleManager.deleteAfterCommit(banner.getImageUrl());
+        bannerRepository.delete(banner);
 
-        if (banner.getImageUrl() != null) {
-            s3ImageService.deleteImageFromS3(banner.getImageUrl());
+        // 삭제된 배너 뒤 순서를 UPDATE 한 번으로 한 칸씩 당기기 (flushAutomatically 로 삭제가 먼저 반영됨)
+        bannerRepository.shiftDisplayOrderFrom(currentDisplayOrder + 1, -1);
+        invalidateActiveBanners();
+    }
+
+    // 저장이 롤백되면 올린 이미지도 삭제
+    private String uploadImage(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            return null;
         }
-        bannerRepository.delete(banner);
+        String imageUrl = s3ImageService.upload(image);
+        imageLifecycleManager.discardOnRollback(imageUrl);
+        return imageUrl;
     }
 
-    private void adjustDisplayOrder(Integer oldOrder, Integer newOrder) {
+    private void adjustDisplayOrder(Long bannerId, Integer oldOrder, Integer newOrder) {
         if (newOrder > oldOrder) {
-            List<Banner> bannersToMoveUp = bannerRepository.findByDisplayOrderBetween(oldOrder + 1, newOrder);
-            bannersToMoveUp.forEach(b -> b.updateDisplayOrder(b.getDisplayOrder() - 1));
-            bannerRepository.saveAll(bannersToMoveUp);
+            bannerRepository.shiftDisplayOrderBetween(oldOrder + 1, newOrder, -1, bannerId);
         } else if (newOrder < oldOrder) {
-            List<Banner> bannersToMoveDown = bannerRepository.findByDisplayOrderBetween(newOrder, oldOrder - 1);
-            bannersToMoveDown.forEach(b -> b.updateDisplayOrder(b.getDisplayOrder() + 1));
-            bannerRepository.saveAll(bannersToMoveDown);
+            bannerRepository.shiftDisplayOrderBetween(newOrder, oldOrder - 1, 1, bannerId);
         }
     }
 
-    @Transactional(readOnly = true)
+    // 메인 화면 배너 목록 (스냅샷이 있으면 DB 조회/트랜잭션 없이 반환)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<BannerResponseDTO> getAllBanners() {
-        return bannerRepository.findByIsDeletedFalse().stream()
-                .sorted(Comparator.comparingInt(Banner::getDisplayOrder))
+        BannerSnapshot seen = activeBanners.get();
+        long now = System.nanoTime();
+        if (seen.banners() != null && now - seen.loadedAt() < snapshotTtlNanos) {
+            return seen.banners();
+        }
+        List<BannerResponseDTO> banners = bannerRepository.findByIsDeletedFalseOrderByDisplayOrderAsc().stream()
                 .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+                .toList();
+        // 조회하는 동안 무효화되지 않았을 때만 스냅샷으로 저장 (무효화되었으면 이번 응답에만 사용)
+        activeBanners.compareAndSet(seen, new BannerSnapshot(seen.generation(), banners, now));
+        return banners;
     }
 
     @Transactional(readOnly = true)
@@ -134,6 +152,16 @@ public class BannerService {
         return toResponseDTO(banner);
     }
 
+    // 커밋 이후 다시 한번 비워 커밋 전 데이터로 다시 적재된 스냅샷이 남지 않도록 처리
+    private void invalidateActiveBanners() {
+        bumpGeneration();
+        AfterCommit.run(this::bumpGeneration);
+    }
+
+    private void bumpGeneration() {
+        activeBanners.updateAndGet(snapshot -> new BannerSnapshot(snapshot.generation() + 1, null, 0));
+    }
+
     private BannerResponseDTO toResponseDTO(Banner banner) {
         return BannerResponseDTO.builder()
                 .id(banner.getId())
@@ -143,4 +171,8 @@ public class BannerService {
                 .targetUrl(banner.getTargetUrl() != null ? banner.getTargetUrl() : "")
                 .build();
     }
+
+    // banners 가 null 이면 무효화된 상태, loadedAt 은 목록을 읽기 시작한 시각 (System.nanoTime)
+    private record BannerSnapshot(long generation, List<BannerResponseDTO> banners, long loadedAt) {
+    }
 }
@@ -1,5 +1,6 @@
 package com.team2.fitinside.cart.entity;
 
+import com.team2.fitinside.global.id.TsidId;
 import com.team2.fitinside.member.entity.Member;
 import com.team2.fitinside.product.entity.Product;
 import jakarta.persistence.*;
@@ -8,12 +9,16 @@ import jakarta.validation.constraints.Min;
 import lombok.*;
 
 @Entity
+@Table(name = "cart", indexes = {
+        @Index(name = "idx_cart_member_product", columnList = "member_id, product_id")
+})
 @Getter @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Cart {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 여러 건을 한 번에 INSERT 할 수 있도록 id 를 미리 할당
+    @Id @TsidId
     @Column(name = "cart_id")
     private Long id;
 
@@ -31,6 +36,11 @@ public class Cart {
     @Column(nullable = false)
     private int quantity;
 
+    // 낙관적 락 버전 (수량 변경과 주문 시 삭제가 겹치면 충돌로 감지)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public void setUserAndProduct(Member member, Product product) {
         this.member = member;
         this.product = product;
@@ -7,6 +7,7 @@ import com.team2.fitinside.cart.repository.CartRepository;
 import com.team2.fitinside.config.SecurityUtil;
 import com.team2.fitinside.global.exception.CustomException;
 import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.global.retry.RetryOnConflict;
 import com.team2.fitinside.member.entity.Member;
 import com.team2.fitinside.member.repository.MemberRepository;
 import com.team2.fitinside.product.entity.Product;
@@ -30,6 +31,7 @@ public class CartService {
     private final SecurityUtil securityUtil;
 
     // 장바구니 조회 메서드
+    @Transactional(readOnly = true)
     public CartResponseWrapperDto findAllCarts() {
 
         // member의 id 가져옴 + 권한검사
@@ -72,6 +74,7 @@ public class CartService {
     }
 
     // 장바구니 수정 메서드
+    @RetryOnConflict
     @Transactional
     public Long updateCart(CartUpdateRequestDto dto) {
 
@@ -89,6 +92,7 @@ public class CartService {
     }
 
     // 장바구니 단일 삭제 메서드
+    @RetryOnConflict
     @Transactional
     public Long deleteCart(Long productId) {
 
@@ -2,6 +2,7 @@ package com.team2.fitinside.category.controller;
 
 import com.team2.fitinside.category.dto.CategoryResponseDTO;
 import com.team2.fitinside.category.service.CategoryService;
+import com.team2.fitinside.global.metrics.QueryBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +17,7 @@ public class CategoryController {
     private final CategoryService categoryService;
 
     // 모든 카테고리 조회
+    @QueryBudget(2)
     @GetMapping
     public ResponseEntity<List<CategoryResponseDTO>> getAllCategories() {
         return ResponseEntity.ok(categoryService.getAllCategories());
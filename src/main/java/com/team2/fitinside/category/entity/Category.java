@@ -1,5 +1,6 @@
 package com.team2.fitinside.category.entity;
-import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.team2.fitinside.global.cache.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,6 +12,7 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Builder
+@EntityListeners(CatalogChangeListener.class)
 public class Category {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -31,17 +33,22 @@ public class Category {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
-    @JsonManagedReference // 순환 참조 방지
+    @JsonIgnore // 직렬화 시 부모/자식 순환 탐색 방지 (응답은 DTO 사용)
     private Category parent;
 
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
-    @JsonManagedReference // 순환 참조 방지
+    @JsonIgnore
     private List<Category> children = new ArrayList<>();
 
     // 이미지 URL 필드 추가
     @Column(name = "image_url")
     private String imageUrl;
 
+    // 낙관적 락 버전 (HTTP 캐시 ETag 계산에도 사용)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 삭제 시 isDeleted를 true로 설정하는 메서드
     public void delete() {
         this.isDeleted = true;
@@ -55,6 +62,15 @@ public class Category {
         this.mainDisplayOrder = mainDisplayOrder; // null일 경우에도 업데이트되도록 설정
     }
 
+    // 정렬 키 재배치 시 사용
+    public void updateDisplayOrder(Long displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    public void updateMainDisplayOrder(Long mainDisplayOrder) {
+        this.mainDisplayOrder = mainDisplayOrder;
+    }
+
     // 하위 카테고리를 추가하는 메서드
     public void addChildCategory(Category child) {
         child.parent = this;
@@ -9,14 +9,19 @@ public class CategoryMapper {
 
     // Category -> CategoryCreateRequestDTO 변환
     public static CategoryCreateRequestDTO toCreateDTO(Category category) {
+        return category == null ? null : toCreateDTO(category, category.getDisplayOrder(), category.getMainDisplayOrder());
+    }
+
+    // 저장된 정렬 키 대신 노출 순서(1부터)를 담아 변환
+    public static CategoryCreateRequestDTO toCreateDTO(Category category, Long displayOrder, Long mainDisplayOrder) {
         if (category == null) {
             return null;
         }
 
         return CategoryCreateRequestDTO.builder()
                 .name(category.getName())
-                .displayOrder(category.getDisplayOrder())
-                .mainDisplayOrder(category.getMainDisplayOrder())
+                .displayOrder(displayOrder)
+                .mainDisplayOrder(mainDisplayOrder)
                 .isDeleted(category.getIsDeleted())
                 .parentId(getParentId(category))
                 .imageUrl(category.getImageUrl()) // 이미지 URL 추가
@@ -25,6 +30,11 @@ public class CategoryMapper {
 
     // Category -> CategoryUpdateRequestDTO 변환
     public static CategoryUpdateRequestDTO toUpdateDTO(Category category) {
+        return category == null ? null : toUpdateDTO(category, category.getDisplayOrder(), category.getMainDisplayOrder());
+    }
+
+    // 저장된 정렬 키 대신 노출 순서(1부터)를 담아 변환
+    public static CategoryUpdateRequestDTO toUpdateDTO(Category category, Long displayOrder, Long mainDisplayOrder) {
         if (category == null) {
             return null;
         }
@@ -32,8 +42,8 @@ public class CategoryMapper {
         return CategoryUpdateRequestDTO.builder()
                 .id(category.getId())
                 .name(category.getName())
-                .displayOrder(category.getDisplayOrder())
-                .mainDisplayOrder(category.getMainDisplayOrder())
+                .displayOrder(displayOrder)
+                .mainDisplayOrder(mainDisplayOrder)
                 .isDeleted(category.getIsDeleted())
                 .parentId(getParentId(category))
                 .imageUrl(category.getImageUrl()) // 이미지 URL 추가
@@ -42,6 +52,11 @@ public class CategoryMapper {
 
     // Category -> CategoryResponseDTO 변환
     public static CategoryResponseDTO toResponseDTO(Category category) {
+        return category == null ? null : toResponseDTO(category, category.getDisplayOrder(), category.getMainDisplayOrder());
+    }
+
+    // 저장된 정렬 키 대신 노출 순서(1부터)를 담아 변환
+    public static CategoryResponseDTO toResponseDTO(Category category, Long displayOrder, Long mainDisplayOrder) {
         if (category == null) {
             return null;
         }
@@ -49,8 +64,8 @@ public class CategoryMapper {
         return CategoryResponseDTO.builder()
                 .id(category.getId())
                 .name(category.getName())
-                .displayOrder(category.getDisplayOrder())
-                .mainDisplayOrder(category.getMainDisplayOrder())
+                .displayOrder(displayOrder)
+                .mainDisplayOrder(mainDisplayOrder)
                 .isDeleted(category.getIsDeleted())
                 .parentId(getParentId(category))
                 .imageUrl(category.getImageUrl()) // 이미지 URL 추가
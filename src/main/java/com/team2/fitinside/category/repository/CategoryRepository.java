@@ -1,9 +1,8 @@
 package com.team2.fitinside.category.repository;
 
 import com.team2.fitinside.category.entity.Category;
-import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,42 +17,38 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     Optional<Category> findByIdAndIsDeletedFalse(Long id);
 
-    List<Category> findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrder();
+    List<Category> findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrderAscIdAsc();
 
-    List<Category> findAllByIsDeletedFalseAndParentIdOrderByDisplayOrder(Long parentId);
+    List<Category> findAllByIsDeletedFalseAndParentIdOrderByDisplayOrderAscIdAsc(Long parentId);
 
-    List<Category> findAllByIsDeletedFalseAndMainDisplayOrderNotNullOrderByMainDisplayOrder();
+    List<Category> findAllByIsDeletedFalseAndMainDisplayOrderNotNullOrderByMainDisplayOrderAscIdAsc();
 
     Optional<Category> findByNameAndIsDeletedFalse(String name);
 
-    @Modifying
-    @Transactional
-    @Query("UPDATE Category c SET c.displayOrder = c.displayOrder - 1 WHERE c.displayOrder BETWEEN :startOrder AND :endOrder AND c.parent IS NULL")
-    void decrementDisplayOrderForParentCategories(@Param("startOrder") Long startOrder, @Param("endOrder") Long endOrder);
-
-    @Modifying
-    @Transactional
-    @Query("UPDATE Category c SET c.displayOrder = c.displayOrder + 1 WHERE c.displayOrder BETWEEN :startOrder AND :endOrder AND c.parent IS NULL")
-    void incrementDisplayOrderForParentCategories(@Param("startOrder") Long startOrder, @Param("endOrder") Long endOrder);
-
-    @Modifying
-    @Transactional
-    @Query("UPDATE Category c SET c.displayOrder = c.displayOrder - 1 WHERE c.displayOrder BETWEEN :startOrder AND :endOrder AND c.parent.id = :parentId")
-    void decrementDisplayOrderForChildCategories(@Param("startOrder") Long startOrder, @Param("endOrder") Long endOrder, @Param("parentId") Long parentId);
-
-    @Modifying
-    @Transactional
-    @Query("UPDATE Category c SET c.displayOrder = c.displayOrder + 1 WHERE c.displayOrder BETWEEN :startOrder AND :endOrder AND c.parent.id = :parentId")
-    void incrementDisplayOrderForChildCategories(@Param("startOrder") Long startOrder, @Param("endOrder") Long endOrder, @Param("parentId") Long parentId);
-
-    @Modifying
-    @Transactional
-    @Query("UPDATE Category c SET c.mainDisplayOrder = c.mainDisplayOrder - 1 WHERE c.mainDisplayOrder BETWEEN :startOrder AND :endOrder")
-    void decrementMainDisplayOrder(@Param("startOrder") Long startOrder, @Param("endOrder") Long endOrder);
-
-    @Modifying
-    @Transactional
-    @Query("UPDATE Category c SET c.mainDisplayOrder = c.mainDisplayOrder + 1 WHERE c.mainDisplayOrder BETWEEN :startOrder AND :endOrder")
-    void incrementMainDisplayOrder(@Param("startOrder") Long startOrder, @Param("endOrder") Long endOrder);
-}
+    // 노출 순서 최대값 계산용 (목록 전체를 조회하지 않음)
+    long countByIsDeletedFalseAndParentIsNull();
+
+    long countByIsDeletedFalseAndParentId(Long parentId);
+
+    long countByIsDeletedFalseAndMainDisplayOrderNotNull();
+
+    // 하위 카테고리가 있는 부모 id 목록 (정렬 키 재배치 대상)
+    @Query("SELECT DISTINCT c.parent.id FROM Category c WHERE c.isDeleted = false AND c.parent IS NOT NULL")
+    List<Long> findParentIdsWithChildren();
 
+    // 정렬 키 조회 (PageRequest.of(n, 1) 로 n 번째 키 하나만 조회, 이동 중인 카테고리는 제외)
+    @Query("SELECT c.displayOrder FROM Category c " +
+            "WHERE c.isDeleted = false AND c.parent IS NULL AND (:excludeId IS NULL OR c.id <> :excludeId) " +
+            "ORDER BY c.displayOrder ASC, c.id ASC")
+    List<Long> findParentDisplayOrderKeys(@Param("excludeId") Long excludeId, Pageable pageable);
+
+    @Query("SELECT c.displayOrder FROM Category c " +
+            "WHERE c.isDeleted = false AND c.parent.id = :parentId AND (:excludeId IS NULL OR c.id <> :excludeId) " +
+            "ORDER BY c.displayOrder ASC, c.id ASC")
+    List<Long> findChildDisplayOrderKeys(@Param("parentId") Long parentId, @Param("excludeId") Long excludeId, Pageable pageable);
+
+    @Query("SELECT c.mainDisplayOrder FROM Category c " +
+            "WHERE c.isDeleted = false AND c.mainDisplayOrder IS NOT NULL AND (:excludeId IS NULL OR c.id <> :excludeId) " +
+            "ORDER BY c.mainDisplayOrder ASC, c.id ASC")
+    List<Long> findMainDisplayOrderKeys(@Param("excludeId") Long excludeId, Pageable pageable);
+}
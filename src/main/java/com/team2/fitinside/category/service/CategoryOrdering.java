@@ -0,0 +1,148 @@
+package com.team2.fitinside.category.service;
+
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+// 카테고리 노출 순서 정렬 키 관리
+// displayOrder / mainDisplayOrder 에는 GAP 간격의 정렬 키를 저장하고, 이동 시 앞뒤 키의 중간값을 부여해 한 행만 수정
+// 중간값을 만들 수 없을 만큼 간격이 줄어들면 해당 그룹만 다시 GAP 간격으로 재배치
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryOrdering {
+
+    static final long GAP = 1024;
+
+    // 인접 키 간격이 이보다 작으면 백그라운드 재배치 대상
+    static final long MIN_GAP = 16;
+
+    private static final long NO_ROOM = -1;
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryTreeCache categoryTreeCache;
+
+    // 같은 부모 아래 position 번째(1부터)에 위치하도록 하는 displayOrder 키
+    public long displayOrderKeyAt(Long parentId, Long excludeId, long position) {
+        LongFunction<List<Long>> keyAt = parentId == null
+                ? offset -> categoryRepository.findParentDisplayOrderKeys(excludeId, PageRequest.of((int) offset, 1))
+                : offset -> categoryRepository.findChildDisplayOrderKeys(parentId, excludeId, PageRequest.of((int) offset, 1));
+
+        long key = keyAt(keyAt, position);
+        if (key == NO_ROOM) {
+            rebalanceDisplayOrder(parentId);
+            key = keyAt(keyAt, position);
+        }
+        return key;
+    }
+
+    // 메인 화면에서 position 번째(1부터)에 위치하도록 하는 mainDisplayOrder 키
+    public long mainDisplayOrderKeyAt(Long excludeId, long position) {
+        LongFunction<List<Long>> keyAt =
+                offset -> categoryRepository.findMainDisplayOrderKeys(excludeId, PageRequest.of((int) offset, 1));
+
+        long key = keyAt(keyAt, position);
+        if (key == NO_ROOM) {
+            rebalanceMainDisplayOrder();
+            key = keyAt(keyAt, position);
+        }
+        return key;
+    }
+
+    // 간격이 좁아진 그룹을 미리 재배치 (관리자 요청 중 재배치가 일어나지 않도록)
+    @Transactional
+    @Scheduled(fixedDelayString = "${fitinside.category.rebalance-interval:PT10M}", initialDelayString = "${fitinside.category.rebalance-interval:PT10M}")
+    public void rebalanceExhaustedGroups() {
+        int rebalanced = 0;
+        if (needsRebalance(categoryRepository.findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrderAscIdAsc(), Category::getDisplayOrder)) {
+            rebalanceDisplayOrder(null);
+            rebalanced++;
+        }
+        for (Long parentId : categoryRepository.findParentIdsWithChildren()) {
+            if (needsRebalance(categoryRepository.findAllByIsDeletedFalseAndParentIdOrderByDisplayOrderAscIdAsc(parentId), Category::getDisplayOrder)) {
+                rebalanceDisplayOrder(parentId);
+                rebalanced++;
+            }
+        }
+        if (needsRebalance(categoryRepository.findAllByIsDeletedFalseAndMainDisplayOrderNotNullOrderByMainDisplayOrderAscIdAsc(), Category::getMainDisplayOrder)) {
+            rebalanceMainDisplayOrder();
+            rebalanced++;
+        }
+        if (rebalanced > 0) {
+            log.info("카테고리 정렬 키 재배치: {}개 그룹", rebalanced);
+        }
+    }
+
+    void rebalanceDisplayOrder(Long parentId) {
+        List<Category> siblings = parentId == null
+                ? categoryRepository.findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrderAscIdAsc()
+                : categoryRepository.findAllByIsDeletedFalseAndParentIdOrderByDisplayOrderAscIdAsc(parentId);
+        respace(siblings, Category::updateDisplayOrder);
+    }
+
+    void rebalanceMainDisplayOrder() {
+        respace(categoryRepository.findAllByIsDeletedFalseAndMainDisplayOrderNotNullOrderByMainDisplayOrderAscIdAsc(),
+                Category::updateMainDisplayOrder);
+    }
+
+    private void respace(List<Category> categories, BiConsumer<Category, Long> updateKey) {
+        for (int i = 0; i < categories.size(); i++) {
+            updateKey.accept(categories.get(i), (i + 1) * GAP);
+        }
+        categoryTreeCache.invalidate();
+    }
+
+    // position 번째 자리의 앞(position - 1 번째)과 뒤(현재 position 번째) 키 사이 값
+    private long keyAt(LongFunction<List<Long>> keyAt, long position) {
+        Long prev = null;
+        if (position > 1) {
+            List<Long> keys = keyAt.apply(position - 2);
+            if (!keys.isEmpty()) {
+                if (keys.get(0) == null) {
+                    return NO_ROOM;
+                }
+                prev = keys.get(0);
+            }
+        }
+
+        List<Long> keys = keyAt.apply(position - 1);
+        if (!keys.isEmpty() && keys.get(0) == null) {
+            return NO_ROOM;
+        }
+        Long next = keys.isEmpty() ? null : keys.get(0);
+        return keyBetween(prev, next);
+    }
+
+    static long keyBetween(Long prev, Long next) {
+        long lower = prev != null ? prev : 0;
+        if (next == null) {
+            return lower + GAP;
+        }
+        if (next - lower < 2) {
+            return NO_ROOM;
+        }
+        return lower + (next - lower) / 2;
+    }
+
+    private boolean needsRebalance(List<Category> categories, Function<Category, Long> key) {
+        long prev = 0;
+        for (Category category : categories) {
+            Long current = key.apply(category);
+            if (current == null || current - prev < MIN_GAP) {
+                return true;
+            }
+            prev = current;
+        }
+        return false;
+    }
+}
@@ -7,6 +7,7 @@ import com.team2.fitinside.category.mapper.CategoryMapper;
 import com.team2.fitinside.category.entity.Category;
 import com.team2.fitinside.category.repository.CategoryRepository;
 import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.product.image.ImageLifecycleManager;
 import com.team2.fitinside.product.image.S3ImageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,68 +26,59 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final S3ImageService s3ImageService;
+    private final ImageLifecycleManager imageLifecycleManager;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryOrdering categoryOrdering;
 
     public List<CategoryResponseDTO> getAllCategories() {
         return categoryRepository.findAllByIsDeletedFalse()
                 .stream()
-                .map(CategoryMapper::toResponseDTO)
+                .map(this::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     public List<CategoryResponseDTO> getParentCategories() {
-        return categoryRepository.findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrder()
+        return categoryRepository.findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrderAscIdAsc()
                 .stream()
-                .map(CategoryMapper::toResponseDTO)
+                .map(this::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     public List<CategoryResponseDTO> getChildCategories(Long parentId) {
-        return categoryRepository.findAllByIsDeletedFalseAndParentIdOrderByDisplayOrder(parentId)
+        return categoryRepository.findAllByIsDeletedFalseAndParentIdOrderByDisplayOrderAscIdAsc(parentId)
                 .stream()
-                .map(CategoryMapper::toResponseDTO)
+                .map(this::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     public CategoryResponseDTO getCategoryById(Long id) {
         Category category = categoryRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
-        return CategoryMapper.toResponseDTO(category);
+        return toResponseDTO(category);
     }
 
     public List<CategoryResponseDTO> getMainDisplayCategories() {
-        return categoryRepository.findAllByIsDeletedFalseAndMainDisplayOrderNotNullOrderByMainDisplayOrder()
+        return categoryRepository.findAllByIsDeletedFalseAndMainDisplayOrderNotNullOrderByMainDisplayOrderAscIdAsc()
                 .stream()
-                .map(CategoryMapper::toResponseDTO)
+                .map(this::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     //================================================================
     // 카테고리 생성
+    // displayOrder, mainDisplayOrder 는 노출 순서(1부터)로 받아 정렬 키로 변환해 저장 (다른 카테고리는 수정하지 않음)
     public CategoryCreateRequestDTO createCategory(String name, Long displayOrder, Long mainDisplayOrder, Boolean isDeleted, Long parentId, MultipartFile imageFile) {
-        // 부모 카테고리 수에 따라 displayOrder 조정
-        long maxDisplayOrder = parentId == null ?
-                categoryRepository.findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrder().size() + 1 :
-                categoryRepository.findAllByIsDeletedFalseAndParentIdOrderByDisplayOrder(parentId).size() + 1;
-
-        if (displayOrder > maxDisplayOrder) {
-            displayOrder = maxDisplayOrder;
-        }
-
-        // 전체 카테고리의 mainDisplayOrder 최대 값 계산
-        long maxMainDisplayOrder = categoryRepository.findAllByIsDeletedFalseAndMainDisplayOrderNotNullOrderByMainDisplayOrder().size() + 1;
-        if (mainDisplayOrder != null && mainDisplayOrder > maxMainDisplayOrder) {
-            mainDisplayOrder = maxMainDisplayOrder;
-        }
-
-        // displayOrder와 mainDisplayOrder 조정
-        if (parentId == null) {
-            categoryRepository.incrementDisplayOrderForParentCategories(displayOrder, Long.MAX_VALUE);
-        } else {
-            categoryRepository.incrementDisplayOrderForChildCategories(displayOrder, Long.MAX_VALUE, parentId);
-        }
+        // 같은 부모 아래 카테고리 수에 따라 displayOrder 조정
+        long maxDisplayOrder = countSiblings(parentId) + 1;
+        long displayPosition = clampPosition(displayOrder, maxDisplayOrder);
 
+        // 메인 노출 카테고리 수에 따라 mainDisplayOrder 조정
+        Long mainDisplayPosition = null;
+        Long mainDisplayKey = null;
         if (mainDisplayOrder != null) {
-            adjustMainDisplayOrder(null, mainDisplayOrder);
+            long maxMainDisplayOrder = categoryRepository.countByIsDeletedFalseAndMainDisplayOrderNotNull() + 1;
+            mainDisplayPosition = clampPosition(mainDisplayOrder, maxMainDisplayOrder);
+            mainDisplayKey = categoryOrdering.mainDisplayOrderKeyAt(null, mainDisplayPosition);
         }
 
         String imageUrl = uploadImageToS3(imageFile);
@@ -94,14 +86,15 @@ public class CategoryService {
 
         Category category = Category.builder()
                 .name(name)
-                .displayOrder(displayOrder)
-                .mainDisplayOrder(mainDisplayOrder)
+                .displayOrder(categoryOrdering.displayOrderKeyAt(parentId, null, displayPosition))
+                .mainDisplayOrder(mainDisplayKey)
                 .parent(parentCategory)
                 .isDeleted(isDeleted != null ? isDeleted : false)
                 .imageUrl(imageUrl)
                 .build();
 
-        return CategoryMapper.toCreateDTO(categoryRepository.save(category));
+        categoryTreeCache.invalidate();
+        return CategoryMapper.toCreateDTO(categoryRepository.save(category), displayPosition, mainDisplayPosition);
     }
 
     // 카테고리 수정
@@ -111,98 +104,68 @@ public class CategoryService {
         Category category = categoryRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 
-        // 부모 카테고리의 최대 displayOrder 값 계산
-        Long maxDisplayOrder = category.getParent() == null ?
-                (long) categoryRepository.findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrder().size() :
-                (long) categoryRepository.findAllByIsDeletedFalseAndParentIdOrderByDisplayOrder(category.getParent().getId()).size();
+        Long oldParentId = category.getParent() != null ? category.getParent().getId() : null;
+        boolean sameParent = Objects.equals(oldParentId, parentId);
 
-        Long oldDisplayOrder = category.getDisplayOrder();
-        Long newDisplayOrder = displayOrder;
+        // 같은 부모 아래 최대 displayOrder 계산 (부모가 바뀌면 새 부모의 마지막 다음 자리까지 허용)
+        long maxDisplayOrder = countSiblings(parentId) + (sameParent ? 0 : 1);
+        long newDisplayPosition = clampPosition(displayOrder, maxDisplayOrder);
 
-        // 새로운 displayOrder가 최대치를 넘으면 자동 조정
-        if (newDisplayOrder > maxDisplayOrder) {
-            newDisplayOrder = maxDisplayOrder;
+        // 순서가 바뀐 경우에만 새 정렬 키 부여 (수정 대상 한 행만 변경)
+        Long displayKey = category.getDisplayOrder();
+        if (!sameParent || !Objects.equals(categoryTreeCache.displayRank(id), newDisplayPosition)) {
+            displayKey = categoryOrdering.displayOrderKeyAt(parentId, id, newDisplayPosition);
         }
 
         // mainDisplayOrder 최대 값 계산
-        Long maxMainDisplayOrder = (long) categoryRepository.findAllByIsDeletedFalseAndMainDisplayOrderNotNullOrderByMainDisplayOrder().size();
-        Long oldMainDisplayOrder = category.getMainDisplayOrder();
-        Long newMainDisplayOrder = mainDisplayOrder;
-
-        if (newMainDisplayOrder != null && newMainDisplayOrder > maxMainDisplayOrder) {
-            newMainDisplayOrder = maxMainDisplayOrder;
-        }
+        Long newMainDisplayPosition = null;
+        Long mainDisplayKey = null;
+        if (mainDisplayOrder != null) {
+            long maxMainDisplayOrder = categoryRepository.countByIsDeletedFalseAndMainDisplayOrderNotNull()
+                    + (category.getMainDisplayOrder() == null ? 1 : 0);
+            newMainDisplayPosition = clampPosition(mainDisplayOrder, maxMainDisplayOrder);
 
-        // displayOrder와 mainDisplayOrder 값 조정
-        if (!oldDisplayOrder.equals(newDisplayOrder)) {
-            if (category.getParent() == null) {
-                adjustDisplayOrderForParentCategories(oldDisplayOrder, newDisplayOrder);
-            } else {
-                adjustDisplayOrderForChildCategories(oldDisplayOrder, newDisplayOrder, category.getParent().getId());
+            mainDisplayKey = category.getMainDisplayOrder();
+            if (mainDisplayKey == null || !Objects.equals(categoryTreeCache.mainDisplayRank(id), newMainDisplayPosition)) {
+                mainDisplayKey = categoryOrdering.mainDisplayOrderKeyAt(id, newMainDisplayPosition);
             }
         }
 
-        if (!Objects.equals(oldMainDisplayOrder, newMainDisplayOrder)) {
-            adjustMainDisplayOrder(oldMainDisplayOrder, newMainDisplayOrder);
-        }
-
         String imageUrl = updateCategoryImage(category, imageFile);
 
         // Category의 update 메서드를 통해 값 업데이트
-        category.updateCategory(name, newDisplayOrder, getParentCategory(parentId), imageUrl, newMainDisplayOrder);
+        category.updateCategory(name, displayKey, getParentCategory(parentId), imageUrl, mainDisplayKey);
 
-        return CategoryMapper.toUpdateDTO(categoryRepository.save(category));
+        categoryTreeCache.invalidate();
+        return CategoryMapper.toUpdateDTO(categoryRepository.save(category), newDisplayPosition, newMainDisplayPosition);
     }
 
     //=================================================================
-    // 카테고리 삭제
+    // 카테고리 삭제 (정렬 키는 빈 자리로 남으므로 다른 카테고리 순서 조정 불필요)
     public void deleteCategory(Long id) {
         Category category = categoryRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 
-        if (category.getParent() == null) {
-            categoryRepository.decrementDisplayOrderForParentCategories(category.getDisplayOrder(), Long.MAX_VALUE);
-        } else {
-            categoryRepository.decrementDisplayOrderForChildCategories(category.getDisplayOrder(), Long.MAX_VALUE, category.getParent().getId());
-        }
-
-        if (category.getMainDisplayOrder() != null) {
-            adjustMainDisplayOrder(category.getMainDisplayOrder(), null);
-        }
-
         category.delete();
+        categoryTreeCache.invalidate();
     }
 
     //==================================================================
-    private void adjustDisplayOrderForParentCategories(Long oldOrder, Long newOrder) {
-        if (newOrder > oldOrder) {
-            categoryRepository.decrementDisplayOrderForParentCategories(oldOrder + 1, newOrder);
-        } else {
-            categoryRepository.incrementDisplayOrderForParentCategories(newOrder, oldOrder - 1);
-        }
+    private long countSiblings(Long parentId) {
+        return parentId == null ?
+                categoryRepository.countByIsDeletedFalseAndParentIsNull() :
+                categoryRepository.countByIsDeletedFalseAndParentId(parentId);
     }
 
-    private void adjustDisplayOrderForChildCategories(Long oldOrder, Long newOrder, Long parentId) {
-        if (newOrder > oldOrder) {
-            categoryRepository.decrementDisplayOrderForChildCategories(oldOrder + 1, newOrder, parentId);
-        } else {
-            categoryRepository.incrementDisplayOrderForChildCategories(newOrder, oldOrder - 1, parentId);
-        }
+    private long clampPosition(Long position, long maxPosition) {
+        return Math.max(1, Math.min(position, maxPosition));
     }
 
-    //================================================================
-    private void adjustMainDisplayOrder(Long oldOrder, Long newOrder) {
-        if (newOrder == null && oldOrder != null) {
-            categoryRepository.decrementMainDisplayOrder(oldOrder, Long.MAX_VALUE);
-        } else if (newOrder != null) {
-            if (oldOrder == null) {
-                categoryRepository.incrementMainDisplayOrder(newOrder, Long.MAX_VALUE);
-            } else if (newOrder > oldOrder) {
-                categoryRepository.decrementMainDisplayOrder(oldOrder + 1, newOrder); // 범위 재확인
-            } else if (newOrder < oldOrder) {
-                categoryRepository.incrementMainDisplayOrder(newOrder, oldOrder - 1);
-            }
-        }
+    // 저장된 정렬 키 대신 노출 순서로 응답
+    private CategoryResponseDTO toResponseDTO(Category category) {
+        return CategoryMapper.toResponseDTO(category,
+                categoryTreeCache.displayRank(category.getId()),
+                categoryTreeCache.mainDisplayRank(category.getId()));
     }
 
     private Category getParentCategory(Long parentId) {
@@ -210,18 +173,23 @@ public class CategoryService {
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND)) : null;
     }
 
+    // 저장이 롤백되면 올린 이미지도 삭제
     private String uploadImageToS3(MultipartFile imageFile) {
-        return (imageFile != null && !imageFile.isEmpty()) ? s3ImageService.upload(imageFile) : null;
+        if (imageFile == null || imageFile.isEmpty()) {
+            return null;
+        }
+        String imageUrl = s3ImageService.upload(imageFile);
+        imageLifecycleManager.discardOnRollback(imageUrl);
+        return imageUrl;
     }
 
+    // 새 이미지를 먼저 올리고 기존 이미지는 커밋 후 삭제 (업로드 실패 시 기존 이미지 유지)
     private String updateCategoryImage(Category category, MultipartFile imageFile) {
-        String imageUrl = category.getImageUrl();
-        if (imageFile != null && !imageFile.isEmpty()) {
-            if (imageUrl != null) {
-                s3ImageService.deleteImageFromS3(imageUrl);
-            }
-            imageUrl = s3ImageService.upload(imageFile);
+        String imageUrl = uploadImageToS3(imageFile);
+        if (imageUrl == null) {
+            return category.getImageUrl();
         }
+        imageLifecycleManager.deleteAfterCommit(category.getImageUrl());
         return imageUrl;
     }
 }
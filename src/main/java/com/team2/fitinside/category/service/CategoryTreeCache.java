@@ -0,0 +1,161 @@
+package com.team2.fitinside.category.service;
+
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.category.repository.CategoryRepository;
+import com.team2.fitinside.global.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+// 삭제되지 않은 카테고리 트리를 메모리에 보관하고, 카테고리 변경 시 무효화
+// 무효화마다 세대 번호를 올린 새 상태로 교체하고, 조회 결과는 읽기 시작할 때의 상태가 그대로일 때만 반영
+// (무효화 전에 읽기 시작한 조회가 무효화 뒤에 끝나도 이전 트리가 다시 자리잡지 않음)
+// 무효화는 이 서버의 변경만 알 수 있으므로, 다른 서버에서 바뀐 카테고리는 tree-cache-ttl 이 지나 다시 읽을 때 반영
+@Component
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+    private final AtomicReference<Cached> state = new AtomicReference<>(new Cached(0, null, 0));
+    private final long ttlNanos;
+
+    // 캐시 적중률 지표 (cache.gets{cache="categoryTree", result="hit|miss"})
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CategoryTreeCache(CategoryRepository categoryRepository, MeterRegistry meterRegistry,
+                             @Value("${fitinside.category.tree-cache-ttl:PT30S}") Duration ttl) {
+        this.categoryRepository = categoryRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.hitCounter = cacheGets(meterRegistry, "hit");
+        this.missCounter = cacheGets(meterRegistry, "miss");
+    }
+
+    // 이름에 키워드가 포함된 카테고리와 모든 하위 카테고리의 id 조회
+    public Set<Long> findIdsWithDescendantsByNameContaining(String keyword) {
+        CategoryTree current = current();
+        Set<Long> result = new LinkedHashSet<>();
+        current.names().forEach((id, name) -> {
+            if (name.contains(keyword)) {
+                collectDescendants(current, id, result);
+            }
+        });
+        return result;
+    }
+
+    // 이름이 정확히 일치하는 카테고리 id 조회
+    public Optional<Long> findIdByName(String name) {
+        return current().names().entrySet().stream()
+                .filter(entry -> entry.getValue().equals(name))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    // 이름 -> id 조회용 맵 (대량 처리에서 행마다 전체를 훑지 않도록, 이름이 겹치면 findIdByName 과 같은 id)
+    public Map<String, Long> idsByName() {
+        Map<String, Long> ids = new HashMap<>();
+        current().names().forEach((id, name) -> ids.putIfAbsent(name, id));
+        return ids;
+    }
+
+    // 같은 부모 아래에서의 노출 순서 (1부터, 저장된 값은 간격을 둔 정렬 키)
+    public Long displayRank(Long id) {
+        return current().displayRanks().get(id);
+    }
+
+    // 메인 화면 노출 순서 (1부터, 메인 노출 대상이 아니면 null)
+    public Long mainDisplayRank(Long id) {
+        return current().mainDisplayRanks().get(id);
+    }
+
+    // 카테고리 생성/수정/삭제 시 호출 (커밋 이후 다시 한번 비워 커밋 전 데이터가 남지 않도록 처리)
+    public void invalidate() {
+        bumpGeneration();
+        AfterCommit.run(this::bumpGeneration);
+    }
+
+    private void bumpGeneration() {
+        state.updateAndGet(cached -> new Cached(cached.generation() + 1, null, 0));
+    }
+
+    private CategoryTree current() {
+        Cached seen = state.get();
+        long now = System.nanoTime();
+        if (seen.tree() != null && now - seen.loadedAt() < ttlNanos) {
+            hitCounter.increment();
+            return seen.tree();
+        }
+        missCounter.increment();
+        CategoryTree loaded = load();
+        // 읽는 동안 무효화되었으면 (상태 객체가 바뀜) 이번 요청에만 사용
+        state.compareAndSet(seen, new Cached(seen.generation(), loaded, now));
+        return loaded;
+    }
+
+    private static Counter cacheGets(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", "categoryTree")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private CategoryTree load() {
+        Map<Long, String> names = new LinkedHashMap<>();
+        Map<Long, List<Long>> childrenByParentId = new HashMap<>();
+        Map<Long, List<Category>> siblingsByParentId = new HashMap<>();
+        List<Category> mainDisplayed = new ArrayList<>();
+
+        for (Category category : categoryRepository.findAllByIsDeletedFalse()) {
+            names.put(category.getId(), category.getName());
+            Long parentId = category.getParent() != null ? category.getParent().getId() : null;
+            if (parentId != null) {
+                childrenByParentId.computeIfAbsent(parentId, key -> new ArrayList<>()).add(category.getId());
+            }
+            siblingsByParentId.computeIfAbsent(parentId, key -> new ArrayList<>()).add(category);
+            if (category.getMainDisplayOrder() != null) {
+                mainDisplayed.add(category);
+            }
+        }
+
+        Map<Long, Long> displayRanks = new HashMap<>();
+        siblingsByParentId.values().forEach(siblings -> assignRanks(siblings, Category::getDisplayOrder, displayRanks));
+        Map<Long, Long> mainDisplayRanks = new HashMap<>();
+        assignRanks(mainDisplayed, Category::getMainDisplayOrder, mainDisplayRanks);
+
+        return new CategoryTree(Collections.unmodifiableMap(names), Collections.unmodifiableMap(childrenByParentId),
+                Collections.unmodifiableMap(displayRanks), Collections.unmodifiableMap(mainDisplayRanks));
+    }
+
+    // 정렬 키 -> id 순으로 정렬해 1부터 순서 부여 (CategoryRepository 의 정렬 조건과 동일)
+    private void assignRanks(List<Category> categories, Function<Category, Long> key, Map<Long, Long> ranks) {
+        categories.sort(Comparator.comparing(key, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Category::getId));
+        for (int i = 0; i < categories.size(); i++) {
+            ranks.put(categories.get(i).getId(), (long) i + 1);
+        }
+    }
+
+    private void collectDescendants(CategoryTree current, Long rootId, Set<Long> result) {
+        Deque<Long> stack = new ArrayDeque<>();
+        stack.push(rootId);
+        while (!stack.isEmpty()) {
+            Long id = stack.pop();
+            if (result.add(id)) {
+                current.childrenByParentId().getOrDefault(id, List.of()).forEach(stack::push);
+            }
+        }
+    }
+
+    // tree 가 null 이면 무효화된 상태, loadedAt 은 트리를 읽기 시작한 시각 (System.nanoTime)
+    private record Cached(long generation, CategoryTree tree, long loadedAt) {
+    }
+
+    private record CategoryTree(Map<Long, String> names, Map<Long, List<Long>> childrenByParentId,
+                                Map<Long, Long> displayRanks, Map<Long, Long> mainDisplayRanks) {
+    }
+}
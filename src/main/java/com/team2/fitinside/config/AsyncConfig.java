@@ -1,9 +1,63 @@
 package com.team2.fitinside.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    public static final String MAIL_TASK_EXECUTOR = "mailTaskExecutor";
+    public static final String PASSWORD_HASH_EXECUTOR = "passwordHashExecutor";
+
+    // 기본 @Async 실행기 (플랫폼 스레드 모드): spring.task.execution.pool 설정을 따르는 스레드 풀
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 기본 @Async 실행기 (가상 스레드 모드, Java 21 + spring.threads.virtual.enabled=true): 작업마다 가상 스레드 생성
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // 메일 발송 전용 실행기
+    // JavaMail 의 SMTP 전송은 synchronized 블록 안에서 소켓 I/O 를 수행하므로 가상 스레드에서 실행하면 캐리어 스레드가 고정(pinning)됨
+    // 실행 모드와 관계없이 작은 플랫폼 스레드 풀에 격리
+    @Bean(name = MAIL_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor mailTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder
+                .corePoolSize(2)
+                .maxPoolSize(4)
+                .queueCapacity(500)
+                .threadNamePrefix("fitinside-mail-")
+                .build();
+    }
+
+    // 비밀번호 해시(BCrypt) 전용 실행기
+    // CPU 코어 수만큼만 동시에 해시를 계산하고, 대기열이 가득 차면 즉시 거절 (PasswordHasher 에서 429 응답)
+    // 로그인 요청이 몰려도 요청 처리 스레드 전체가 해시 계산으로 CPU 를 나눠 쓰며 함께 느려지지 않도록 격리
+    @Bean(name = PASSWORD_HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashExecutor(ThreadPoolTaskExecutorBuilder builder,
+                                                       @Value("${fitinside.password-hash.threads:0}") int threads,
+                                                       @Value("${fitinside.password-hash.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return builder
+                .corePoolSize(poolSize)
+                .maxPoolSize(poolSize)
+                .queueCapacity(queueCapacity)
+                .threadNamePrefix("fitinside-hash-")
+                .build();
+    }
 }
@@ -0,0 +1,18 @@
+package com.team2.fitinside.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 대용량 목록 응답 직렬화 설정
+// Module 빈은 스프링 부트가 기본 ObjectMapper 에 자동 등록
+@Configuration
+public class JacksonConfig {
+
+    // getter 리플렉션 호출 대신 생성된 람다로 필드 접근 (상품 목록 직렬화 CPU 절감)
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
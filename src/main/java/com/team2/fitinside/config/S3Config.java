@@ -3,11 +3,13 @@ package com.team2.fitinside.config;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class S3Config {
@@ -17,14 +19,25 @@ public class S3Config {
     private String secretKey;
     @Value("${cloud.aws.region.static}")
     private String region;
+    // 비어 있으면 AWS S3, 값이 있으면 S3 호환 저장소(MinIO, LocalStack 등) 사용
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
 
     @Bean
     public AmazonS3 amazonS3() {
         AWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return AmazonS3ClientBuilder
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
                 .standard()
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
+                .withCredentials(new AWSStaticCredentialsProvider(credentials));
+        if (StringUtils.hasText(endpoint)) {
+            // 로컬 저장소는 버킷 서브도메인을 쓸 수 없으므로 경로 방식 주소 사용
+            return builder
+                    .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true)
+                    .build();
+        }
+        return builder
                 .withRegion(region)
                 .build();
     }
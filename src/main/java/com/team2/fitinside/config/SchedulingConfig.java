@@ -0,0 +1,10 @@
+package com.team2.fitinside.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 활성화 (쿠폰 만료 처리, 카테고리 정렬 키 재배치, 만료 리프레시 토큰 삭제)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
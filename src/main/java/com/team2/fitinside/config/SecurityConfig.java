@@ -1,5 +1,6 @@
 package com.team2.fitinside.config;
 
+import com.team2.fitinside.global.ratelimit.RateLimitFilter;
 import com.team2.fitinside.jwt.JwtAccessDeniedHandler;
 import com.team2.fitinside.jwt.JwtAuthenticationEntryPoint;
 import com.team2.fitinside.jwt.JwtFilter;
@@ -7,6 +8,7 @@ import com.team2.fitinside.jwt.TokenProvider;
 import com.team2.fitinside.oath.OAuth2SuccessHandler;
 import com.team2.fitinside.oath.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -39,15 +41,17 @@ public class SecurityConfig{
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CustomOAuth2UserService oAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
+    private final RateLimitFilter rateLimitFilter;
 
+    // strength 를 올리면 기존 해시는 다음 로그인 때 새 strength 로 다시 저장됨 (AuthService.login)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${fitinside.password-hash.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, @Value("${management.server.port:-1}") int managementPort) throws Exception {
         http.httpBasic(AbstractHttpConfigurer::disable);
 
         http.csrf(AbstractHttpConfigurer::disable);
@@ -64,6 +68,10 @@ public class SecurityConfig{
                         .requestMatchers("/oath2/**").permitAll()
                         .requestMatchers("/api/categories/**", "/api/banners/**").permitAll()
                         .requestMatchers("/api/products/**", "/api/categories/**").permitAll()
+                        // 헬스 체크/지표는 관리 포트(내부망 전용, management.server.port)로 들어온 요청만 허용
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && request.getRequestURI().startsWith("/actuator/")).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
         );
@@ -79,6 +87,9 @@ public class SecurityConfig{
 
         http.addFilterBefore(new JwtFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class);
 
+        // 로그인/검색/쓰기 요청 제한 (JwtFilter 에서 인증된 회원 id 기준)
+        http.addFilterAfter(rateLimitFilter, JwtFilter.class);
+
         return http.build();
     }
 
@@ -114,7 +125,7 @@ public class SecurityConfig{
         config.addAllowedHeader("*");
 
         // 응답 헤더 허용
-        config.setExposedHeaders(Arrays.asList("Content-Type", "Authorization")); // 필요한 헤더 추가
+        config.setExposedHeaders(Arrays.asList("Content-Type", "Authorization", "Retry-After", "Idempotent-Replayed")); // 필요한 헤더 추가
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
@@ -5,6 +5,7 @@ import com.team2.fitinside.coupon.dto.CouponEmailRequestDto;
 import com.team2.fitinside.coupon.dto.CouponMemberResponseWrapperDto;
 import com.team2.fitinside.coupon.dto.CouponResponseWrapperDto;
 import com.team2.fitinside.coupon.service.CouponAdminService;
+import com.team2.fitinside.global.metrics.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -38,6 +39,7 @@ public class CouponAdminController {
         return ResponseEntity.status(HttpStatus.OK).body(allCoupons);
     }
 
+    @QueryBudget(4)
     @GetMapping("/{couponId}")
     @Operation(summary = "특정 쿠폰 보유 회원 목록 조회", description = "couponId에 해당하는 쿠폰을 보유한 회원 목록 조회")
     @ApiResponse(responseCode = "200", description = "쿠폰 보유 회원 목록 조회 완료했습니다!", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CouponMemberResponseWrapperDto.class)))
@@ -9,6 +9,9 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
+@Table(name = "coupon", indexes = {
+        @Index(name = "idx_coupon_code", columnList = "coupon_code")
+})
 @Getter @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,5 +1,6 @@
 package com.team2.fitinside.coupon.entity;
 
+import com.team2.fitinside.global.id.TsidId;
 import com.team2.fitinside.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -8,19 +9,28 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "coupon_member", indexes = {
+        @Index(name = "idx_coupon_member_member_coupon", columnList = "member_id, coupon_id")
+})
 @Getter @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class CouponMember {
 
+    // 쿠폰 일괄 발급 시 한 번에 INSERT 할 수 있도록 id 를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "coupon_member_id")
     private Long id;
 
     @Column(nullable = false)
     private boolean used;
 
+    // 낙관적 락 버전 (같은 쿠폰을 동시에 두 주문에 사용하는 경우 하나만 성공)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)  // 단방향 다대일 연관관계
     @JoinColumn(name = "coupon_id")
     private Coupon coupon;
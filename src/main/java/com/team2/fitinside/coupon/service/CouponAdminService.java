@@ -50,6 +50,7 @@ public class CouponAdminService {
     }
 
     // 쿠폰 목록 조회
+    @Transactional(readOnly = true)
     public CouponResponseWrapperDto findAllCoupons(int page, boolean includeInActiveCoupons) {
 
         // 관리자 권한 확인
@@ -81,6 +82,7 @@ public class CouponAdminService {
     }
 
     // 쿠폰 보유한 회원 목록 조회
+    @Transactional(readOnly = true)
     public CouponMemberResponseWrapperDto findCouponMembers(int page, Long couponId) {
 
         checkAdmin();
@@ -153,6 +155,7 @@ public class CouponAdminService {
 
 
     // 쿠폰 미보유 회원 목록 조회
+    @Transactional(readOnly = true)
     public CouponMemberResponseWrapperDto findMembersWithOutCoupons(Long couponId) {
 
         checkAdmin();
@@ -1,5 +1,6 @@
 package com.team2.fitinside.coupon.service;
 
+import com.team2.fitinside.config.AsyncConfig;
 import com.team2.fitinside.coupon.dto.CouponEmailRequestDto;
 import com.team2.fitinside.global.exception.CustomException;
 import com.team2.fitinside.global.exception.ErrorCode;
@@ -16,7 +17,7 @@ public class CouponEmailService {
 
     private final JavaMailSender javaMailSender;
 
-    @Async
+    @Async(AsyncConfig.MAIL_TASK_EXECUTOR)
     public void sendEmail(CouponEmailRequestDto dto) {
 
         MimeMessage mimeMessage = javaMailSender.createMimeMessage();
@@ -9,6 +9,7 @@ import com.team2.fitinside.coupon.repository.CouponMemberRepository;
 import com.team2.fitinside.coupon.repository.CouponRepository;
 import com.team2.fitinside.global.exception.CustomException;
 import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.global.retry.RetryOnConflict;
 import com.team2.fitinside.member.entity.Member;
 import com.team2.fitinside.member.repository.MemberRepository;
 import com.team2.fitinside.order.entity.OrderProduct;
@@ -37,6 +38,7 @@ public class CouponService {
     private final SecurityUtil securityUtil;
 
     // 보유 쿠폰 모두 조회
+    @Transactional(readOnly = true)
     public CouponResponseWrapperDto findAllCoupons(int page, boolean includeInActiveCoupons) {
 
         // 페이지 당 쿠폰 10개, 만료 일 기준 오름차순 정렬
@@ -70,6 +72,7 @@ public class CouponService {
     }
 
     // 특정 상품에 적용 가능한 쿠폰 목록 조회
+    @Transactional(readOnly = true)
     public AvailableCouponResponseWrapperDto findAllAvailableCoupons(Long productId) {
 
         Long loginMemberId = getAuthenticatedMemberId();
@@ -100,6 +103,7 @@ public class CouponService {
     }
 
     // 쿠폰 코드로 단일 쿠폰 조회
+    @Transactional(readOnly = true)
     public CouponResponseDto findCoupon(String couponCode) {
 
         // 권한 확인
@@ -111,6 +115,7 @@ public class CouponService {
     }
 
     // 웰컴 쿠폰 목록 조회
+    @Transactional(readOnly = true)
     public CouponResponseWrapperDto findWelcomeCoupons() {
 
         List<Coupon> coupons = couponRepository.findByNameContains("웰컴");
@@ -128,6 +133,7 @@ public class CouponService {
     }
 
     // 보유한 웰컴 쿠폰 목록 조회
+    @Transactional(readOnly = true)
     public MyWelcomeCouponResponseWrapperDto findMyWelcomeCoupons() {
 
         Long loginMemberId = getAuthenticatedMemberId();
@@ -169,6 +175,8 @@ public class CouponService {
         return savedCouponMember.getId();
     }
 
+    // 동시에 같은 쿠폰을 사용하면 재시도 시 used = true 를 보고 INVALID_COUPON_DATA
+    @RetryOnConflict
     @Transactional
     public void redeemCoupon(Long couponMemberId) {
 
@@ -185,6 +193,7 @@ public class CouponService {
     }
 
     // 쿠폰이 적용된 주문 찾기
+    @Transactional(readOnly = true)
     public Long findOrder(Long couponId) {
 
         Long loginMemberId = getAuthenticatedMemberId();
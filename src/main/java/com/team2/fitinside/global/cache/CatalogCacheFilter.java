@@ -0,0 +1,126 @@
+package com.team2.fitinside.global.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+// 공개 카탈로그 조회(/api/products, /api/categories, /api/banners) 응답에 ETag, Cache-Control 추가
+// If-None-Match 가 현재 ETag 와 같으면 컨트롤러/서비스를 거치지 않고 304 반환
+public class CatalogCacheFilter extends OncePerRequestFilter {
+
+    private final CatalogVersionRegistry catalogVersionRegistry;
+    private final String cacheControl;
+
+    public CatalogCacheFilter(CatalogVersionRegistry catalogVersionRegistry, String cacheControl) {
+        this.catalogVersionRegistry = catalogVersionRegistry;
+        this.cacheControl = cacheControl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String etag = etag(request.getRequestURI());
+        if (etag == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            return;
+        }
+
+        filterChain.doFilter(request, new CacheHeaderResponse(response, etag));
+    }
+
+    // 상품 응답에는 카테고리 이름이 포함되므로 상품 ETag 는 카테고리 버전도 반영
+    // gzip 압축 여부와 관계없이 같은 내용이면 같은 값이어야 하므로 약한(W/) ETag 사용
+    String etag(String uri) {
+        String token;
+        if (uri.startsWith("/api/products")) {
+            token = "p" + catalogVersionRegistry.token(CatalogResource.PRODUCT)
+                    + "c" + catalogVersionRegistry.token(CatalogResource.CATEGORY);
+        } else if (uri.startsWith("/api/categories")) {
+            token = "c" + catalogVersionRegistry.token(CatalogResource.CATEGORY);
+        } else if (uri.startsWith("/api/banners")) {
+            token = "b" + catalogVersionRegistry.token(CatalogResource.BANNER);
+        } else {
+            return null;
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(token.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // If-None-Match 는 약한 비교 (W/ 접두사 무시)
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = stripWeak(candidate.trim());
+            if (value.equals("*") || value.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    // 본문을 쓰기 직전 200 응답에만 캐시 헤더 추가 (오류 응답은 CDN 에 캐시되지 않도록)
+    private class CacheHeaderResponse extends HttpServletResponseWrapper {
+
+        private final String etag;
+        private boolean applied;
+
+        CacheHeaderResponse(HttpServletResponse response, String etag) {
+            super(response);
+            this.etag = etag;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            applyHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            applyHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyHeaders();
+            super.flushBuffer();
+        }
+
+        private void applyHeaders() {
+            if (!applied && getStatus() == HttpServletResponse.SC_OK && !isCommitted()) {
+                setHeader(HttpHeaders.ETAG, etag);
+                setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+            applied = true;
+        }
+    }
+}
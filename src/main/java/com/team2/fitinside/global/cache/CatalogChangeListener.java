@@ -0,0 +1,37 @@
+package com.team2.fitinside.global.cache;
+
+import com.team2.fitinside.banner.entity.Banner;
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.product.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+// 상품/카테고리/배너 저장, 수정, 삭제 시 카탈로그 버전 토큰 무효화
+// (JPA 테스트 슬라이스처럼 레지스트리가 없는 환경에서는 아무것도 하지 않음)
+public class CatalogChangeListener {
+
+    private final ObjectProvider<CatalogVersionRegistry> registry;
+
+    public CatalogChangeListener(ObjectProvider<CatalogVersionRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        CatalogVersionRegistry catalogVersionRegistry = registry.getIfAvailable();
+        if (catalogVersionRegistry == null) {
+            return;
+        }
+        if (entity instanceof Product) {
+            catalogVersionRegistry.changed(CatalogResource.PRODUCT);
+        } else if (entity instanceof Category) {
+            catalogVersionRegistry.changed(CatalogResource.CATEGORY);
+        } else if (entity instanceof Banner) {
+            catalogVersionRegistry.changed(CatalogResource.BANNER);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.team2.fitinside.global.cache;
+
+// HTTP 캐시 검증 대상 카탈로그 리소스
+public enum CatalogResource {
+
+    PRODUCT("SELECT COALESCE(SUM(version), 0) FROM catalog_version WHERE version_key LIKE 'PRODUCT:%'", true),
+    CATEGORY("SELECT COUNT(*), COALESCE(SUM(version), 0) FROM category", false),
+    BANNER("SELECT COUNT(*), COALESCE(SUM(version), 0), MAX(id) FROM banner", false);
+
+    // 리소스가 바뀌면 결과가 바뀌는 가벼운 집계 쿼리
+    // 상품은 테이블이 커서 변경 카운터(catalog_version) 합계를 사용, 카테고리/배너는 작은 테이블이라 직접 집계
+    private final String versionQuery;
+    private final boolean counted;
+
+    CatalogResource(String versionQuery, boolean counted) {
+        this.versionQuery = versionQuery;
+        this.counted = counted;
+    }
+
+    String versionQuery() {
+        return versionQuery;
+    }
+
+    // 변경 시 catalog_version 카운터를 올려야 하는 리소스
+    boolean counted() {
+        return counted;
+    }
+}
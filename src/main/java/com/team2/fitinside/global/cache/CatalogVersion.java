@@ -0,0 +1,23 @@
+package com.team2.fitinside.global.cache;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 카탈로그 변경 카운터 (ETag 토큰). 변경하는 트랜잭션 안에서 증가시켜 서버 시계와 무관하게 모든 서버가 같은 값을 봄
+// 변경마다 한 행을 잠그지 않도록 리소스마다 여러 슬롯(PRODUCT:0 ~ PRODUCT:15)에 나눠 올리고 합계를 토큰으로 사용
+// 값은 JDBC 로만 다룸 (CatalogVersionRegistry), 엔티티는 로컬 H2 스키마 생성용
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "catalog_version")
+public class CatalogVersion {
+
+    @Id
+    @Column(name = "version_key", length = 32)
+    private String versionKey;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
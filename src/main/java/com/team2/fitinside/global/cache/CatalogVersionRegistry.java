@@ -0,0 +1,87 @@
+package com.team2.fitinside.global.cache;
+
+import com.team2.fitinside.global.util.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 카탈로그 리소스별 버전 토큰 (ETag 계산용)
+// 이 서버에서 변경되면 커밋 직후 바로 다시 읽고, 다른 서버의 변경은 token-ttl 이내에 반영
+// 상품은 변경하는 트랜잭션 안에서 catalog_version 카운터를 함께 올림 (커밋되어야 토큰이 바뀜)
+@Component
+public class CatalogVersionRegistry {
+
+    static final int COUNTER_SLOTS = 16;
+
+    private static final String INCREMENT = "UPDATE catalog_version SET version = version + 1 WHERE version_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final Map<CatalogResource, AtomicReference<CachedToken>> tokens = new EnumMap<>(CatalogResource.class);
+
+    public CatalogVersionRegistry(JdbcTemplate jdbcTemplate,
+                                  @Value("${fitinside.http-cache.token-ttl:PT5S}") Duration tokenTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = tokenTtl.toNanos();
+        for (CatalogResource resource : CatalogResource.values()) {
+            tokens.put(resource, new AtomicReference<>());
+        }
+    }
+
+    public String token(CatalogResource resource) {
+        AtomicReference<CachedToken> holder = tokens.get(resource);
+        CachedToken cached = holder.get();
+        long now = System.nanoTime();
+        if (cached == null || now - cached.loadedAt() > ttlNanos) {
+            cached = new CachedToken(load(resource), now);
+            holder.set(cached);
+        }
+        return cached.value();
+    }
+
+    // 엔티티 변경 시 호출 (커밋 이후 다시 한번 비워 커밋 전 값이 남지 않도록 처리)
+    // 카운터를 쓰는 리소스는 변경과 같은 트랜잭션 안에서 호출해야 함
+    public void changed(CatalogResource resource) {
+        if (resource.counted()) {
+            increment(resource);
+        }
+        AtomicReference<CachedToken> holder = tokens.get(resource);
+        holder.set(null);
+        AfterCommit.run(() -> holder.set(null));
+    }
+
+    // 임의의 슬롯 하나만 잠금 (주문마다 재고가 바뀌므로 한 행에 몰리지 않도록)
+    // 마이그레이션(V15)이 슬롯 행을 만들어 두고, ddl-auto 로 만든 로컬 DB 에서는 처음 올릴 때 생성
+    private void increment(CatalogResource resource) {
+        String key = resource.name() + ":" + ThreadLocalRandom.current().nextInt(COUNTER_SLOTS);
+        if (jdbcTemplate.update(INCREMENT, key) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO catalog_version (version_key, version) VALUES (?, 1)", key);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(INCREMENT, key);
+        }
+    }
+
+    private String load(CatalogResource resource) {
+        return jdbcTemplate.queryForObject(resource.versionQuery(), (rs, rowNum) -> {
+            StringJoiner joiner = new StringJoiner(":");
+            for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                joiner.add(String.valueOf(rs.getObject(i)));
+            }
+            return joiner.toString();
+        });
+    }
+
+    private record CachedToken(String value, long loadedAt) {
+    }
+}
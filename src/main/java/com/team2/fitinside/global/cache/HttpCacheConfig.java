@@ -0,0 +1,23 @@
+package com.team2.fitinside.global.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HttpCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<CatalogCacheFilter> catalogCacheFilter(
+            CatalogVersionRegistry catalogVersionRegistry,
+            @Value("${fitinside.http-cache.cache-control:public, max-age=0, s-maxage=60, stale-while-revalidate=300}") String cacheControl) {
+        FilterRegistrationBean<CatalogCacheFilter> registration =
+                new FilterRegistrationBean<>(new CatalogCacheFilter(catalogVersionRegistry, cacheControl));
+        registration.addUrlPatterns("/api/products/*", "/api/categories/*", "/api/banners/*");
+        // 보안 필터 다음에 실행 (304 응답에도 CORS 헤더가 포함되도록)
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
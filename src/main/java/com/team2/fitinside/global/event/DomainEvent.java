@@ -0,0 +1,11 @@
+package com.team2.fitinside.global.event;
+
+// 아웃박스에 저장되어 커밋 이후 구독자에게 전달되는 도메인 이벤트
+// 같은 aggregate(aggregateType + aggregateId) 의 이벤트는 저장된 순서대로 전달됨
+// 구현체는 JSON 으로 저장되므로 record 로 작성하고, 클래스 이름을 바꾸면 아직 전달되지 않은 이벤트를 읽을 수 없음
+public interface DomainEvent {
+
+    String aggregateType();
+
+    Long aggregateId();
+}
@@ -0,0 +1,46 @@
+package com.team2.fitinside.global.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2.fitinside.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 도메인 이벤트를 현재 트랜잭션 안에서 아웃박스에 저장하고, 커밋되면 OutboxDispatcher 로 바로 전달
+// 롤백되면 이벤트도 함께 사라지고, 커밋 직후 서버가 종료되어도 OutboxDispatcher 의 주기 조회로 전달됨
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> saved = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            saved.add(outboxEventRepository.save(new OutboxEvent(event, serialize(event), now)));
+        }
+        AfterCommit.run(() -> saved.forEach(outboxDispatcher::dispatch));
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("도메인 이벤트 직렬화 실패: " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.team2.fitinside.global.event;
+
+// 도메인 이벤트 구독자 (빈으로 등록하면 OutboxDispatcher 가 요청 처리 스레드 밖에서 호출)
+// 실패하면 이벤트 전체를 다시 전달하므로 같은 이벤트를 여러 번 받아도 결과가 같도록 작성
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+}
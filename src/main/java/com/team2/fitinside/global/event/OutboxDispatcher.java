@@ -0,0 +1,164 @@
+package com.team2.fitinside.global.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 아웃박스 이벤트를 구독자에게 전달하는 워커
+// aggregate 별로 항상 같은 단일 스레드 레인에서 처리해 순서를 지키고, 레인 대기열이 가득 차면 주기 조회에 맡김
+// 전달 전 같은 aggregate 의 앞선 이벤트가 남아 있으면 미뤄서 재시도/다중 서버 환경에서도 순서 유지
+@Slf4j
+@Component
+public class OutboxDispatcher implements DisposableBean {
+
+    private static final Duration ORDERING_DELAY = Duration.ofSeconds(1);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<DomainEventSubscriber<?>> subscribers;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor[] lanes;
+
+    @Value("${fitinside.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${fitinside.outbox.lease:PT1M}")
+    private Duration lease = Duration.ofMinutes(1);
+
+    @Value("${fitinside.outbox.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${fitinside.outbox.retry-backoff:PT10S}")
+    private Duration retryBackoff = Duration.ofSeconds(10);
+
+    @Value("${fitinside.outbox.retention:PT72H}")
+    private Duration retention = Duration.ofHours(72);
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, List<DomainEventSubscriber<?>> subscribers,
+                            ObjectMapper objectMapper, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                            ThreadPoolTaskExecutorBuilder executorBuilder,
+                            @Value("${fitinside.outbox.workers:4}") int workers,
+                            @Value("${fitinside.outbox.queue-capacity:1000}") int queueCapacity) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = subscribers;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.lanes = new ThreadPoolTaskExecutor[workers];
+        for (int i = 0; i < workers; i++) {
+            lanes[i] = executorBuilder
+                    .corePoolSize(1)
+                    .maxPoolSize(1)
+                    .queueCapacity(queueCapacity)
+                    .threadNamePrefix("fitinside-outbox-" + i + "-")
+                    .build();
+            lanes[i].initialize();
+        }
+    }
+
+    public void dispatch(OutboxEvent event) {
+        Long id = event.getId();
+        int lane = Math.floorMod((event.getAggregateType() + ":" + event.getAggregateId()).hashCode(), lanes.length);
+        try {
+            lanes[lane].execute(() -> process(id));
+        } catch (TaskRejectedException e) {
+            log.debug("아웃박스 레인 대기열 가득 참, 주기 조회로 전달: {}", id);
+        }
+    }
+
+    // 커밋 직후 전달에 실패했거나 재시도 시각이 된 이벤트 전달
+    @Scheduled(fixedDelayString = "${fitinside.outbox.poll-interval:PT5S}", initialDelayString = "${fitinside.outbox.poll-interval:PT5S}")
+    public void pollDue() {
+        List<OutboxEvent> due = outboxEventRepository.findDue(OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        due.forEach(this::dispatch);
+    }
+
+    @Scheduled(fixedDelayString = "${fitinside.outbox.purge-interval:PT1H}", initialDelayString = "${fitinside.outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(OutboxStatus.PUBLISHED, LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("전달 완료된 아웃박스 이벤트 삭제: {}건", deleted);
+        }
+    }
+
+    void process(Long id) {
+        OutboxEvent event = transactionTemplate.execute(status -> claim(id, LocalDateTime.now()));
+        if (event == null) {
+            return;
+        }
+
+        try {
+            DomainEvent domainEvent = objectMapper.readValue(event.getPayload(), eventClass(event.getEventType()));
+            for (DomainEventSubscriber<?> subscriber : subscribers) {
+                if (subscriber.eventType().isInstance(domainEvent)) {
+                    deliver(subscriber, domainEvent);
+                }
+            }
+            transactionTemplate.execute(status -> {
+                outboxEventRepository.findById(id).ifPresent(outboxEvent -> outboxEvent.published(LocalDateTime.now()));
+                return null;
+            });
+            count(event, "published");
+        } catch (Exception e) {
+            log.warn("아웃박스 이벤트 전달 실패: id={}, type={}", id, event.getEventType(), e);
+            OutboxStatus result = transactionTemplate.execute(status -> outboxEventRepository.findById(id)
+                    .map(outboxEvent -> {
+                        outboxEvent.failed(LocalDateTime.now(), e.toString(), maxAttempts, retryBackoff);
+                        return outboxEvent.getStatus();
+                    })
+                    .orElse(OutboxStatus.FAILED));
+            count(event, result == OutboxStatus.FAILED ? "failed" : "retry");
+        }
+    }
+
+    // 임대에 성공하고 같은 aggregate 의 앞선 이벤트가 모두 전달된 경우에만 반환
+    private OutboxEvent claim(Long id, LocalDateTime now) {
+        if (outboxEventRepository.claim(id, OutboxStatus.PENDING, now, now.plus(lease)) == 0) {
+            return null;
+        }
+        OutboxEvent event = outboxEventRepository.findById(id).orElse(null);
+        if (event != null && outboxEventRepository.existsByAggregateTypeAndAggregateIdAndStatusAndIdLessThan(
+                event.getAggregateType(), event.getAggregateId(), OutboxStatus.PENDING, id)) {
+            event.deferUntil(now.plus(ORDERING_DELAY));
+            return null;
+        }
+        return event;
+    }
+
+    private Class<? extends DomainEvent> eventClass(String eventType) throws ClassNotFoundException {
+        return Class.forName(eventType).asSubclass(DomainEvent.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends DomainEvent> void deliver(DomainEventSubscriber<E> subscriber, DomainEvent event) {
+        subscriber.handle((E) event);
+    }
+
+    private void count(OutboxEvent event, String outcome) {
+        meterRegistry.counter("fitinside.outbox.events",
+                "aggregate", event.getAggregateType(),
+                "outcome", outcome).increment();
+    }
+
+    @Override
+    public void destroy() {
+        for (ThreadPoolTaskExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.team2.fitinside.global.event;
+
+import com.team2.fitinside.global.id.TsidId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 트랜잭셔널 아웃박스: 도메인 변경과 같은 트랜잭션에서 저장하고 커밋 이후 구독자에게 전달
+// id 는 시간 순서대로 증가하므로 같은 aggregate 안에서의 전달 순서로 사용
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "outbox_event", indexes = {
+        @Index(name = "idx_outbox_event_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_type, aggregate_id, status")
+})
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @TsidId
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 전달 시각 (전달 중에는 작업 임대 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    public OutboxEvent(DomainEvent event, String payload, LocalDateTime now) {
+        this.aggregateType = event.aggregateType();
+        this.aggregateId = event.aggregateId();
+        this.eventType = event.getClass().getName();
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public void published(LocalDateTime now) {
+        this.status = OutboxStatus.PUBLISHED;
+        this.publishedAt = now;
+        this.lastError = null;
+    }
+
+    // 지수 백오프로 재시도 예약, 최대 횟수를 넘으면 FAILED 로 남겨 수동 확인
+    public void failed(LocalDateTime now, String error, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = now.plus(backoff.multipliedBy(1L << Math.min(attempts - 1, 10)));
+    }
+
+    // 앞선 이벤트가 아직 전달되지 않아 순서를 지키기 위해 미룸 (재시도 횟수는 늘리지 않음)
+    public void deferUntil(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.team2.fitinside.global.event;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDue(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 전달할 차례가 된 이벤트를 임대 (nextAttemptAt 을 임대 만료 시각으로 미뤄 다른 워커/서버가 가져가지 않도록)
+    // 워커가 처리 도중 종료되면 임대가 만료된 뒤 다시 전달됨
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :leaseUntil " +
+            "WHERE e.id = :id AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("status") OutboxStatus status,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 같은 aggregate 의 앞선 이벤트가 아직 전달되지 않았는지 확인
+    boolean existsByAggregateTypeAndAggregateIdAndStatusAndIdLessThan(String aggregateType, Long aggregateId,
+                                                                       OutboxStatus status, Long id);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
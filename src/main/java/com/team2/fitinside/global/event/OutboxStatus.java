@@ -0,0 +1,7 @@
+package com.team2.fitinside.global.event;
+
+public enum OutboxStatus {
+    PENDING,    // 전달 대기 (재시도 포함)
+    PUBLISHED,  // 모든 구독자 처리 완료
+    FAILED      // 최대 재시도 횟수 초과
+}
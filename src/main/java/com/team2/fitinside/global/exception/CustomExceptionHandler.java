@@ -2,6 +2,7 @@ package com.team2.fitinside.global.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -23,6 +24,13 @@ public class CustomExceptionHandler {
         return ErrorResponseEntity.toResponseEntity(e.getErrorCode());
     }
 
+    // 재시도(@RetryOnConflict) 후에도 남은 동시 수정 충돌은 500 대신 409
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    protected ResponseEntity<ErrorResponseEntity> handleConcurrencyFailure(ConcurrencyFailureException e) {
+        logger.warn("동시 수정 충돌: {}", e.getMessage());
+        return ErrorResponseEntity.toResponseEntity(ErrorCode.CONCURRENT_MODIFICATION);
+    }
+
     // 유효성 검사 예외 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -15,6 +15,8 @@ public enum ErrorCode {
     NO_FILE_EXTENSION(HttpStatus.BAD_REQUEST, "파일 확장자가 없습니다."),
     INVALID_FILE_EXTENSION(HttpStatus.BAD_REQUEST, "허용되지 않는 파일 확장자입니다."),
     INVALID_FILE_FORMAT(HttpStatus.BAD_REQUEST, "허용되지 않는 파일 형식입니다."),
+    IMAGE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "업로드할 수 있는 이미지 크기를 초과했습니다."),
+    INVALID_UPLOAD_KEY(HttpStatus.BAD_REQUEST, "발급받은 업로드 키가 아닙니다."),
     AUTH_CODE_EXTENSION(HttpStatus.BAD_REQUEST, "로그인을 실패하였습니다(임시)"),
     INVALID_PRODUCT_DATA(HttpStatus.BAD_REQUEST, "상품 정보가 유효하지 않습니다."),
     INVALID_PRODUCT_PRICE(HttpStatus.BAD_REQUEST, "가격은 0이상이어야 합니다."),
@@ -27,10 +29,15 @@ public enum ErrorCode {
     OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "현재 주문 가능한 상품의 개수를 초과했습니다."),
     ORDER_MODIFICATION_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "배송이 시작된 주문은 수정할 수 없습니다."),
     CART_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "상품 수량은 1개 이상 20개 이하여야 합니다."),
+    INVALID_PRODUCT_IMPORT_FILE(HttpStatus.BAD_REQUEST, "가져올 파일이 비어 있거나 지원하지 않는 형식입니다. (csv, ndjson)"),
+    INVALID_ORDER_SEARCH_CURSOR(HttpStatus.BAD_REQUEST, "주문 검색 커서가 올바르지 않습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 255자 이하로 입력해야 합니다."),
 
     /* 401 UNAUTHORIZED : 인증되지 않은 사용자 */
     INVALID_AUTH_TOKEN(HttpStatus.UNAUTHORIZED, "권한 정보가 없는 토큰입니다."),
     USER_NOT_AUTHENTICATED(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다"),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요."),
+    INVALID_LOGIN(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다."),
 
     /* 403 FORBIDDEN : 권한이 없는 사용자 */
     USER_NOT_AUTHORIZED(HttpStatus.FORBIDDEN, "권한이 없는 사용자입니다."),
@@ -47,6 +54,8 @@ public enum ErrorCode {
     CART_EMPTY(HttpStatus.NOT_FOUND, "장바구니가 비어있습니다."),
     ORDER_PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 상품에 대한 주문을 찾을 수 없습니다."),
     ADDRESS_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 배송지를 찾을 수 없습니다."),
+    PRODUCT_IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 상품 가져오기 작업을 찾을 수 없습니다."),
+    UPLOADED_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "업로드된 이미지를 찾을 수 없습니다. 업로드가 끝났는지 확인해 주세요."),
 
 
     /* 409 : CONFLICT : Resource의 현재 상태와 충돌. 보통 중복된 데이터 존재, 조건을 만족하지 못함 */
@@ -54,12 +63,24 @@ public enum ErrorCode {
     DUPLICATE_COUPON(HttpStatus.CONFLICT, "쿠폰 등록 이력이 존재합니다."),
     EXCEEDED_MAX_ADDRESS_LIMIT(HttpStatus.CONFLICT, "배송지 최대 저장 개수를 초과했습니다."),
     DUPLICATE_ADDRESS(HttpStatus.CONFLICT, "배송지가 이미 존재합니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청과 동시에 수정되었습니다. 다시 시도해 주세요."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요."),
+    PRODUCT_IMPORT_NOT_RESUMABLE(HttpStatus.CONFLICT, "이미 완료되었거나 처리 중인 가져오기 작업입니다."),
 
 
     /* 410 : GONE : 리소스가 더 이상 유효하지 않음 */
     USER_ALREADY_DELETED(HttpStatus.GONE, "탈퇴된 사용자입니다."),
     PLACE_DELETED(HttpStatus.GONE, "삭제된 장소입니다"),
 
+    /* 413 : PAYLOAD_TOO_LARGE : 요청 본문이 처리할 수 있는 크기를 넘음 */
+    IDEMPOTENCY_REQUEST_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "Idempotency-Key 를 사용하는 요청의 본문이 너무 큽니다."),
+
+    /* 422 : UNPROCESSABLE_ENTITY : 요청 형식은 맞지만 처리할 수 없음 */
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 내용의 요청을 보낼 수 없습니다."),
+
+    /* 429 : TOO_MANY_REQUESTS : 요청이 몰려 처리 불가 */
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+
     /* 500 INTERNAL_SERVER_ERROR : 서버 내부 에러 */
     IO_EXCEPTION_ON_IMAGE_UPLOAD(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드 중 입출력 오류가 발생했습니다."),
     PUT_OBJECT_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR, "S3에 객체를 업로드하는 중 예외가 발생했습니다."),
@@ -69,6 +90,7 @@ public enum ErrorCode {
     PRODUCT_CREATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "상품 등록 중 서버 에러 발생!"),
     PRODUCT_UPDATE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "상품 수정 중 서버 에러 발생!"),
     PRODUCT_DELETION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "상품 삭제 중 서버 에러 발생!"),
+    PRODUCT_IMPORT_FILE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "가져올 파일을 읽거나 저장하는 중 오류가 발생했습니다."),
 
     /* 400 BAD_REQUEST : 잘못된 요청 */
     INVALID_CATEGORY_DATA(HttpStatus.BAD_REQUEST, "카테고리 정보가 유효하지 않습니다."),
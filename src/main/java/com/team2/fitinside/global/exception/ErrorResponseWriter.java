@@ -0,0 +1,22 @@
+package com.team2.fitinside.global.exception;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// 컨트롤러까지 가지 않고 필터에서 바로 에러 응답을 보낼 때 사용 (CustomExceptionHandler 와 같은 형식)
+public final class ErrorResponseWriter {
+
+    private ErrorResponseWriter() {
+    }
+
+    public static void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(String.format("{\"status\":%d,\"code\":\"%s\",\"message\":\"%s\"}",
+                errorCode.getHttpStatus().value(), errorCode.name(), errorCode.getMessage()));
+    }
+}
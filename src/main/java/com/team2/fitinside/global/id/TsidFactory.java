@@ -0,0 +1,70 @@
+package com.team2.fitinside.global.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+// 시간 기반 정렬 가능한 53비트 id 발급기 (Snowflake/TSID 방식)
+// [41비트: 2024-01-01 이후 밀리초][4비트: 노드 번호][8비트: 같은 밀리초 내 순번]
+// 자바스크립트 Number 로 정확히 표현되는 범위(2^53) 안에 들어가도록 노드/순번 비트를 줄임
+// 같은 노드에서는 항상 증가 (시계가 뒤로 가거나 순번이 넘치면 다음 밀리초를 미리 사용)
+// 밀리초마다 순번을 임의의 값(0 ~ 127)에서 시작해 id 하나로 앞뒤 id 를 추측하기 어렵게 함
+public class TsidFactory {
+
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    // 시작 순번 범위를 절반으로 제한해 같은 밀리초에 최소 128개는 넘치지 않고 발급
+    static final int SEQUENCE_OFFSET_BOUND = 1 << (SEQUENCE_BITS - 1);
+
+    // 노드 번호는 서버마다 다르게 지정 (-Dfitinside.id.node-id 또는 FITINSIDE_NODE_ID, 0 ~ 15)
+    private static final TsidFactory INSTANCE = new TsidFactory(resolveNodeId(), System::currentTimeMillis);
+
+    private final long node;
+    private final LongSupplier clock;
+    private final RandomGenerator random;
+
+    // (타임스탬프 << SEQUENCE_BITS | 순번) 을 하나의 값으로 CAS 갱신 (락 없이 증가 보장)
+    private final AtomicLong state = new AtomicLong();
+
+    TsidFactory(int nodeId, LongSupplier clock) {
+        this(nodeId, clock, new SecureRandom());
+    }
+
+    TsidFactory(int nodeId, LongSupplier clock, RandomGenerator random) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE + ": " + nodeId);
+        }
+        this.node = nodeId;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    public static TsidFactory getInstance() {
+        return INSTANCE;
+    }
+
+    public long next() {
+        while (true) {
+            long previous = state.get();
+            long now = clock.getAsLong() - EPOCH;
+            // 새 밀리초면 임의의 시작 순번부터, 아니면 +1 (순번이 넘치면 타임스탬프로 올림)
+            long next = now > (previous >>> SEQUENCE_BITS)
+                    ? now << SEQUENCE_BITS | random.nextInt(SEQUENCE_OFFSET_BOUND)
+                    : previous + 1;
+            if (state.compareAndSet(previous, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    private static int resolveNodeId() {
+        String value = System.getProperty("fitinside.id.node-id", System.getenv("FITINSIDE_NODE_ID"));
+        return value == null || value.isBlank() ? 0 : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,16 @@
+package com.team2.fitinside.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 애플리케이션에서 시간 기반 id(TSID) 를 발급하는 식별자 (@GeneratedValue 대신 사용)
+// INSERT 전에 id 가 정해지므로 JDBC 배치 INSERT 가능, DB 왕복 없이 여러 서버에서 발급 가능
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
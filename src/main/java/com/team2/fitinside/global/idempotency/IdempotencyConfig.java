@@ -0,0 +1,26 @@
+package com.team2.fitinside.global.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    // 주문 생성, 쿠폰 코드 등록/사용, 장바구니 추가/수정/삭제 (GET 요청은 필터에서 제외)
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore, MeterRegistry meterRegistry,
+            @Value("${fitinside.idempotency.max-body-bytes:65536}") int maxBodyBytes,
+            @Value("${fitinside.idempotency.max-request-bytes:65536}") int maxRequestBytes) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, meterRegistry, maxBodyBytes, maxRequestBytes));
+        registration.addUrlPatterns("/api/order", "/api/coupons/*", "/api/carts/*");
+        // 보안 필터 다음에 실행 (인증된 회원 기준으로 키를 구분)
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+        return registration;
+    }
+}
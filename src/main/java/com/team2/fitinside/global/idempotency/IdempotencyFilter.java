@@ -0,0 +1,207 @@
+package com.team2.fitinside.global.idempotency;
+
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.global.exception.ErrorResponseWriter;
+import com.team2.fitinside.global.util.HashUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// Idempotency-Key 헤더가 있는 주문 생성/쿠폰 등록/장바구니 변경 요청의 중복 처리 방지
+// 같은 회원이 같은 키로 다시 보낸 요청은 컨트롤러를 거치지 않고 처음 응답을 그대로 반환 (Idempotent-Replayed: true)
+// 헤더가 없는 요청은 기존과 같이 처리
+// 요청 본문은 해시를 위해 메모리에 보관하므로 max-request-bytes 를 넘으면 읽지 않고(또는 한도까지만 읽고) 413
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final MeterRegistry meterRegistry;
+    private final int maxBodyBytes;
+    private final int maxRequestBytes;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, MeterRegistry meterRegistry, int maxBodyBytes,
+                             int maxRequestBytes) {
+        this.idempotencyStore = idempotencyStore;
+        this.meterRegistry = meterRegistry;
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)
+                || !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            ErrorResponseWriter.write(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        byte[] requestBody = readBody(request);
+        if (requestBody == null) {
+            count("too_large");
+            ErrorResponseWriter.write(response, ErrorCode.IDEMPOTENCY_REQUEST_TOO_LARGE);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, requestBody);
+        String keyHash = HashUtils.sha256Hex(String.join("|",
+                clientKey(request), request.getMethod(), request.getRequestURI(), idempotencyKey));
+        String requestHash = HashUtils.sha256Hex(new String(cachedRequest.body, StandardCharsets.UTF_8));
+
+        IdempotencyStore.Acquisition acquisition = idempotencyStore.acquire(keyHash, requestHash);
+        if (!acquisition.acquired()) {
+            StoredResponse stored = acquisition.response();
+            if (stored == null) {
+                count("in_progress");
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                ErrorResponseWriter.write(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            } else if (!stored.requestHash().equals(requestHash)) {
+                count("key_reused");
+                ErrorResponseWriter.write(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            } else {
+                count("replayed");
+                replay(response, stored);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, responseWrapper);
+
+            byte[] body = responseWrapper.getContentAsByteArray();
+            int status = responseWrapper.getStatus();
+            if (status < 500 && body.length <= maxBodyBytes) {
+                idempotencyStore.complete(keyHash, requestHash, status, responseWrapper.getContentType(),
+                        new String(body, StandardCharsets.UTF_8));
+                completed = true;
+            }
+            count("processed");
+        } finally {
+            if (!completed) {
+                idempotencyStore.abandon(keyHash);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    // 한도를 넘으면 null (Content-Length 가 없거나 틀릴 수 있으므로 한도 + 1 바이트까지만 읽어 확인)
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        return body.length > maxRequestBytes ? null : body;
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.statusCode());
+        response.setHeader(REPLAYED, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "member:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("fitinside.idempotency.requests", "outcome", outcome).increment();
+    }
+
+    // 요청 본문 해시를 계산한 뒤에도 컨트롤러가 본문을 다시 읽을 수 있도록 보관
+    static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 비동기 읽기도 바로 완료 통지
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.team2.fitinside.global.idempotency;
+
+import com.team2.fitinside.global.id.TsidId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Idempotency-Key 로 처리한 요청의 응답 (서버 간 공유, key_hash 유니크 인덱스로 동시 중복 요청 차단)
+// status_code 가 null 이면 처리 중 (처리 중 서버가 종료되어도 expires_at 이 지나면 다시 처리 가능)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_record_expires", columnList = "expires_at")
+})
+public class IdempotencyRecord {
+
+    @Id
+    @TsidId
+    @Column(name = "idempotency_record_id")
+    private Long id;
+
+    // 회원 + 메서드 + 경로 + 키의 SHA-256
+    @Column(name = "key_hash", nullable = false, unique = true, length = 64)
+    private String keyHash;
+
+    // 요청 본문의 SHA-256 (같은 키로 다른 요청을 보내면 거절)
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyRecord(String keyHash, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        this.keyHash = keyHash;
+        this.requestHash = requestHash;
+        this.createdAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return statusCode != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public void complete(int statusCode, String contentType, String responseBody, LocalDateTime expiresAt) {
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.responseBody = responseBody;
+        this.expiresAt = expiresAt;
+    }
+}
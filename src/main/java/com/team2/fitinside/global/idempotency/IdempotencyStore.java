@@ -0,0 +1,168 @@
+package com.team2.fitinside.global.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Idempotency-Key 별 응답 저장소
+// 1. 최근 응답 LRU (메모리) -> 2. 같은 서버에서 처리 중인 요청 (완료되면 그 결과를 함께 사용) -> 3. idempotency_record 테이블
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, StoredResponse> recent;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Duration waitTimeout;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository, TransactionTemplate transactionTemplate,
+                            @Value("${fitinside.idempotency.ttl:PT24H}") Duration ttl,
+                            @Value("${fitinside.idempotency.in-progress-timeout:PT1M}") Duration inProgressTimeout,
+                            @Value("${fitinside.idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+                            @Value("${fitinside.idempotency.max-entries:10000}") int maxEntries) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+        this.waitTimeout = waitTimeout;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    // 저장된 응답이 있으면 replay, 다른 곳에서 처리 중이면 inProgress, 아니면 처리 권한 획득(acquired)
+    // acquired 를 받은 경우 반드시 complete 또는 abandon 호출
+    public Acquisition acquire(String keyHash, String requestHash) {
+        StoredResponse cached = recent.get(keyHash);
+        if (cached != null && cached.expiresAt().isAfter(LocalDateTime.now())) {
+            return Acquisition.replay(cached);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(keyHash, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            Acquisition acquisition = transactionTemplate.execute(status -> acquireRecord(keyHash, requestHash));
+            if (!acquisition.acquired()) {
+                release(keyHash, mine, acquisition.response());
+            }
+            return acquisition;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 키를 먼저 저장함
+            release(keyHash, mine, null);
+            return Acquisition.IN_PROGRESS;
+        } catch (RuntimeException e) {
+            release(keyHash, mine, null);
+            throw e;
+        }
+    }
+
+    // 5xx 가 아니면 응답 저장 (같은 요청을 다시 보내면 이 응답을 그대로 반환)
+    public void complete(String keyHash, String requestHash, int statusCode, String contentType, String body) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        StoredResponse response = new StoredResponse(requestHash, statusCode, contentType, body, expiresAt);
+        try {
+            transactionTemplate.execute(status -> {
+                idempotencyRecordRepository.findByKeyHash(keyHash)
+                        .ifPresent(record -> record.complete(statusCode, contentType, body, expiresAt));
+                return null;
+            });
+            recent.put(keyHash, response);
+        } finally {
+            release(keyHash, inFlight.get(keyHash), response);
+        }
+    }
+
+    // 처리 실패 (5xx, 예외): 같은 키로 다시 처리할 수 있도록 삭제
+    public void abandon(String keyHash) {
+        try {
+            transactionTemplate.execute(status -> idempotencyRecordRepository.deleteByKeyHash(keyHash));
+        } finally {
+            release(keyHash, inFlight.get(keyHash), null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${fitinside.idempotency.purge-interval:PT1H}", initialDelayString = "${fitinside.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("만료된 Idempotency-Key 응답 삭제: {}건", deleted);
+        }
+    }
+
+    private Acquisition acquireRecord(String keyHash, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = idempotencyRecordRepository.findByKeyHash(keyHash).orElse(null);
+        if (record != null && !record.isExpired(now)) {
+            if (!record.isCompleted()) {
+                return Acquisition.IN_PROGRESS;
+            }
+            StoredResponse response = StoredResponse.from(record);
+            recent.put(keyHash, response);
+            return Acquisition.replay(response);
+        }
+        if (record != null) {
+            idempotencyRecordRepository.delete(record);
+            idempotencyRecordRepository.flush();
+        }
+
+        // 처리 중 표시 (처리 도중 서버가 종료되면 inProgressTimeout 이후 다시 처리 가능)
+        idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(keyHash, requestHash, now, now.plus(inProgressTimeout)));
+        return Acquisition.ACQUIRED;
+    }
+
+    // 같은 서버에서 처리 중인 요청이 끝나면 그 응답을 재사용
+    private Acquisition await(CompletableFuture<StoredResponse> running) {
+        try {
+            StoredResponse response = running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return response != null ? Acquisition.replay(response) : Acquisition.IN_PROGRESS;
+        } catch (TimeoutException | ExecutionException e) {
+            return Acquisition.IN_PROGRESS;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Acquisition.IN_PROGRESS;
+        }
+    }
+
+    private void release(String keyHash, CompletableFuture<StoredResponse> future, StoredResponse response) {
+        if (future == null) {
+            return;
+        }
+        inFlight.remove(keyHash, future);
+        future.complete(response);
+    }
+
+    public record Acquisition(boolean acquired, StoredResponse response) {
+
+        static final Acquisition ACQUIRED = new Acquisition(true, null);
+        static final Acquisition IN_PROGRESS = new Acquisition(false, null);
+
+        static Acquisition replay(StoredResponse response) {
+            return new Acquisition(false, response);
+        }
+    }
+}
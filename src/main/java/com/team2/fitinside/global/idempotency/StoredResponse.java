@@ -0,0 +1,12 @@
+package com.team2.fitinside.global.idempotency;
+
+import java.time.LocalDateTime;
+
+// 재전송 시 그대로 돌려줄 응답
+public record StoredResponse(String requestHash, int statusCode, String contentType, String body, LocalDateTime expiresAt) {
+
+    static StoredResponse from(IdempotencyRecord record) {
+        return new StoredResponse(record.getRequestHash(), record.getStatusCode(), record.getContentType(),
+                record.getResponseBody(), record.getExpiresAt());
+    }
+}
@@ -0,0 +1,51 @@
+package com.team2.fitinside.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// 외부 시스템(S3, SMTP) 호출 지연 시간 기록
+// @Async 메서드는 비동기 프록시가 먼저 적용되므로 실제 전송 스레드에서 측정됨
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ExternalCallMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    // URL -> 키 변환처럼 저장소를 호출하지 않는 메서드는 제외
+    @Around("execution(public * com.team2.fitinside.product.image.S3ImageService.*(..)) " +
+            "&& !execution(* com.team2.fitinside.product.image.S3ImageService.keyOf(..)) " +
+            "&& !execution(* com.team2.fitinside.product.image.S3ImageService.importKey(..)) " +
+            "&& !execution(* com.team2.fitinside.product.image.S3ImageService.isStoredImage(..))")
+    public Object timeS3(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("s3", joinPoint);
+    }
+
+    @Around("execution(public * com.team2.fitinside.coupon.service.CouponEmailService.sendEmail(..))")
+    public Object timeSmtp(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("smtp", joinPoint);
+    }
+
+    private Object time(String system, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("fitinside.external.call")
+                    .description("외부 시스템 호출 시간")
+                    .tag("system", system)
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
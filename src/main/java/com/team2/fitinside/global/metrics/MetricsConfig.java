@@ -0,0 +1,37 @@
+package com.team2.fitinside.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 실행기(@Async, 메일) 큐 길이/활성 스레드 수는 스프링 부트가 ThreadPoolTaskExecutor 빈에 대해 executor.* 지표로 자동 등록
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public QueryCountInspector queryCountInspector(MeterRegistry meterRegistry) {
+        return new QueryCountInspector(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer(QueryCountInspector queryCountInspector) {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${fitinside.query-guard.fail-on-violation:false}") boolean failOnViolation,
+            @Value("${fitinside.query-guard.n-plus-one-threshold:3}") int nPlusOneThreshold) {
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry, failOnViolation, nPlusOneThreshold);
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,16 @@
+package com.team2.fitinside.global.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 메서드 하나가 요청당 실행할 수 있는 SQL 수 상한
+// 초과 시 경고 로그와 지표를 남기고, fitinside.query-guard.fail-on-violation=true 이면 예외 발생
+// ./gradlew test 는 이 값을 true 로 실행하고, 붙인 엔드포인트마다 QueryBudgetEndpointTest 에 호출 테스트를 추가할 것
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -0,0 +1,9 @@
+package com.team2.fitinside.global.metrics;
+
+// 테스트 모드에서 쿼리 예산 초과 또는 N+1 의심 시 발생
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.team2.fitinside.global.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 매핑된 컨트롤러 메서드의 @QueryBudget 값을 요청 속성으로 전달 (검사는 QueryCountFilter 에서 요청 종료 후 수행)
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    public static final String BUDGET_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".budget";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget queryBudget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (queryBudget != null) {
+                request.setAttribute(BUDGET_ATTRIBUTE, queryBudget.value());
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package com.team2.fitinside.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// HTTP 요청 하나가 실행한 SQL 수를 엔드포인트(URI 패턴)별 분포로 기록하고
+// @QueryBudget 초과, 같은 SELECT 형태 반복(N+1 의심)을 감지
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnViolation;
+    private final int nPlusOneThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, boolean failOnViolation, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.failOnViolation = failOnViolation;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryCountHolder.start();
+        QueryCountHolder.QueryLog queryLog;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryLog = QueryCountHolder.stop();
+            DistributionSummary.builder("fitinside.http.db.queries")
+                    .description("HTTP 요청당 실행된 SQL 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uriPattern(request))
+                    .register(meterRegistry)
+                    .record(queryLog.count());
+        }
+        checkViolations(request, queryLog);
+    }
+
+    private void checkViolations(HttpServletRequest request, QueryCountHolder.QueryLog queryLog) {
+        String endpoint = request.getMethod() + " " + uriPattern(request);
+        List<String> violations = new ArrayList<>();
+
+        Object budget = request.getAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE);
+        if (budget instanceof Integer limit && queryLog.count() > limit) {
+            violations.add("쿼리 예산 초과: " + queryLog.count() + " > " + limit);
+            violationCounter(request, "budget").increment();
+        }
+
+        Map<String, Integer> repeatedSelects = queryLog.repeatedSelects(nPlusOneThreshold);
+        if (!repeatedSelects.isEmpty()) {
+            repeatedSelects.forEach((sql, times) -> violations.add("N+1 의심 (" + times + "회 반복): " + sql));
+            violationCounter(request, "n_plus_one").increment();
+        }
+
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        String message = endpoint + " - " + String.join(" / ", violations);
+        if (failOnViolation) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn("[query-guard] {}", message);
+    }
+
+    private Counter violationCounter(HttpServletRequest request, String type) {
+        return Counter.builder("fitinside.http.db.violations")
+                .description("쿼리 예산 초과 / N+1 의심 요청 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uriPattern(request))
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    // 실제 경로 대신 매핑된 패턴을 태그로 사용 (/api/products/{id})
+    static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
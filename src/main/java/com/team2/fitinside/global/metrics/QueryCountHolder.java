@@ -0,0 +1,71 @@
+package com.team2.fitinside.global.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 현재 스레드(HTTP 요청)에서 실행된 SQL 개수와 SELECT 문 형태별 실행 횟수를 보관
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<QueryLog> CURRENT = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    // 요청 시작 시 집계 시작
+    public static void start() {
+        CURRENT.set(new QueryLog());
+    }
+
+    // 요청 종료 시 집계 종료 후 결과 반환
+    public static QueryLog stop() {
+        QueryLog queryLog = CURRENT.get();
+        CURRENT.remove();
+        return queryLog == null ? new QueryLog() : queryLog;
+    }
+
+    // 현재까지 실행된 SQL 개수 (집계 중이 아니면 0)
+    public static long current() {
+        QueryLog queryLog = CURRENT.get();
+        return queryLog == null ? 0 : queryLog.count();
+    }
+
+    static void record(String sql, boolean select) {
+        QueryLog queryLog = CURRENT.get();
+        if (queryLog != null) {
+            queryLog.record(sql, select);
+        }
+    }
+
+    public static final class QueryLog {
+
+        // 요청 하나에서 기억할 서로 다른 SELECT 형태 수 상한
+        private static final int MAX_SHAPES = 256;
+
+        private long count;
+        private final Map<String, Integer> selectShapes = new HashMap<>();
+
+        private void record(String sql, boolean select) {
+            count++;
+            // Hibernate 는 파라미터를 ? 로 바인딩하므로 같은 SQL 문자열 = 같은 형태 (파라미터만 다른 반복 조회)
+            if (select && (selectShapes.size() < MAX_SHAPES || selectShapes.containsKey(sql))) {
+                selectShapes.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public long count() {
+            return count;
+        }
+
+        // threshold 회 이상 반복된 SELECT 형태 (N+1 의심)
+        public Map<String, Integer> repeatedSelects(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            selectShapes.forEach((sql, times) -> {
+                if (times >= threshold) {
+                    repeated.put(sql, times);
+                }
+            });
+            return repeated;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.team2.fitinside.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+// Hibernate 가 실행하는 모든 SQL 을 가로채 요청별 개수와 종류별 누적 개수를 기록
+public class QueryCountInspector implements StatementInspector {
+
+    private final Counter selectCounter;
+    private final Counter insertCounter;
+    private final Counter updateCounter;
+    private final Counter deleteCounter;
+    private final Counter otherCounter;
+
+    public QueryCountInspector(MeterRegistry meterRegistry) {
+        this.selectCounter = statementCounter(meterRegistry, "select");
+        this.insertCounter = statementCounter(meterRegistry, "insert");
+        this.updateCounter = statementCounter(meterRegistry, "update");
+        this.deleteCounter = statementCounter(meterRegistry, "delete");
+        this.otherCounter = statementCounter(meterRegistry, "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counter counter = counterFor(sql);
+        counter.increment();
+        QueryCountHolder.record(sql, counter == selectCounter);
+        return sql;
+    }
+
+    private Counter counterFor(String sql) {
+        String statement = sql.stripLeading();
+        if (statement.length() < 6) {
+            return otherCounter;
+        }
+        return switch (statement.substring(0, 6).toLowerCase(Locale.ROOT)) {
+            case "select" -> selectCounter;
+            case "insert" -> insertCounter;
+            case "update" -> updateCounter;
+            case "delete" -> deleteCounter;
+            default -> otherCounter;
+        };
+    }
+
+    private static Counter statementCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("fitinside.db.statements")
+                .description("Hibernate 가 실행한 SQL 수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.team2.fitinside.global.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        RateLimiter rateLimiter = new RateLimiter(properties.getMaxKeys(), System::nanoTime);
+        Gauge.builder("fitinside.rate_limit.keys", rateLimiter, RateLimiter::size)
+                .description("요청 제한 버킷 수")
+                .register(meterRegistry);
+        return rateLimiter;
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(rateLimiter, properties, meterRegistry);
+    }
+
+    // 보안 필터 체인 안에서만 실행 (JwtFilter 이후에 실행해야 회원 id 로 제한 가능)
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
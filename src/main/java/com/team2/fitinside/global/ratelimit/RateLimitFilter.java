@@ -0,0 +1,124 @@
+package com.team2.fitinside.global.ratelimit;
+
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.global.exception.ErrorResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 경로 그룹별 요청 제한 (SecurityConfig 에서 JwtFilter 바로 다음에 등록)
+// 로그인한 요청은 회원 id, 그 외에는 클라이언트 IP 기준으로 제한
+// 신뢰하는 프록시(trusted-proxies)를 거친 요청은 X-Forwarded-For 를 오른쪽부터 읽어 프록시가 아닌 첫 주소를 클라이언트 IP 로 사용
+// 지표: fitinside.rate_limit.requests (그룹/결과별), fitinside.rate_limit.keys (유지 중인 버킷 수)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<String, RateLimitProperties.Group> groups;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.enabled = properties.isEnabled();
+        this.groups = properties.getGroups();
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        for (Map.Entry<String, RateLimitProperties.Group> entry : groups.entrySet()) {
+            RateLimitProperties.Group group = entry.getValue();
+            if (!matches(group, request)) {
+                continue;
+            }
+
+            String name = entry.getKey();
+            long waitNanos = rateLimiter.tryAcquire(name + ":" + clientKey(request), group.getCapacity(), group.getRefillPerSecond());
+            meterRegistry.counter("fitinside.rate_limit.requests", "group", name, "outcome", waitNanos > 0 ? "rejected" : "allowed").increment();
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+            break;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Group group, HttpServletRequest request) {
+        List<String> methods = group.getMethods();
+        if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+            return false;
+        }
+        String requiredParam = group.getRequiredParam();
+        if (requiredParam != null && (request.getParameter(requiredParam) == null || request.getParameter(requiredParam).isEmpty())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return group.getPaths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "member:" + authentication.getName();
+        }
+        return "ip:" + clientIp(request);
+    }
+
+    // 클라이언트가 직접 보낸 X-Forwarded-For 앞부분은 위조할 수 있으므로 신뢰하는 프록시가 덧붙인 오른쪽 끝부터 확인
+    String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (forwardedFor == null || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+
+    // IP 형태가 아닌 값은 주소 변환(DNS 조회) 없이 신뢰하지 않음
+    private boolean isTrustedProxy(String address) {
+        if (trustedProxies.isEmpty() || !address.matches("[0-9a-fA-F:.]+")) {
+            return false;
+        }
+        return trustedProxies.stream().anyMatch(matcher -> matcher.matches(address));
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        ErrorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,39 @@
+package com.team2.fitinside.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 요청 제한 설정 (fitinside.rate-limit)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "fitinside.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 메모리에 유지할 최대 버킷(키) 수
+    private int maxKeys = 100_000;
+
+    // 앞단 프록시(로드밸런서/CDN) 주소 대역 (CIDR). 이 대역에서 온 요청만 X-Forwarded-For 로 실제 클라이언트 IP 를 찾음
+    private List<String> trustedProxies = new ArrayList<>();
+
+    // 경로 그룹별 제한 (요청은 처음 일치하는 그룹 하나에만 적용)
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        private List<String> paths = new ArrayList<>();     // Ant 패턴
+        private List<String> methods = new ArrayList<>();   // 비어 있으면 모든 메서드
+        private String requiredParam;                       // 이 파라미터가 있는 요청만 (예: 검색어 keyword)
+        private int capacity = 10;                          // 연속으로 허용하는 최대 요청 수 (버킷 크기)
+        private double refillPerSecond = 1;                 // 초당 충전되는 요청 수
+    }
+}
@@ -0,0 +1,96 @@
+package com.team2.fitinside.global.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 키별 토큰 버킷 (키 형식: "그룹:클라이언트")
+// 버킷 상태를 "버킷이 가득 차는 시각" 하나(GCRA 방식)로 표현해 AtomicLong CAS 로 락 없이 갱신
+// 키는 16개 샤드로 나누고, 샤드가 가득 차면 이미 가득 찬(= 새 버킷과 같은) 버킷을 정리
+// 정리는 샤드마다 SWEEP_INTERVAL 에 한 번만 수행하고, 정리 후에도 자리가 없으면 새 키는 그룹별 공용 버킷을 함께 사용
+// (키 폭주 시에도 요청마다 샤드 전체를 훑지 않고, 제한이 풀리지 않음)
+public class RateLimiter {
+
+    private static final int SHARD_COUNT = 16;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<Shard> shards = new ArrayList<>(SHARD_COUNT);
+    // 샤드에 자리가 없을 때 쓰는 그룹별 공용 버킷 (그룹 수만큼만 생김)
+    private final ConcurrentHashMap<String, AtomicLong> overflowBuckets = new ConcurrentHashMap<>();
+    private final int maxKeysPerShard;
+    private final LongSupplier nanoClock;
+
+    public RateLimiter(int maxKeys, LongSupplier nanoClock) {
+        long createdAt = nanoClock.getAsLong();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards.add(new Shard(new ConcurrentHashMap<>(), new AtomicLong(createdAt)));
+        }
+        this.maxKeysPerShard = Math.max(1, maxKeys / SHARD_COUNT);
+        this.nanoClock = nanoClock;
+    }
+
+    // 허용되면 0, 거절되면 다음 요청이 허용될 때까지 남은 시간(나노초)
+    public long tryAcquire(String key, int capacity, double refillPerSecond) {
+        long now = nanoClock.getAsLong();
+        AtomicLong fullAt = bucket(key, now);
+
+        long interval = (long) (NANOS_PER_SECOND / refillPerSecond);
+        long burst = interval * (capacity - 1);
+        while (true) {
+            long current = fullAt.get();
+            long start = Math.max(current, now);
+            long waitNanos = start - burst - now;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAt.compareAndSet(current, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.buckets().size();
+        }
+        return size;
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        Shard shard = shards.get(Math.floorMod(key.hashCode(), SHARD_COUNT));
+        AtomicLong fullAt = shard.buckets().get(key);
+        if (fullAt != null) {
+            return fullAt;
+        }
+        if (shard.buckets().size() >= maxKeysPerShard) {
+            sweep(shard, now);
+            if (shard.buckets().size() >= maxKeysPerShard) {
+                return overflowBuckets.computeIfAbsent(overflowKey(key), k -> new AtomicLong(now));
+            }
+        }
+        return shard.buckets().computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    // 가득 찬 버킷은 지워도 다음 요청 때 새로 만든 것과 같음
+    // (제거 직전에 가져간 요청의 차감은 무시될 수 있으나 제한이 잠깐 느슨해질 뿐)
+    private void sweep(Shard shard, long now) {
+        long nextSweepAt = shard.nextSweepAt().get();
+        if (now - nextSweepAt < 0 || !shard.nextSweepAt().compareAndSet(nextSweepAt, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        shard.buckets().values().removeIf(bucket -> bucket.get() <= now);
+    }
+
+    private static String overflowKey(String key) {
+        int separator = key.indexOf(':');
+        return (separator < 0 ? "" : key.substring(0, separator)) + ":overflow";
+    }
+
+    private record Shard(ConcurrentHashMap<String, AtomicLong> buckets, AtomicLong nextSweepAt) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.team2.fitinside.global.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 낙관적 락 충돌(@Version) 등 동시성 충돌이 나면 트랜잭션 전체를 다시 실행
+// @Transactional 보다 바깥에서 동작하므로 재시도마다 새 트랜잭션으로 최신 데이터를 다시 읽음
+// 이미 트랜잭션 안에서 호출되면 재시도하지 않고 바깥 트랜잭션에 맡김
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    // 최초 실행 포함 최대 실행 횟수
+    int maxAttempts() default 3;
+
+    // 재시도 대기 시간 상한의 시작값 (재시도마다 2배, 0 ~ 상한 사이 무작위)
+    long backoffMillis() default 20;
+
+    long maxBackoffMillis() default 200;
+}
@@ -0,0 +1,72 @@
+package com.team2.fitinside.global.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// @RetryOnConflict 처리 (트랜잭션 advisor 보다 먼저 실행되도록 우선순위를 한 단계 높임)
+// 지표: fitinside.conflict.attempts{method, outcome=retried|recovered|exhausted}
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class RetryOnConflictAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        int attempt = 1;
+        while (true) {
+            try {
+                Object result = joinPoint.proceed();
+                if (attempt > 1) {
+                    count(method, "recovered");
+                }
+                return result;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= retryOnConflict.maxAttempts()) {
+                    count(method, "exhausted");
+                    log.warn("동시 수정 충돌 재시도 초과: {} ({}회)", method, attempt);
+                    throw e;
+                }
+                count(method, "retried");
+                sleep(backoff(retryOnConflict, attempt));
+                attempt++;
+            }
+        }
+    }
+
+    // full jitter: 0 ~ min(maxBackoff, backoff * 2^(attempt-1))
+    static long backoff(RetryOnConflict retryOnConflict, int attempt) {
+        long ceiling = Math.min(retryOnConflict.maxBackoffMillis(),
+                retryOnConflict.backoffMillis() << Math.min(attempt - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private void count(String method, String outcome) {
+        meterRegistry.counter("fitinside.conflict.attempts", "method", method, "outcome", outcome).increment();
+    }
+}
@@ -18,6 +18,7 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,6 +27,8 @@ public class TokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
     private static final String BEARER_TYPE = "bearer";
+    private static final String MEMBER_ID_KEY = "mid";
+    private static final String FAMILY_KEY = "fam";
 
     public static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30L;
 //    public static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 30;
@@ -56,27 +59,49 @@ public class TokenProvider {
         return generateToken(authentication, ACCESS_TOKEN_EXPIRE_TIME);
     }
 
-    // 1. refresh token 발급
-    public String generateRefreshToken(Authentication authentication) {
-        return generateToken(authentication, REFRESH_TOKEN_EXPIRE_TIME);
+    // 1. refresh token 발급 (회원 id, family id 포함, jti 로 같은 시각에 발급된 토큰도 서로 다른 값)
+    public String generateRefreshToken(Authentication authentication, Long memberId, String familyId) {
+        Date now = new Date();
+
+        return Jwts.builder()
+                .setSubject(authentication.getName())
+                .setId(UUID.randomUUID().toString())
+                .claim(AUTHORITIES_KEY, joinAuthorities(authentication))
+                .claim(MEMBER_ID_KEY, memberId)
+                .claim(FAMILY_KEY, familyId)
+                .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_EXPIRE_TIME))
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
     }
 
     private String generateToken(Authentication authentication, long expireTime) {
         Date now = new Date();
         Date expiredDate = new Date(now.getTime() + expireTime);
 
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining());
-
         return Jwts.builder()
                 .setSubject(authentication.getName())
-                .claim(AUTHORITIES_KEY, authorities)
+                .claim(AUTHORITIES_KEY, joinAuthorities(authentication))
                 .setExpiration(expiredDate)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    private String joinAuthorities(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining());
+    }
+
+    // 리프레시 토큰의 회원 id, family id (검증된 토큰에만 사용)
+    public Long getRefreshTokenMemberId(String refreshToken) {
+        Object memberId = parseClaims(refreshToken).get(MEMBER_ID_KEY);
+        return memberId == null ? null : ((Number) memberId).longValue();
+    }
+
+    public String getRefreshTokenFamily(String refreshToken) {
+        return parseClaims(refreshToken).get(FAMILY_KEY, String.class);
+    }
+
     public Authentication getAuthentication(String accessToken) {
         Claims claims = parseClaims(accessToken);
 
@@ -12,6 +12,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "member", indexes = {
+        @Index(name = "idx_member_email", columnList = "email")
+})
 @Getter
 @Builder
 @NoArgsConstructor
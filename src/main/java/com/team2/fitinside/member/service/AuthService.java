@@ -9,7 +9,6 @@ import com.team2.fitinside.member.entity.Authority;
 import com.team2.fitinside.member.entity.Member;
 import com.team2.fitinside.jwt.TokenProvider;
 import com.team2.fitinside.member.mapper.MemberMapper;
-import com.team2.fitinside.oath.repository.RefreshTokenRepository;
 import com.team2.fitinside.oath.util.RefreshTokenCookieUtil;
 import com.team2.fitinside.member.repository.MemberRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,8 +17,8 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -27,11 +26,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 @Transactional
 public class AuthService {
-    private final AuthenticationManagerBuilder managerBuilder;
     private final MemberRepository memberRepository;
+    private final PasswordHasher passwordHasher;
+    private final CustomUserDetailsService customUserDetailsService;
     private final MemberMapper memberMapper;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final RefreshTokenCookieUtil refreshTokenCookieUtil;
 
     public MemberResponseDto signup(MemberRequestDto requestDto) {
@@ -43,10 +43,13 @@ public class AuthService {
         }
 
         Member member = memberMapper.requestToMember(requestDto);
+        member.setPassword(passwordHasher.encode(requestDto.getPassword()));
         member.setAuthority(Authority.ROLE_USER);
         return memberMapper.memberToResponse(memberRepository.save(member));
     }
 
+    // 회원 조회 1회 + 전용 실행기에서 비밀번호 검증 (해시 계산 중에는 트랜잭션/DB 커넥션을 잡지 않음)
+    @Transactional(Transactional.TxType.SUPPORTS)
     public TokenDto login(HttpServletRequest request, HttpServletResponse response, MemberRequestDto requestDto) {
 
         // 비밀번호 미 입력 시
@@ -54,15 +57,30 @@ public class AuthService {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
 
-        UsernamePasswordAuthenticationToken authenticationToken = requestDto.toAuthentication();
-        Authentication authentication = managerBuilder.getObject().authenticate(authenticationToken);
+        Member member = memberRepository.findByEmail(requestDto.getEmail()).orElse(null);
 
-        TokenDto tokenDto = tokenProvider.generateTokenDto(authentication);
-        String refreshTokenValue = tokenProvider.generateRefreshToken(authentication);
+        // 회원이 없거나 소셜 로그인 회원(비밀번호 없음)이어도 같은 해시 계산을 거치고 같은 오류로 응답
+        // (오류 코드나 응답 시간으로 가입 여부가 드러나지 않게)
+        if (member == null || member.getPassword() == null) {
+            passwordHasher.matchesDummy(requestDto.getPassword());
+            throw new CustomException(ErrorCode.INVALID_LOGIN);
+        }
+        if (!passwordHasher.matches(requestDto.getPassword(), member.getPassword())) {
+            throw new CustomException(ErrorCode.INVALID_LOGIN);
+        }
 
-        Member member = memberRepository.findByEmail(requestDto.getEmail()).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        // BCrypt strength 를 올린 경우 로그인 성공 시 새 strength 로 다시 저장
+        if (passwordHasher.upgradeEncoding(member.getPassword())) {
+            member.setPassword(passwordHasher.encode(requestDto.getPassword()));
+            memberRepository.save(member);
+        }
+
+        UserDetails userDetails = customUserDetailsService.createUserDetails(member);
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities());
+
+        TokenDto tokenDto = tokenProvider.generateTokenDto(authentication);
 
-        refreshTokenCookieUtil.saveRefreshToken(member.getId(), refreshTokenValue);
+        String refreshTokenValue = refreshTokenService.issue(member.getId(), authentication); // 리프레시 토큰 발급 및 저장
         refreshTokenCookieUtil.addRefreshTokenToCookie(request, response, refreshTokenValue); // 리프레시 토큰을 쿠키에 추가
 
         return tokenDto;
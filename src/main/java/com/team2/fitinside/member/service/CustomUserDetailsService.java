@@ -27,7 +27,8 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
-    private UserDetails createUserDetails(Member member) {
+    // 로그인(AuthService.login) 에서 이미 조회한 회원으로 인증 정보를 만들 때도 사용
+    public UserDetails createUserDetails(Member member) {
         GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(member.getAuthority().toString());
 
         return new User(
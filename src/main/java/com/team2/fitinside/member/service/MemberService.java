@@ -15,7 +15,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,7 +28,7 @@ import java.util.Optional;
 public class MemberService {
     private final MemberRepository memberRepository;
     private final OrderRepository orderRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final MemberMapper memberMapper;
     private final SecurityUtil securityUtil;
 
@@ -56,11 +55,12 @@ public class MemberService {
     public MemberResponseDto changeMemberPassword(String exPassword, String newPassword) {
         Member member = memberRepository.findById(securityUtil.getCurrentMemberId())
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        if (!passwordEncoder.matches(exPassword, member.getPassword())) {
+        // 로그인과 같은 전용 실행기에서 계산 (요청 스레드에서 BCrypt 를 돌리지 않고, 몰리면 429)
+        if (!passwordHasher.matches(exPassword, member.getPassword())) {
             throw new CustomException(ErrorCode.AUTH_CODE_EXTENSION);
 //            throw new RuntimeException("비밀번호가 맞지 않습니다");
         }
-        member.setPassword(passwordEncoder.encode((newPassword)));
+        member.setPassword(passwordHasher.encode(newPassword));
         return memberMapper.memberToResponse(memberRepository.save(member));
     }
 
@@ -0,0 +1,103 @@
+package com.team2.fitinside.member.service;
+
+import com.team2.fitinside.config.AsyncConfig;
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 비밀번호 해시 계산을 전용 실행기(AsyncConfig.PASSWORD_HASH_EXECUTOR)에서 수행
+// 대기열이 가득 찼거나 대기 시간이 timeout 을 넘으면 해시를 계산하지 않고 바로 429 응답
+// 지표: fitinside.password.hash (연산별 계산 시간), fitinside.password.hash.rejected (거절 수), executor.* (대기열 길이)
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Duration timeout;
+    // 없는 회원 로그인에도 같은 비용의 검증을 하기 위한 해시 (현재 strength, 어떤 입력과도 일치하지 않음)
+    private final String dummyHash;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier(AsyncConfig.PASSWORD_HASH_EXECUTOR) ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry,
+                          @Value("${fitinside.password-hash.timeout:PT3S}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 검증할 해시가 없을 때(회원 없음, 소셜 로그인 회원) 실제 검증과 같은 시간을 소비. 항상 false
+    public boolean matchesDummy(String rawPassword) {
+        return matches(rawPassword, dummyHash);
+    }
+
+    public String encode(String rawPassword) {
+        return run("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 현재 설정보다 낮은 strength 로 저장된 해시인지 (해시 계산 없음)
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(String operation, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                try {
+                    return task.call();
+                } finally {
+                    sample.stop(Timer.builder("fitinside.password.hash")
+                            .description("비밀번호 해시 계산 시간")
+                            .tag("operation", operation)
+                            .register(meterRegistry));
+                }
+            });
+        } catch (TaskRejectedException e) {
+            throw reject("queue_full");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject("timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private CustomException reject(String reason) {
+        meterRegistry.counter("fitinside.password.hash.rejected", "reason", reason).increment();
+        return new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+    }
+}
@@ -1,18 +1,115 @@
 package com.team2.fitinside.member.service;
 
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.util.HashUtils;
+import com.team2.fitinside.jwt.TokenProvider;
 import com.team2.fitinside.oath.entity.RefreshToken;
 import com.team2.fitinside.oath.repository.RefreshTokenRepository;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-@RequiredArgsConstructor
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static com.team2.fitinside.global.exception.ErrorCode.INVALID_REFRESH_TOKEN;
+import static com.team2.fitinside.jwt.TokenProvider.REFRESH_TOKEN_EXPIRE_TIME;
+
+@Slf4j
 @Service
 public class RefreshTokenService {
+
+    private static final int PURGE_CHUNK_SIZE = 1_000;
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenProvider tokenProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration reuseGrace;
 
-    public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, TokenProvider tokenProvider,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${fitinside.refresh-token.reuse-grace:PT5S}") Duration reuseGrace) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenProvider = tokenProvider;
+        this.transactionTemplate = transactionTemplate;
+        this.reuseGrace = reuseGrace;
     }
-}
 
+    // 로그인 시 새 family 로 리프레시 토큰 발급 (기기/세션마다 별도 family)
+    @Transactional
+    public String issue(Long memberId, Authentication authentication) {
+        return issue(memberId, UUID.randomUUID().toString(), authentication);
+    }
+
+    // 리프레시 토큰 교체 (rotation): 사용한 토큰은 사용 처리하고 같은 family 로 새 토큰 발급
+    // 조건부 UPDATE 한 번으로 검증 + 사용 처리, 반영된 행이 없을 때만 조회해서 원인 확인
+    // family 폐기가 롤백되지 않도록 CustomException 은 롤백하지 않음
+    @Transactional(noRollbackFor = CustomException.class)
+    public String rotate(String refreshToken, Authentication authentication) {
+        Long memberId = tokenProvider.getRefreshTokenMemberId(refreshToken);
+        String familyId = tokenProvider.getRefreshTokenFamily(refreshToken);
+        if (memberId == null || familyId == null) {
+            throw new CustomException(INVALID_REFRESH_TOKEN);
+        }
+
+        String tokenHash = HashUtils.sha256Hex(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.markRotated(tokenHash, now) == 0) {
+            rejectUnusable(tokenHash, now);
+        }
+
+        return issue(memberId, familyId, authentication);
+    }
+
+    // 만료된 토큰 삭제 (한 번에 PURGE_CHUNK_SIZE 건씩 별도 트랜잭션으로 나눠 잠금 시간 최소화)
+    @Scheduled(fixedDelayString = "${fitinside.refresh-token.purge-interval:PT1H}", initialDelayString = "${fitinside.refresh-token.purge-interval:PT1H}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, PURGE_CHUNK_SIZE));
+                refreshTokenRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+
+        if (purged > 0) {
+            log.info("만료된 리프레시 토큰 삭제: {}건", purged);
+        }
+    }
+
+    private String issue(Long memberId, String familyId, Authentication authentication) {
+        String refreshToken = tokenProvider.generateRefreshToken(authentication, memberId, familyId);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(REFRESH_TOKEN_EXPIRE_TIME, ChronoUnit.MILLIS);
+        refreshTokenRepository.save(new RefreshToken(memberId, HashUtils.sha256Hex(refreshToken), familyId, expiresAt));
+        return refreshToken;
+    }
+
+    // 사용 처리에 실패한 토큰의 원인 확인 후 항상 예외
+    private void rejectUnusable(String tokenHash, LocalDateTime now) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new CustomException(INVALID_REFRESH_TOKEN));
+
+        // 여러 탭/재시도가 같은 토큰으로 거의 동시에 재발급 요청 → 먼저 처리된 요청이 새 토큰을 받았으므로 family 는 유지
+        if (token.isRotated() && token.getRotatedAt().isAfter(now.minus(reuseGrace))) {
+            throw new CustomException(INVALID_REFRESH_TOKEN);
+        }
+        if (token.isRotated() && !token.isRevoked()) {
+            // 유예 시간이 지난 뒤 사용된 토큰이 다시 들어옴 → 탈취로 보고 family 전체 폐기 (정상 사용자도 다시 로그인)
+            log.warn("리프레시 토큰 재사용 감지: memberId={}, familyId={}", token.getMemberId(), token.getFamilyId());
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+        }
+        throw new CustomException(INVALID_REFRESH_TOKEN);
+    }
+}
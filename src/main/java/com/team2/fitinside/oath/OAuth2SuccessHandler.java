@@ -4,6 +4,7 @@ import com.team2.fitinside.global.exception.CustomException;
 import com.team2.fitinside.global.exception.ErrorCode;
 import com.team2.fitinside.member.entity.Member;
 import com.team2.fitinside.jwt.TokenProvider;
+import com.team2.fitinside.member.service.RefreshTokenService;
 import com.team2.fitinside.oath.util.RefreshTokenCookieUtil;
 import com.team2.fitinside.member.repository.MemberRepository;
 import jakarta.servlet.ServletException;
@@ -24,6 +25,7 @@ import java.io.IOException;
 public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
     private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
     private final RefreshTokenCookieUtil refreshTokenCookieUtil;
     private static final String URI = "http://localhost:3000/tokenCheck";
     private final MemberRepository memberRepository;
@@ -38,8 +40,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
         // accessToken, refreshToken 발급
         String accessToken = tokenProvider.generateAccessToken(authentication);
 
-        String refreshToken = tokenProvider.generateRefreshToken(authentication);
-        refreshTokenCookieUtil.saveRefreshToken(member.getId(), refreshToken); // 리프레시 토큰 저장
+        String refreshToken = refreshTokenService.issue(member.getId(), authentication); // 리프레시 토큰 발급 및 저장
         refreshTokenCookieUtil.addRefreshTokenToCookie(request, response, refreshToken); // 리프레시 토큰을 쿠키에 추가
 
 
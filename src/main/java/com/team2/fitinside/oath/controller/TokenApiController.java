@@ -1,9 +1,12 @@
 package com.team2.fitinside.oath.controller;
 
 import com.team2.fitinside.oath.dto.CreateAccessTokenResponse;
+import com.team2.fitinside.oath.dto.RotatedTokenDto;
 import com.team2.fitinside.oath.service.TokenService;
+import com.team2.fitinside.oath.util.RefreshTokenCookieUtil;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,21 +18,25 @@ import org.springframework.web.bind.annotation.RestController;
 public class TokenApiController {
 
     private final TokenService tokenService;
+    private final RefreshTokenCookieUtil refreshTokenCookieUtil;
 
     @PostMapping("/api/auth/token")
-    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(HttpServletRequest request) {
+    public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken(HttpServletRequest request, HttpServletResponse response) {
         Cookie[] cookies = request.getCookies();
         String refreshToken = "";
-        for (Cookie cookie : cookies) {
-            if ("refreshToken".equals(cookie.getName())) {
-                refreshToken = cookie.getValue();
-                break;
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if ("refreshToken".equals(cookie.getName())) {
+                    refreshToken = cookie.getValue();
+                    break;
+                }
             }
         }
 
-        String newAccessToken = tokenService.createNewAccessToken(refreshToken);
+        RotatedTokenDto tokens = tokenService.createNewAccessToken(refreshToken);
+        refreshTokenCookieUtil.addRefreshTokenToCookie(request, response, tokens.getRefreshToken()); // 교체된 리프레시 토큰으로 쿠키 갱신
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new CreateAccessTokenResponse(newAccessToken));
+                .body(new CreateAccessTokenResponse(tokens.getAccessToken()));
     }
 }
@@ -0,0 +1,12 @@
+package com.team2.fitinside.oath.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 재발급된 액세스 토큰 + 교체된 리프레시 토큰
+@AllArgsConstructor
+@Getter
+public class RotatedTokenDto {
+    private String accessToken;
+    private String refreshToken;
+}
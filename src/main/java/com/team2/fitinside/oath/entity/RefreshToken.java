@@ -5,9 +5,17 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
+// 리프레시 토큰 원문 대신 SHA-256 다이제스트만 저장
+// 로그인마다 새 family 가 생기고, 재발급(rotation) 시 같은 family 안에서 새 토큰으로 교체
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expires", columnList = "expires_at")
+})
 public class RefreshToken {
 
     @Id
@@ -15,20 +23,33 @@ public class RefreshToken {
     @Column(name = "refreshtoken_id", updatable = false)
     private Long id;
 
-    @Column(name = "member_id", nullable = false, unique = true)
+    @Column(name = "member_id", nullable = false)
     private Long memberId;
 
-    @Column(name = "refresh_token", nullable = false)
-    private String refreshToken;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 
-    public RefreshToken(Long memberId, String refreshToken) {
+    // 재발급에 사용된 시각 (사용된 토큰이 다시 들어오면 탈취로 보고 family 전체 폐기)
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    public RefreshToken(Long memberId, String tokenHash, String familyId, LocalDateTime expiresAt) {
         this.memberId = memberId;
-        this.refreshToken = refreshToken;
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
     }
 
-    public RefreshToken update(String newRefreshToken) {
-        this.refreshToken = newRefreshToken;
-
-        return this;
+    public boolean isRotated() {
+        return rotatedAt != null;
     }
-}
\ No newline at end of file
+}
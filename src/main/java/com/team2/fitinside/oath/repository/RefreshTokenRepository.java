@@ -1,14 +1,32 @@
 package com.team2.fitinside.oath.repository;
 
 import com.team2.fitinside.oath.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByMemberId(Long memberId);
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
-}
 
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 아직 사용되지 않은 유효한 토큰만 사용 처리 (조회 없이 한 번의 UPDATE 로 검증 + 사용 처리)
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.rotatedAt = :now " +
+            "WHERE t.tokenHash = :tokenHash AND t.rotatedAt IS NULL AND t.revoked = false AND t.expiresAt > :now")
+    int markRotated(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :now ORDER BY t.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -1,7 +1,11 @@
 package com.team2.fitinside.oath.service;
 
 
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
 import com.team2.fitinside.jwt.TokenProvider;
+import com.team2.fitinside.member.service.RefreshTokenService;
+import com.team2.fitinside.oath.dto.RotatedTokenDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -12,18 +16,22 @@ import org.springframework.stereotype.Service;
 public class TokenService {
 
     private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
 
-    public String createNewAccessToken(String refreshToken) {
+    public RotatedTokenDto createNewAccessToken(String refreshToken) {
         // 토큰 유효성 검사에 실패하면 예외 발생
         if(!tokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("Unexpected token");
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
         // 리프레시 토큰에서 사용자 정보 추출
         Authentication authentication = tokenProvider.getAuthentication(refreshToken);
 
+        // 사용한 리프레시 토큰은 폐기하고 새 토큰으로 교체
+        String newRefreshToken = refreshTokenService.rotate(refreshToken, authentication);
+
         // 새로운 JWT 액세스 토큰 생성
-        return tokenProvider.generateAccessToken(authentication);
+        return new RotatedTokenDto(tokenProvider.generateAccessToken(authentication), newRefreshToken);
 
     }
 }
@@ -1,7 +1,9 @@
 package com.team2.fitinside.order.controller;
 
+import com.team2.fitinside.global.metrics.QueryBudget;
 import com.team2.fitinside.order.dto.OrderDetailResponseDto;
 import com.team2.fitinside.order.dto.OrderRequestDto;
+import com.team2.fitinside.order.dto.OrderUserCursorResponseDto;
 import com.team2.fitinside.order.dto.OrderUserResponseDto;
 import com.team2.fitinside.order.dto.OrderUserResponseWrapperDto;
 import com.team2.fitinside.order.service.OrderService;
@@ -37,6 +39,7 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @QueryBudget(8)
     @GetMapping("/orders")
     @Operation(summary = "로그인한 회원의 전체 주문 조회(+상품 이름 검색)", description = "전체 주문 조회(+상품 이름 검색)")
     @ApiResponse(responseCode = "200", description = "전체(검색) 주문 조회 완료", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = OrderUserResponseDto.class))))
@@ -48,6 +51,20 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @QueryBudget(8)
+    @GetMapping("/orders/search")
+    @Operation(summary = "로그인한 회원의 주문 상품명 검색", description = "주문 당시 상품명으로 검색, 최신 주문순 커서 페이징 (다음 페이지는 응답의 nextCursor 를 cursor 로 전달)")
+    @ApiResponse(responseCode = "200", description = "주문 검색 완료", content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderUserCursorResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "잘못된 커서", content = @Content(mediaType = "application/json"))
+    public ResponseEntity<OrderUserCursorResponseDto> searchOrders(
+            @RequestParam(required = false, value = "productName") String productName,
+            @RequestParam(required = false, value = "cursor") String cursor,
+            @RequestParam(required = false, value = "size", defaultValue = "5") int size) {
+
+        OrderUserCursorResponseDto response = orderService.searchOrders(productName, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @PostMapping("/order")
     @Operation(summary = "로그인한 회원의 주문 생성", description = "주문 생성")
     @ApiResponse(responseCode = "201", description = "주문 생성 완료", content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderDetailResponseDto.class)))
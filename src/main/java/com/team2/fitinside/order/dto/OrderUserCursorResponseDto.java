@@ -0,0 +1,17 @@
+package com.team2.fitinside.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class OrderUserCursorResponseDto { // 주문 검색 결과 (커서 기반)
+
+    private List<OrderUserResponseDto> orders;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+
+}
@@ -1,8 +1,14 @@
 package com.team2.fitinside.order.entity;
 
+import com.team2.fitinside.global.event.DomainEvent;
+import com.team2.fitinside.global.id.TsidId;
 import com.team2.fitinside.member.entity.Member;
 import com.team2.fitinside.order.dto.OrderRequestDto;
+import com.team2.fitinside.order.event.OrderCancelled;
+import com.team2.fitinside.order.event.OrderCreated;
+import com.team2.fitinside.order.event.OrderStatusChanged;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,17 +22,21 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_member_deleted_created", columnList = "member_id, is_deleted, created_at")
+})
 @EntityListeners(AuditingEntityListener.class)
-@SQLDelete(sql = "UPDATE orders SET is_deleted = true WHERE order_id = ?")
+// @Version 엔티티는 id, version 순서로 바인딩됨
+@SQLDelete(sql = "UPDATE orders SET is_deleted = true WHERE order_id = ? AND version = ?")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Builder
 public class Order {
 
+    // 주문 번호로 노출되므로 순차 값 대신 시간 기반 id 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "order_id")
     private Long id;
 
@@ -76,19 +86,50 @@ public class Order {
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
 
+    // 낙관적 락 버전 (회원 취소와 관리자 상태 변경이 동시에 일어나면 나중 요청이 충돌로 재시도)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // 하나의 주문에 여러 상품이 있을 수 있음
     @OneToMany(mappedBy = "order", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @Builder.Default // 빌더 패턴에서 기본값 유지
     private List<OrderProduct> orderProducts = new ArrayList<>();
 
+    // 상태 변경 시 쌓이는 도메인 이벤트 (서비스에서 pullDomainEvents 로 꺼내 DomainEventPublisher 로 발행)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
+
+    // 주문 저장 이후 호출 (id 는 저장 시점에 발급됨)
+    public void placed() {
+        domainEvents.add(new OrderCreated(id, member.getId(), totalPrice, discountedTotalPrice, deliveryFee, orderProducts.size()));
+    }
+
     // 주문 상태 변경
     public void updateOrderStatus(OrderStatus status) {
+        OrderStatus previous = this.orderStatus;
+        if (previous == status) {
+            return;
+        }
         this.orderStatus = status;
+
+        if (status == OrderStatus.CANCELLED) {
+            domainEvents.add(new OrderCancelled(id, member.getId(), previous));
+        } else {
+            domainEvents.add(new OrderStatusChanged(id, member.getId(), previous, status));
+        }
     }
 
     // 주문 취소
     public void cancelOrder() {
-        this.orderStatus = OrderStatus.CANCELLED;
+        updateOrderStatus(OrderStatus.CANCELLED);
+    }
+
+    public List<DomainEvent> pullDomainEvents() {
+        List<DomainEvent> events = List.copyOf(domainEvents);
+        domainEvents.clear();
+        return events;
     }
 
     // 주문 상품 추가 및 총 가격, 할인 가격 업데이트
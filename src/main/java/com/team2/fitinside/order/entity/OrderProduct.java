@@ -1,6 +1,7 @@
 package com.team2.fitinside.order.entity;
 
 import com.team2.fitinside.coupon.entity.CouponMember;
+import com.team2.fitinside.global.id.TsidId;
 import com.team2.fitinside.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -9,8 +10,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.SQLDelete;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "order_product")
+@Table(name = "order_product", indexes = {
+        @Index(name = "idx_order_product_member_search", columnList = "member_id, order_created_at, order_id, order_product_name")
+})
 @SQLDelete(sql = "UPDATE order_product SET is_deleted = true WHERE order_product_id = ?")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,8 +23,9 @@ import org.hibernate.annotations.SQLDelete;
 @Builder
 public class OrderProduct {
 
+    // 주문 상품을 한 번에 INSERT 할 수 있도록 id 를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "order_product_id")
     private Long id;
 
@@ -50,8 +56,22 @@ public class OrderProduct {
     @Column(name = "is_deleted")
     private boolean isDeleted = false;
 
+    // 회원 주문 검색용 비정규화 컬럼 (주문 생성 후 바뀌지 않음)
+    @Column(name = "member_id", nullable = false, updatable = false)
+    private Long memberId;
+
+    @Column(name = "order_created_at", nullable = false, updatable = false)
+    private LocalDateTime orderCreatedAt;
+
     public void setOrder(Order order) {
         this.order = order;
     }
 
+    // 주문이 먼저 저장되며 생성 시각이 채워진 뒤 cascade 로 호출됨
+    @PrePersist
+    void copyOrderSearchKeys() {
+        this.memberId = order.getMember().getId();
+        this.orderCreatedAt = order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+    }
+
 }
@@ -0,0 +1,7 @@
+package com.team2.fitinside.order.event;
+
+import com.team2.fitinside.order.entity.OrderStatus;
+
+// 주문 취소 (회원 취소, 관리자의 취소 상태 변경 모두)
+public record OrderCancelled(Long orderId, Long memberId, OrderStatus previousStatus) implements OrderEvent {
+}
@@ -0,0 +1,6 @@
+package com.team2.fitinside.order.event;
+
+// 주문 생성 (재고 차감, 쿠폰 사용, 장바구니 삭제까지 커밋된 뒤 전달)
+public record OrderCreated(Long orderId, Long memberId, int totalPrice, int discountedTotalPrice,
+                           int deliveryFee, int productCount) implements OrderEvent {
+}
@@ -0,0 +1,23 @@
+package com.team2.fitinside.order.event;
+
+import com.team2.fitinside.global.event.DomainEvent;
+
+// 주문 이벤트 (주문 단위로 순서 보장)
+public sealed interface OrderEvent extends DomainEvent permits OrderCreated, OrderCancelled, OrderStatusChanged {
+
+    String AGGREGATE_TYPE = "order";
+
+    Long orderId();
+
+    Long memberId();
+
+    @Override
+    default String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    default Long aggregateId() {
+        return orderId();
+    }
+}
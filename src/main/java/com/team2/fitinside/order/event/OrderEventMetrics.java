@@ -0,0 +1,35 @@
+package com.team2.fitinside.order.event;
+
+import com.team2.fitinside.global.event.DomainEventSubscriber;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 주문 이벤트 지표 (fitinside.orders.events, fitinside.orders.amount)
+// 재시도로 같은 이벤트가 다시 전달되면 중복 집계될 수 있음 (추세 확인용)
+@Component
+@RequiredArgsConstructor
+public class OrderEventMetrics implements DomainEventSubscriber<OrderEvent> {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Class<OrderEvent> eventType() {
+        return OrderEvent.class;
+    }
+
+    @Override
+    public void handle(OrderEvent event) {
+        meterRegistry.counter("fitinside.orders.events", "event", event.getClass().getSimpleName()).increment();
+
+        if (event instanceof OrderCreated created) {
+            DistributionSummary.builder("fitinside.orders.amount")
+                    .baseUnit("won")
+                    .register(meterRegistry)
+                    .record(created.discountedTotalPrice());
+        } else if (event instanceof OrderStatusChanged changed) {
+            meterRegistry.counter("fitinside.orders.status.changes", "to", changed.to().name()).increment();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.team2.fitinside.order.event;
+
+import com.team2.fitinside.order.entity.OrderStatus;
+
+// 관리자의 주문 상태 변경 (배송 중, 배송 완료 등)
+public record OrderStatusChanged(Long orderId, Long memberId, OrderStatus from, OrderStatus to) implements OrderEvent {
+}
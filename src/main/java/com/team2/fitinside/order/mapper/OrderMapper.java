@@ -59,7 +59,7 @@ public interface OrderMapper {
     @Named("mapProductNames")
     default List<String> mapProductNames(List<OrderProduct> orderProducts) {
         return orderProducts.stream()
-                .map(orderProduct -> orderProduct.getProduct().getProductName())
+                .map(OrderProduct::getOrderProductName) // 주문 당시 상품명 (검색 기준과 동일)
                 .collect(Collectors.toList());
     }
 
@@ -1,9 +1,14 @@
 package com.team2.fitinside.order.repository;
 
 import com.team2.fitinside.order.entity.OrderProduct;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,25 @@ public interface OrderProductRepository extends JpaRepository<OrderProduct, Long
 
     Optional<OrderProduct> findByCouponMember_Id(Long couponMemberId);
 
+    // 회원 주문 상품명 검색 첫 페이지 (idx_order_product_member_search 범위만 읽음, 주문 시각 최신순)
+    @Query("SELECT DISTINCT op.orderCreatedAt AS createdAt, op.order.id AS orderId FROM OrderProduct op " +
+            "WHERE op.memberId = :memberId " +
+            "AND op.orderProductName LIKE %:productName% " +
+            "ORDER BY op.orderCreatedAt DESC, op.order.id DESC")
+    List<OrderSearchHit> searchFirst(@Param("memberId") Long memberId,
+                                     @Param("productName") String productName,
+                                     Pageable pageable);
+
+    // 커서(마지막으로 받은 주문 시각, 주문 id) 이후 페이지
+    @Query("SELECT DISTINCT op.orderCreatedAt AS createdAt, op.order.id AS orderId FROM OrderProduct op " +
+            "WHERE op.memberId = :memberId " +
+            "AND op.orderProductName LIKE %:productName% " +
+            "AND (op.orderCreatedAt < :createdAt OR (op.orderCreatedAt = :createdAt AND op.order.id < :orderId)) " +
+            "ORDER BY op.orderCreatedAt DESC, op.order.id DESC")
+    List<OrderSearchHit> searchAfter(@Param("memberId") Long memberId,
+                                     @Param("productName") String productName,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("orderId") Long orderId,
+                                     Pageable pageable);
+
 }
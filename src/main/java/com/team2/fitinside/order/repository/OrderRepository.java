@@ -17,16 +17,20 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     List<Order> findByMemberId(Long memberId);
 
-    @Query("SELECT DISTINCT o FROM Order o " +
-            "JOIN o.orderProducts op " +
-            "JOIN op.product p " +
+    // 주문 당시 상품명 기준 (상품 조인/DISTINCT 없이 주문 상품 검색 인덱스로 존재 여부만 확인)
+    @Query("SELECT o FROM Order o " +
             "WHERE o.member.id = :memberId " +
             "AND o.isDeleted = false " +
-            "AND (:productName IS NULL OR p.productName LIKE %:productName%)")
+            "AND (:productName IS NULL OR EXISTS (SELECT op.id FROM OrderProduct op " +
+            "WHERE op.memberId = :memberId AND op.order = o AND op.orderProductName LIKE %:productName%))")
     Page<Order> findByMemberIdAndProductName(@Param("memberId") Long memberId,
                                              @Param("productName") String productName,
                                              Pageable pageable);
 
+    // 검색 결과 주문을 주문 상품과 함께 한 번에 조회
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.orderProducts WHERE o.id IN :orderIds")
+    List<Order> findAllWithOrderProductsByIdIn(@Param("orderIds") List<Long> orderIds);
+
     @Query("SELECT o FROM Order o " +
             "JOIN FETCH o.orderProducts op " +
             "LEFT JOIN FETCH op.couponMember cm " +
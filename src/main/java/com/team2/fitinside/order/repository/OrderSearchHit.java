@@ -0,0 +1,12 @@
+package com.team2.fitinside.order.repository;
+
+import java.time.LocalDateTime;
+
+// 주문 상품명 검색 결과 (주문 단위)
+public interface OrderSearchHit {
+
+    LocalDateTime getCreatedAt();
+
+    Long getOrderId();
+
+}
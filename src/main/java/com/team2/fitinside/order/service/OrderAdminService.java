@@ -1,6 +1,8 @@
 package com.team2.fitinside.order.service;
 
+import com.team2.fitinside.global.event.DomainEventPublisher;
 import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.retry.RetryOnConflict;
 import com.team2.fitinside.order.entity.OrderStatus;
 import com.team2.fitinside.order.dto.*;
 import com.team2.fitinside.order.entity.Order;
@@ -27,8 +29,10 @@ public class OrderAdminService {
 
     private final OrderMapper orderMapper;
     private final OrderRepository orderRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     // 전체 주문 조회
+    @Transactional(readOnly = true)
     public OrderResponseWrapperDto findAllOrdersByAdmin(int page, String orderStatus, LocalDate startDate, LocalDate endDate) {
 
         // orderStatus가 null이면 전체 조회
@@ -69,12 +73,14 @@ public class OrderAdminService {
     }
 
     // 주문 상태 수정
+    @RetryOnConflict
     @Transactional
     public OrderStatusResponseDto updateOrderStatus(Long orderId, OrderStatusUpdateRequestDto request) {
         Order order = orderRepository.findById(orderId).orElseThrow(() -> new CustomException(ORDER_NOT_FOUND));
 
         OrderStatus status = OrderStatus.valueOf(request.getStatus().toUpperCase());
         order.updateOrderStatus(status);
+        domainEventPublisher.publish(order.pullDomainEvents());
         return orderMapper.toOrderStatusResponseDto(order);
     }
 
@@ -0,0 +1,33 @@
+package com.team2.fitinside.order.service;
+
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.order.repository.OrderSearchHit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.team2.fitinside.global.exception.ErrorCode.INVALID_ORDER_SEARCH_CURSOR;
+
+// 주문 검색 커서: 마지막으로 내려준 (주문 시각, 주문 id). 클라이언트에는 불투명한 문자열로 노출
+public record OrderSearchCursor(LocalDateTime createdAt, Long orderId) {
+
+    public static OrderSearchCursor of(OrderSearchHit hit) {
+        return new OrderSearchCursor(hit.getCreatedAt(), hit.getOrderId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "," + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new OrderSearchCursor(LocalDateTime.parse(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(INVALID_ORDER_SEARCH_CURSOR);
+        }
+    }
+}
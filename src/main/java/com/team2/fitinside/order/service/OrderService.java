@@ -6,7 +6,9 @@ import com.team2.fitinside.config.SecurityUtil;
 import com.team2.fitinside.coupon.entity.CouponMember;
 import com.team2.fitinside.coupon.repository.CouponMemberRepository;
 import com.team2.fitinside.coupon.service.CouponService;
+import com.team2.fitinside.global.event.DomainEventPublisher;
 import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.retry.RetryOnConflict;
 import com.team2.fitinside.member.entity.Member;
 import com.team2.fitinside.member.repository.MemberRepository;
 import com.team2.fitinside.order.entity.OrderStatus;
@@ -14,7 +16,9 @@ import com.team2.fitinside.order.dto.*;
 import com.team2.fitinside.order.entity.Order;
 import com.team2.fitinside.order.entity.OrderProduct;
 import com.team2.fitinside.order.mapper.OrderMapper;
+import com.team2.fitinside.order.repository.OrderProductRepository;
 import com.team2.fitinside.order.repository.OrderRepository;
+import com.team2.fitinside.order.repository.OrderSearchHit;
 import com.team2.fitinside.product.entity.Product;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,6 +29,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.team2.fitinside.global.exception.ErrorCode.*;
 
@@ -32,15 +40,20 @@ import static com.team2.fitinside.global.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final OrderMapper orderMapper;
     private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
     private final MemberRepository memberRepository;
     private final CartRepository cartRepository;
     private final CouponService couponService;
     private final CouponMemberRepository couponMemberRepository;
     private final SecurityUtil securityUtil;
+    private final DomainEventPublisher domainEventPublisher;
 
     // 주문 조회 (회원)
+    @Transactional(readOnly = true)
     public OrderDetailResponseDto findOrder(Long orderId) {
 
         Order findOrder = orderRepository.findById(orderId).orElseThrow(() -> new CustomException(ORDER_NOT_FOUND));
@@ -50,6 +63,7 @@ public class OrderService {
     }
 
     // 전체 주문 조회 (회원)
+    @Transactional(readOnly = true)
     public OrderUserResponseWrapperDto findAllOrders(int page, String productName) {
 
         Long loginMemberId = securityUtil.getCurrentMemberId();
@@ -63,7 +77,46 @@ public class OrderService {
 
     }
 
-    // 주문 생성
+    // 주문 상품명 검색 (회원, 주문 당시 상품명 기준, 주문 시각 최신순 커서 페이징)
+    @Transactional(readOnly = true)
+    public OrderUserCursorResponseDto searchOrders(String productName, String cursor, int size) {
+
+        Long loginMemberId = securityUtil.getCurrentMemberId();
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        String keyword = productName == null ? "" : productName.strip();
+        Pageable limit = PageRequest.of(0, pageSize + 1); // 다음 페이지 여부 확인용으로 하나 더 조회
+
+        List<OrderSearchHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = orderProductRepository.searchFirst(loginMemberId, keyword, limit);
+        } else {
+            OrderSearchCursor after = OrderSearchCursor.decode(cursor);
+            hits = orderProductRepository.searchAfter(loginMemberId, keyword, after.createdAt(), after.orderId(), limit);
+        }
+
+        boolean hasNext = hits.size() > pageSize;
+        List<OrderSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+        if (pageHits.isEmpty()) {
+            return new OrderUserCursorResponseDto(List.of(), null);
+        }
+
+        List<Long> orderIds = pageHits.stream().map(OrderSearchHit::getOrderId).toList();
+        Map<Long, Order> ordersById = orderRepository.findAllWithOrderProductsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        // 검색 순서 유지, 삭제된 주문은 제외 (커서는 검색 결과 기준이므로 페이지가 짧아져도 다음 페이지는 이어짐)
+        List<Order> orders = orderIds.stream()
+                .map(ordersById::get)
+                .filter(Objects::nonNull)
+                .filter(order -> !order.isDeleted())
+                .toList();
+
+        String nextCursor = hasNext ? OrderSearchCursor.of(pageHits.get(pageHits.size() - 1)).encode() : null;
+        return new OrderUserCursorResponseDto(orderMapper.toOrderUserResponseDtoList(orders), nextCursor);
+    }
+
+    // 주문 생성 (관리자의 상품 수정과 재고 차감, 쿠폰 사용이 겹치면 재시도)
+    @RetryOnConflict
     @Transactional
     public OrderDetailResponseDto createOrder(OrderRequestDto request) {
 
@@ -134,10 +187,15 @@ public class OrderService {
 
         // 주문(+주문상품) 저장
         Order createdOrder = orderRepository.save(order);
+
+        // 알림/집계 등 부가 작업은 주문 트랜잭션 밖에서 처리 (OrderCreated 구독자)
+        createdOrder.placed();
+        domainEventPublisher.publish(createdOrder.pullDomainEvents());
         return orderMapper.toOrderDetailResponseDto(createdOrder);
     }
 
     // 주문 수정
+    @RetryOnConflict
     @Transactional
     public OrderDetailResponseDto updateOrder(Long orderId, OrderRequestDto request) {
 
@@ -154,6 +212,7 @@ public class OrderService {
     }
 
     // 주문 취소
+    @RetryOnConflict
     @Transactional
     public void cancelOrder(Long orderId) {
 
@@ -165,6 +224,7 @@ public class OrderService {
         }
 
         findOrder.cancelOrder();
+        domainEventPublisher.publish(findOrder.pullDomainEvents());
     }
 
     private void checkAuthorization(Order order) {
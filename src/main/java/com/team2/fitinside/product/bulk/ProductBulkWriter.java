@@ -0,0 +1,189 @@
+package com.team2.fitinside.product.bulk;
+
+import com.team2.fitinside.product.image.ImageLifecycleManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// 상품 일괄 등록/수정 (JPA 를 거치지 않고 JDBC 배치로 처리, 호출하는 쪽 트랜잭션에 참여)
+// sku 로 기존 상품을 한 번에 조회해 UPDATE / INSERT 배치로 나누고, 이미지 목록이 전달된 상품만 이미지 행을 교체
+// 교체로 더 이상 어떤 상품도 참조하지 않는 이미지는 커밋 후 S3 에서 삭제
+// 기존 상품은 값이 없는(null) 필드를 그대로 둠 (가격만 있는 피드로 재고/설명이 지워지지 않도록)
+// 운영 MySQL 은 rewriteBatchedStatements 설정으로 배치가 다중 행 구문으로 묶임 (application-prod.yml)
+@Component
+public class ProductBulkWriter {
+
+    // 품절 여부는 반영 후 재고 기준 (SET 절의 다른 컬럼 참조는 DB 마다 갱신 전/후 값이 달라 재고 값을 한 번 더 바인딩)
+    // 관리자가 삭제한 상품은 피드에 남아 있어도 삭제 상태 유지 (is_deleted 는 건드리지 않음)
+    private static final String UPDATE_PRODUCT = """
+            UPDATE product SET category_id = COALESCE(?, category_id), category_name = COALESCE(?, category_name),
+                product_name = COALESCE(?, product_name), price = COALESCE(?, price), info = COALESCE(?, info),
+                product_stock = COALESCE(?, product_stock), is_sold_out = (COALESCE(?, product_stock) = 0),
+                manufacturer = COALESCE(?, manufacturer), updated_at = ?, version = version + 1
+            WHERE product_id = ?""";
+
+    private static final String INSERT_PRODUCT = """
+            INSERT INTO product (sku, category_id, category_name, product_name, price, info, product_stock, is_sold_out,
+                manufacturer, is_deleted, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?, 0)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ImageLifecycleManager imageLifecycleManager;
+    private final int batchSize;
+
+    public ProductBulkWriter(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                             ImageLifecycleManager imageLifecycleManager,
+                             @Value("${fitinside.product-import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.imageLifecycleManager = imageLifecycleManager;
+        this.batchSize = batchSize;
+    }
+
+    // items 의 sku 는 중복되지 않아야 함
+    // 새 상품인데 필수 값(상품명, 가격, 카테고리)이 없는 항목은 반영하지 않고 반환
+    public List<Item> upsert(List<Item> items, LocalDateTime now) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Map<String, Long> productIds = findIdsBySku(items.stream().map(item -> item.row().sku()).toList());
+
+        List<Item> updates = new ArrayList<>();
+        List<Item> inserts = new ArrayList<>();
+        List<Item> rejected = new ArrayList<>();
+        for (Item item : items) {
+            if (productIds.containsKey(item.row().sku())) {
+                updates.add(item);
+            } else if (item.insertable()) {
+                inserts.add(item);
+            } else {
+                rejected.add(item);
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_PRODUCT, updates, batchSize, (ps, item) -> {
+                ProductImportRow row = item.row();
+                ps.setObject(1, item.categoryId(), Types.BIGINT);
+                ps.setString(2, item.categoryId() != null ? row.categoryName() : null);
+                ps.setString(3, row.productName());
+                ps.setObject(4, row.price(), Types.INTEGER);
+                ps.setString(5, row.info());
+                ps.setObject(6, row.stock(), Types.INTEGER);
+                ps.setObject(7, row.stock(), Types.INTEGER);
+                ps.setString(8, row.manufacturer());
+                ps.setTimestamp(9, timestamp);
+                ps.setLong(10, productIds.get(row.sku()));
+            });
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PRODUCT, inserts, batchSize, (ps, item) -> {
+                ProductImportRow row = item.row();
+                int stock = row.stock() != null ? row.stock() : 0; // 새 상품만 재고 기본값 0
+                ps.setString(1, row.sku());
+                ps.setLong(2, item.categoryId());
+                ps.setString(3, row.categoryName());
+                ps.setString(4, row.productName());
+                ps.setInt(5, row.price());
+                ps.setString(6, row.info());
+                ps.setInt(7, stock);
+                ps.setBoolean(8, stock == 0);
+                ps.setString(9, row.manufacturer());
+                ps.setTimestamp(10, timestamp);
+                ps.setTimestamp(11, timestamp);
+            });
+            // 새로 등록된 상품의 id 는 sku 로 다시 조회 (배치 INSERT 의 생성 키는 드라이버마다 지원이 달라 사용하지 않음)
+            productIds.putAll(findIdsBySku(inserts.stream().map(item -> item.row().sku()).toList()));
+        }
+
+        List<Item> written = new ArrayList<>(updates);
+        written.addAll(inserts);
+        Set<String> replaced = new HashSet<>();
+        replaced.addAll(replaceImages("product_img_urls", "product_img_url", written, productIds, ProductImportRow::productImgUrls));
+        replaced.addAll(replaceImages("product_desc_img_urls", "product_desc_img_url", written, productIds, ProductImportRow::productDescImgUrls));
+        deleteUnreferenced(replaced);
+        return rejected;
+    }
+
+    private Map<String, Long> findIdsBySku(Collection<String> skus) {
+        Map<String, Long> ids = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT product_id, sku FROM product WHERE sku IN (:skus)",
+                Map.of("skus", skus),
+                rs -> {
+                    ids.put(rs.getString("sku"), rs.getLong("product_id"));
+                });
+        return ids;
+    }
+
+    // 이미지 목록이 null 인 행은 기존 이미지를 유지. 교체 전 이미지 URL 반환
+    private List<String> replaceImages(String table, String column, List<Item> items, Map<String, Long> productIds,
+                                       Function<ProductImportRow, List<String>> images) {
+        List<Long> targetIds = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (Item item : items) {
+            List<String> urls = images.apply(item.row());
+            if (urls == null) {
+                continue;
+            }
+            Long productId = productIds.get(item.row().sku());
+            targetIds.add(productId);
+            for (int i = 0; i < urls.size(); i++) {
+                rows.add(new Object[]{productId, i, urls.get(i)});
+            }
+        }
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> previous = namedParameterJdbcTemplate.queryForList(
+                "SELECT " + column + " FROM " + table + " WHERE product_id IN (:ids)", Map.of("ids", targetIds), String.class);
+        namedParameterJdbcTemplate.update("DELETE FROM " + table + " WHERE product_id IN (:ids)", Map.of("ids", targetIds));
+        if (rows.isEmpty()) {
+            return previous;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO " + table + " (product_id, img_order, " + column + ") VALUES (?, ?, ?)",
+                rows, batchSize, (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setInt(2, (Integer) row[1]);
+                    ps.setString(3, (String) row[2]);
+                });
+        return previous;
+    }
+
+    // 가져온 이미지는 원본 URL 이 같으면 같은 객체를 쓰므로 다른 상품이 아직 참조하는지 확인한 뒤 삭제
+    private void deleteUnreferenced(Set<String> imageUrls) {
+        imageUrls.remove(null);
+        if (imageUrls.isEmpty()) {
+            return;
+        }
+        Map<String, Object> params = Map.of("urls", imageUrls);
+        imageUrls.removeAll(namedParameterJdbcTemplate.queryForList(
+                "SELECT product_img_url FROM product_img_urls WHERE product_img_url IN (:urls)", params, String.class));
+        imageUrls.removeAll(namedParameterJdbcTemplate.queryForList(
+                "SELECT product_desc_img_url FROM product_desc_img_urls WHERE product_desc_img_url IN (:urls)", params, String.class));
+        imageLifecycleManager.deleteAfterCommit(imageUrls);
+    }
+
+    // rowNo 는 반영하지 못한 항목을 오류 행으로 남길 때 사용
+    public record Item(long rowNo, ProductImportRow row, Long categoryId) {
+
+        boolean insertable() {
+            return row.productName() != null && row.price() != null && categoryId != null;
+        }
+    }
+}
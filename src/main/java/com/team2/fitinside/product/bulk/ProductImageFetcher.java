@@ -0,0 +1,161 @@
+package com.team2.fitinside.product.bulk;
+
+import com.team2.fitinside.product.image.S3ImageService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+// 공급사 이미지 URL 을 내려받아 S3 에 올리는 전용 실행기
+// 청크 단위로 모든 이미지를 동시에 요청하고, DB 반영 전에 결과를 기다림 (외부 I/O 동안 DB 커넥션을 잡지 않음)
+// 피드 URL 은 신뢰하지 않음: http/https 만 허용, 리다이렉트는 직접 따라가며 매번 내부 주소 여부를 확인,
+// 본문은 최대 크기까지만 읽음 (Content-Length 가 크면 읽지 않고 거부)
+@Component
+public class ProductImageFetcher implements DisposableBean {
+
+    private static final int MAX_REDIRECTS = 3;
+
+    private final S3ImageService s3ImageService;
+    private final ThreadPoolTaskExecutor executor;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final int maxImageBytes;
+    private final boolean allowPrivateHosts;
+
+    public ProductImageFetcher(S3ImageService s3ImageService, ThreadPoolTaskExecutorBuilder executorBuilder,
+                               @Value("${fitinside.product-import.image-parallelism:8}") int parallelism,
+                               @Value("${fitinside.product-import.image-timeout:PT10S}") Duration timeout,
+                               @Value("${fitinside.product-import.max-image-bytes:10485760}") int maxImageBytes,
+                               @Value("${fitinside.product-import.allow-private-image-hosts:false}") boolean allowPrivateHosts) {
+        this.s3ImageService = s3ImageService;
+        this.timeout = timeout;
+        this.maxImageBytes = maxImageBytes;
+        this.allowPrivateHosts = allowPrivateHosts;
+        this.executor = executorBuilder
+                .corePoolSize(parallelism)
+                .maxPoolSize(parallelism)
+                .threadNamePrefix("fitinside-product-image-")
+                .build();
+        this.executor.initialize();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER) // 리다이렉트 대상도 검사해야 하므로 직접 처리
+                .build();
+    }
+
+    // 이미 버킷에 있는 URL 은 그대로 사용, 이전 피드에서 가져온 URL 은 내려받지 않고 같은 객체를 사용
+    public CompletableFuture<String> store(String sourceUrl) {
+        if (s3ImageService.isStoredImage(sourceUrl)) {
+            return CompletableFuture.completedFuture(sourceUrl);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            String key = s3ImageService.importKey(sourceUrl, filename(sourceUrl));
+            String storedUrl = s3ImageService.findStoredImage(key);
+            return storedUrl != null ? storedUrl : s3ImageService.uploadImported(download(sourceUrl), key);
+        }, executor);
+    }
+
+    byte[] download(String sourceUrl) {
+        URI uri = URI.create(sourceUrl);
+        try {
+            for (int redirects = 0; ; redirects++) {
+                checkAllowed(uri);
+                HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+                HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                try (InputStream body = response.body()) {
+                    int status = response.statusCode();
+                    if (status >= 300 && status < 400) {
+                        if (redirects >= MAX_REDIRECTS) {
+                            throw new IllegalStateException("리다이렉트가 너무 많습니다.");
+                        }
+                        String location = response.headers().firstValue("Location")
+                                .orElseThrow(() -> new IllegalStateException("HTTP " + status));
+                        uri = uri.resolve(location);
+                        continue;
+                    }
+                    if (status != 200) {
+                        throw new IllegalStateException("HTTP " + status);
+                    }
+                    if (response.headers().firstValueAsLong("Content-Length").orElse(-1) > maxImageBytes) {
+                        throw tooLarge();
+                    }
+                    // Content-Length 가 없거나 틀릴 수 있으므로 한도 + 1 바이트까지만 읽고 넘으면 중단
+                    byte[] bytes = body.readNBytes(maxImageBytes + 1);
+                    if (bytes.length > maxImageBytes) {
+                        throw tooLarge();
+                    }
+                    return bytes;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 요청이 중단되었습니다.", e);
+        }
+    }
+
+    private IllegalStateException tooLarge() {
+        return new IllegalStateException("이미지가 " + maxImageBytes + " 바이트를 넘습니다.");
+    }
+
+    // 요청(리다이렉트 포함)마다 확인. 확인과 연결 사이의 DNS 변경까지 막지는 못하므로 네트워크 단 차단과 함께 사용
+    void checkAllowed(URI uri) throws UnknownHostException {
+        String scheme = uri.getScheme();
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+            throw new IllegalStateException("http/https 주소만 가져올 수 있습니다: " + scheme);
+        }
+        if (uri.getHost() == null) {
+            throw new IllegalStateException("호스트가 없는 주소입니다.");
+        }
+        if (allowPrivateHosts) {
+            return;
+        }
+        for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+            if (isInternal(address)) {
+                throw new IllegalStateException("내부 네트워크 주소는 가져올 수 없습니다: " + uri.getHost());
+            }
+        }
+    }
+
+    // 루프백, 사설망, 링크 로컬(클라우드 메타데이터 169.254.169.254 포함), CGNAT, IPv6 ULA
+    static boolean isInternal(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (bytes.length == 4) {
+            return (bytes[0] & 0xff) == 100 && (bytes[1] & 0xc0) == 64;
+        }
+        return (bytes[0] & 0xfe) == 0xfc;
+    }
+
+    // URL 경로의 마지막 조각을 파일명으로 사용 (확장자 검사는 S3ImageService 에서)
+    static String filename(String sourceUrl) {
+        String path = URI.create(sourceUrl).getPath();
+        if (path == null || path.isEmpty() || path.endsWith("/")) {
+            return "image";
+        }
+        return URLDecoder.decode(path.substring(path.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,43 @@
+package com.team2.fitinside.product.bulk;
+
+import com.team2.fitinside.global.id.TsidId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 가져오기에 실패한 행 (행 번호 + 사유). 나머지 행은 계속 처리
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "product_import_error", indexes = {
+        @Index(name = "idx_product_import_error_job_row", columnList = "product_import_job_id, row_no")
+})
+public class ProductImportError {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    @Id
+    @TsidId
+    @Column(name = "product_import_error_id")
+    private Long id;
+
+    @Column(name = "product_import_job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "row_no", nullable = false)
+    private long rowNo;
+
+    @Column(name = "sku", length = 64)
+    private String sku;
+
+    @Column(name = "message", nullable = false, length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    public ProductImportError(Long jobId, long rowNo, String sku, String message) {
+        this.jobId = jobId;
+        this.rowNo = rowNo;
+        this.sku = sku != null && sku.length() > 64 ? sku.substring(0, 64) : sku;
+        this.message = message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+}
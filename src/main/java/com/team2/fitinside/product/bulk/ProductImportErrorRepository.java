@@ -0,0 +1,10 @@
+package com.team2.fitinside.product.bulk;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductImportErrorRepository extends JpaRepository<ProductImportError, Long> {
+
+    Page<ProductImportError> findByJobIdOrderByRowNoAsc(Long jobId, Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.team2.fitinside.product.bulk;
+
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+
+import java.util.Locale;
+
+public enum ProductImportFormat {
+    CSV,
+    NDJSON;
+
+    // 형식을 지정하지 않으면 파일 확장자로 판단
+    public static ProductImportFormat resolve(String format, String filename) {
+        String value = format;
+        if (value == null || value.isBlank()) {
+            int lastDotIndex = filename == null ? -1 : filename.lastIndexOf('.');
+            value = lastDotIndex == -1 ? "" : filename.substring(lastDotIndex + 1);
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "csv" -> CSV;
+            case "ndjson", "jsonl" -> NDJSON;
+            default -> throw new CustomException(ErrorCode.INVALID_PRODUCT_IMPORT_FILE);
+        };
+    }
+}
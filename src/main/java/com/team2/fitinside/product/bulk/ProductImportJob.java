@@ -0,0 +1,99 @@
+package com.team2.fitinside.product.bulk;
+
+import com.team2.fitinside.global.id.TsidId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 상품 일괄 가져오기 작업 진행 상태
+// 청크 데이터와 같은 트랜잭션에서 committedRows 를 올리므로, 중단된 작업은 이 행 번호 다음부터 이어서 처리
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "product_import_job")
+public class ProductImportJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @TsidId
+    @Column(name = "product_import_job_id")
+    private Long id;
+
+    @Column(name = "original_filename")
+    private String originalFilename;
+
+    // 업로드 파일을 옮겨 둔 작업 디렉터리 내 경로
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 20)
+    private ProductImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ProductImportStatus status;
+
+    @Column(name = "committed_rows", nullable = false)
+    private long committedRows;
+
+    @Column(name = "succeeded_rows", nullable = false)
+    private long succeededRows;
+
+    @Column(name = "failed_rows", nullable = false)
+    private long failedRows;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public ProductImportJob(String originalFilename, String filePath, ProductImportFormat format, LocalDateTime now) {
+        this.originalFilename = originalFilename;
+        this.filePath = filePath;
+        this.format = format;
+        this.status = ProductImportStatus.RUNNING;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    public void chunkCommitted(long lastRowNo, int succeeded, int failed, LocalDateTime now) {
+        this.committedRows = lastRowNo;
+        this.succeededRows += succeeded;
+        this.failedRows += failed;
+        this.updatedAt = now;
+    }
+
+    public void completed(LocalDateTime now) {
+        this.status = ProductImportStatus.COMPLETED;
+        this.lastError = null;
+        this.updatedAt = now;
+        this.finishedAt = now;
+    }
+
+    // 커밋된 청크까지는 유지되고, 재개하면 다음 행부터 다시 처리
+    public void failed(String error, LocalDateTime now) {
+        this.status = ProductImportStatus.FAILED;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.updatedAt = now;
+        this.finishedAt = now;
+    }
+
+    public void resumed(LocalDateTime now) {
+        this.status = ProductImportStatus.RUNNING;
+        this.lastError = null;
+        this.updatedAt = now;
+        this.finishedAt = null;
+    }
+}
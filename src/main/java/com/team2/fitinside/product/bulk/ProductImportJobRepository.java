@@ -0,0 +1,6 @@
+package com.team2.fitinside.product.bulk;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductImportJobRepository extends JpaRepository<ProductImportJob, Long> {
+}
@@ -0,0 +1,193 @@
+package com.team2.fitinside.product.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 가져올 파일을 한 줄씩 읽어 상품 행으로 변환 (파일 전체를 메모리에 올리지 않음)
+// CSV 는 첫 줄을 헤더로 사용하고, 한 행이 한 줄이어야 함 (따옴표 안 줄바꿈 미지원). 이미지 URL 은 '|' 로 구분
+// 빈 줄은 행 번호에 포함하지 않으므로 같은 파일을 다시 읽으면 항상 같은 행 번호가 매겨짐 (재개 시 skip 기준)
+public class ProductImportReader implements Closeable {
+
+    static final List<String> CSV_COLUMNS = List.of("sku", "categoryName", "productName", "price", "info", "stock",
+            "manufacturer", "productImgUrls", "productDescImgUrls");
+
+    private static final String IMAGE_SEPARATOR = "\\|";
+
+    private final BufferedReader reader;
+    private final ProductImportFormat format;
+    private final ObjectReader jsonReader;
+    private Map<String, Integer> csvHeader;
+    private long rowNo;
+
+    ProductImportReader(BufferedReader reader, ProductImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(ProductImportRow.class);
+    }
+
+    public static ProductImportReader open(Path path, ProductImportFormat format, ObjectMapper objectMapper) throws IOException {
+        return new ProductImportReader(Files.newBufferedReader(path, StandardCharsets.UTF_8), format, objectMapper);
+    }
+
+    // 다음 데이터 행 (파일 끝이면 null). 형식 오류는 예외 대신 error 에 담아 행 단위로 기록
+    public ParsedRow next() throws IOException {
+        String line = nextLine();
+        if (line == null) {
+            return null;
+        }
+        rowNo++;
+        try {
+            ProductImportRow row = format == ProductImportFormat.CSV ? parseCsv(line) : jsonReader.readValue(line);
+            return new ParsedRow(rowNo, row, null);
+        } catch (JsonProcessingException e) {
+            return new ParsedRow(rowNo, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return new ParsedRow(rowNo, null, e.getMessage());
+        }
+    }
+
+    // 이미 커밋된 행 건너뛰기 (재개)
+    public void skip(long rows) throws IOException {
+        while (rowNo < rows && nextLine() != null) {
+            rowNo++;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextLine() throws IOException {
+        if (format == ProductImportFormat.CSV && csvHeader == null) {
+            String header = readNonBlankLine();
+            if (header == null) {
+                return null;
+            }
+            csvHeader = parseHeader(header);
+        }
+        return readNonBlankLine();
+    }
+
+    private String readNonBlankLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+        } while (line != null && line.isBlank());
+        // UTF-8 BOM 제거 (엑셀에서 저장한 CSV)
+        if (line != null && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+            line = line.substring(1);
+        }
+        return line;
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim(), i);
+        }
+        if (!header.containsKey("sku")) {
+            throw new IllegalStateException("CSV 헤더에 sku 컬럼이 없습니다. 사용 가능한 컬럼: " + CSV_COLUMNS);
+        }
+        return header;
+    }
+
+    private ProductImportRow parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        return new ProductImportRow(
+                text(values, "sku"),
+                text(values, "categoryName"),
+                text(values, "productName"),
+                number(values, "price"),
+                text(values, "info"),
+                number(values, "stock"),
+                text(values, "manufacturer"),
+                images(values, "productImgUrls"),
+                images(values, "productDescImgUrls"));
+    }
+
+    private String text(List<String> values, String column) {
+        Integer index = csvHeader.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer number(List<String> values, String column) {
+        String value = text(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    // 컬럼이 없으면 null (기존 이미지 유지), 값이 비어 있으면 빈 목록
+    private List<String> images(List<String> values, String column) {
+        if (!csvHeader.containsKey(column)) {
+            return null;
+        }
+        String value = text(values, column);
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(IMAGE_SEPARATOR))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+    }
+
+    // RFC 4180 방식의 한 줄 분리 (쉼표 구분, 큰따옴표로 감싼 값 안의 "" 는 " 로 해석)
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    public record ParsedRow(long rowNo, ProductImportRow row, String error) {
+    }
+}
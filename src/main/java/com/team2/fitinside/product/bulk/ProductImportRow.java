@@ -0,0 +1,16 @@
+package com.team2.fitinside.product.bulk;
+
+import java.util.List;
+
+// 공급사 피드의 상품 한 건 (sku 기준으로 등록 또는 수정)
+// 값이 없는(null) 필드는 기존 상품이면 그대로 둠 (새 상품은 상품명, 가격, 카테고리 필수, 재고는 0)
+// 이미지 목록도 null 이면 기존 이미지를 그대로 두고, 빈 목록이면 모두 비움
+public record ProductImportRow(String sku, String categoryName, String productName, Integer price, String info,
+                               Integer stock, String manufacturer, List<String> productImgUrls,
+                               List<String> productDescImgUrls) {
+
+    public ProductImportRow withImages(List<String> productImgUrls, List<String> productDescImgUrls) {
+        return new ProductImportRow(sku, categoryName, productName, price, info, stock, manufacturer,
+                productImgUrls, productDescImgUrls);
+    }
+}
@@ -0,0 +1,315 @@
+package com.team2.fitinside.product.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2.fitinside.category.service.CategoryTreeCache;
+import com.team2.fitinside.global.cache.CatalogResource;
+import com.team2.fitinside.global.cache.CatalogVersionRegistry;
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.product.dto.ProductImportErrorResponseDto;
+import com.team2.fitinside.product.dto.ProductImportJobResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 공급사 피드(CSV/NDJSON) 상품 일괄 등록/수정
+// 파일을 작업 디렉터리에 옮겨 두고 전용 실행기에서 청크 단위로 처리 (청크마다 한 트랜잭션)
+// 청크 처리 순서: 행 검증 -> 이미지 병렬 업로드 -> JDBC 배치 upsert + 오류 행 + 진행 상태 커밋
+// 중단되면 마지막으로 커밋된 행 다음부터 재개 (커밋 전에 올라간 이미지는 키가 같으므로 다시 내려받지 않음)
+@Slf4j
+@Service
+public class ProductImportService implements DisposableBean {
+
+    private static final String NEW_PRODUCT_REQUIRED_MESSAGE = "새 상품은 상품명, 가격, 카테고리가 모두 있어야 합니다.";
+
+    private final ProductImportJobRepository jobRepository;
+    private final ProductImportErrorRepository errorRepository;
+    private final ProductBulkWriter bulkWriter;
+    private final ProductImageFetcher imageFetcher;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CatalogVersionRegistry catalogVersionRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+
+    // 이 서버에서 처리 중인 작업 (중복 재개 방지)
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${fitinside.product-import.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${fitinside.product-import.work-dir:${java.io.tmpdir}/fitinside-product-import}")
+    private Path workDir = Path.of(System.getProperty("java.io.tmpdir"), "fitinside-product-import");
+
+    public ProductImportService(ProductImportJobRepository jobRepository, ProductImportErrorRepository errorRepository,
+                                ProductBulkWriter bulkWriter, ProductImageFetcher imageFetcher,
+                                CategoryTreeCache categoryTreeCache, CatalogVersionRegistry catalogVersionRegistry,
+                                TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry, ThreadPoolTaskExecutorBuilder executorBuilder,
+                                @Value("${fitinside.product-import.workers:1}") int workers) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.bulkWriter = bulkWriter;
+        this.imageFetcher = imageFetcher;
+        this.categoryTreeCache = categoryTreeCache;
+        this.catalogVersionRegistry = catalogVersionRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.executor = executorBuilder
+                .corePoolSize(workers)
+                .maxPoolSize(workers)
+                .threadNamePrefix("fitinside-product-import-")
+                .build();
+        this.executor.initialize();
+        this.succeededCounter = rowCounter(meterRegistry, "succeeded");
+        this.failedCounter = rowCounter(meterRegistry, "failed");
+    }
+
+    // 업로드 파일을 작업 디렉터리에 저장하고 백그라운드에서 가져오기 시작
+    public ProductImportJobResponseDto start(MultipartFile file, String format) {
+        if (file == null || file.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_PRODUCT_IMPORT_FILE);
+        }
+        ProductImportFormat importFormat = ProductImportFormat.resolve(format, file.getOriginalFilename());
+
+        Path target = workDir.resolve(UUID.randomUUID() + "." + importFormat.name().toLowerCase());
+        try (InputStream inputStream = file.getInputStream()) {
+            Files.createDirectories(workDir);
+            Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.PRODUCT_IMPORT_FILE_ERROR);
+        }
+
+        ProductImportJob job = jobRepository.save(
+                new ProductImportJob(file.getOriginalFilename(), target.toString(), importFormat, LocalDateTime.now()));
+        submit(job.getId());
+        return ProductImportJobResponseDto.from(job);
+    }
+
+    // 실패했거나 서버 종료로 멈춘 작업을 마지막 커밋 지점부터 다시 처리
+    public ProductImportJobResponseDto resume(Long jobId) {
+        ProductImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_IMPORT_JOB_NOT_FOUND));
+        if (job.getStatus() == ProductImportStatus.COMPLETED || runningJobs.contains(jobId)) {
+            throw new CustomException(ErrorCode.PRODUCT_IMPORT_NOT_RESUMABLE);
+        }
+        job.resumed(LocalDateTime.now());
+        job = jobRepository.save(job);
+        submit(jobId);
+        return ProductImportJobResponseDto.from(job);
+    }
+
+    @Transactional(readOnly = true)
+    public ProductImportJobResponseDto getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(ProductImportJobResponseDto::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_IMPORT_JOB_NOT_FOUND));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductImportErrorResponseDto> getErrors(Long jobId, int page, int size) {
+        if (!jobRepository.existsById(jobId)) {
+            throw new CustomException(ErrorCode.PRODUCT_IMPORT_JOB_NOT_FOUND);
+        }
+        return errorRepository.findByJobIdOrderByRowNoAsc(jobId, PageRequest.of(page, size))
+                .map(ProductImportErrorResponseDto::from);
+    }
+
+    private void submit(Long jobId) {
+        if (!runningJobs.add(jobId)) {
+            throw new CustomException(ErrorCode.PRODUCT_IMPORT_NOT_RESUMABLE);
+        }
+        executor.execute(() -> run(jobId));
+    }
+
+    void run(Long jobId) {
+        try {
+            ProductImportJob job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_IMPORT_JOB_NOT_FOUND));
+            Map<String, Long> categoryIds = categoryTreeCache.idsByName();
+
+            try (ProductImportReader reader = ProductImportReader.open(Path.of(job.getFilePath()), job.getFormat(), objectMapper)) {
+                reader.skip(job.getCommittedRows());
+                List<ProductImportReader.ParsedRow> chunk = new ArrayList<>(chunkSize);
+                ProductImportReader.ParsedRow parsed;
+                while ((parsed = reader.next()) != null) {
+                    chunk.add(parsed);
+                    if (chunk.size() >= chunkSize) {
+                        processChunk(jobId, chunk, categoryIds);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    processChunk(jobId, chunk, categoryIds);
+                }
+            }
+
+            updateJob(jobId, found -> found.completed(LocalDateTime.now()));
+            log.info("상품 가져오기 완료: {}", jobId);
+        } catch (Exception e) {
+            log.warn("상품 가져오기 중단: {}", jobId, e);
+            String reason = e instanceof CustomException customException
+                    ? customException.getErrorCode().getMessage() : e.getClass().getSimpleName() + ": " + e.getMessage();
+            updateJob(jobId, found -> found.failed(reason, LocalDateTime.now()));
+        } finally {
+            runningJobs.remove(jobId);
+        }
+    }
+
+    private void processChunk(Long jobId, List<ProductImportReader.ParsedRow> chunk, Map<String, Long> categoryIds) {
+        List<ProductImportError> errors = new ArrayList<>();
+
+        // 같은 청크 안에서 sku 가 겹치면 마지막 행을 반영
+        Map<String, ProductImportReader.ParsedRow> valid = new LinkedHashMap<>();
+        for (ProductImportReader.ParsedRow parsed : chunk) {
+            String error = parsed.error() != null ? parsed.error() : validate(parsed.row(), categoryIds);
+            if (error != null) {
+                errors.add(new ProductImportError(jobId, parsed.rowNo(), parsed.row() != null ? parsed.row().sku() : null, error));
+            } else {
+                valid.put(parsed.row().sku(), parsed);
+            }
+        }
+
+        // 청크 전체 이미지를 먼저 모두 요청한 뒤 결과를 기다림 (같은 URL 은 한 번만)
+        Map<String, CompletableFuture<String>> uploads = new HashMap<>();
+        for (ProductImportReader.ParsedRow parsed : valid.values()) {
+            imageUrls(parsed.row()).forEach(url -> uploads.computeIfAbsent(url, imageFetcher::store));
+        }
+
+        List<ProductBulkWriter.Item> items = new ArrayList<>();
+        for (ProductImportReader.ParsedRow parsed : valid.values()) {
+            ProductImportRow row = parsed.row();
+            try {
+                items.add(new ProductBulkWriter.Item(parsed.rowNo(),
+                        row.withImages(stored(row.productImgUrls(), uploads), stored(row.productDescImgUrls(), uploads)),
+                        row.categoryName() != null ? categoryIds.get(row.categoryName()) : null));
+            } catch (CompletionException e) {
+                errors.add(new ProductImportError(jobId, parsed.rowNo(), row.sku(), "이미지를 가져오지 못했습니다: " + reason(e.getCause())));
+            }
+        }
+
+        long lastRowNo = chunk.get(chunk.size() - 1).rowNo();
+        int failed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ProductImportError> chunkErrors = new ArrayList<>(errors);
+            // 새 상품인데 필수 값이 빠진 행 (기존 상품이면 빠진 값만 유지하고 반영됨)
+            for (ProductBulkWriter.Item item : bulkWriter.upsert(items, now)) {
+                chunkErrors.add(new ProductImportError(jobId, item.rowNo(), item.row().sku(), NEW_PRODUCT_REQUIRED_MESSAGE));
+            }
+            errorRepository.saveAll(chunkErrors);
+            // JDBC 로 반영해 엔티티 리스너가 호출되지 않으므로 같은 트랜잭션에서 직접 카탈로그 버전 증가
+            catalogVersionRegistry.changed(CatalogResource.PRODUCT);
+            jobRepository.findById(jobId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_IMPORT_JOB_NOT_FOUND))
+                    .chunkCommitted(lastRowNo, chunk.size() - chunkErrors.size(), chunkErrors.size(), now);
+            return chunkErrors.size();
+        });
+        int succeeded = chunk.size() - failed;
+
+        succeededCounter.increment(succeeded);
+        failedCounter.increment(failed);
+    }
+
+    // 상품 등록/수정 API 와 같은 기준으로 검증
+    private String validate(ProductImportRow row, Map<String, Long> categoryIds) {
+        if (row.sku() == null || row.sku().isBlank()) {
+            return "sku 가 비어 있습니다.";
+        }
+        if (row.sku().length() > 64) {
+            return "sku 는 64자 이하로 입력해야 합니다.";
+        }
+        // 값이 없는 필드는 기존 상품이면 유지, 새 상품이면 ProductBulkWriter 가 반영하지 않고 돌려줌
+        if (row.productName() != null && row.productName().isBlank()) {
+            return "상품명이 비어 있습니다.";
+        }
+        if (row.productName() != null && row.productName().length() > 100) {
+            return ErrorCode.INVALID_PRODUCT_NAME_LENGTH.getMessage();
+        }
+        if (row.price() != null && row.price() < 0) {
+            return ErrorCode.INVALID_PRODUCT_PRICE.getMessage();
+        }
+        if (row.stock() != null && row.stock() < 0) {
+            return "재고는 0 이상이어야 합니다.";
+        }
+        if (row.info() != null && row.info().length() > 500) {
+            return ErrorCode.INVALID_PRODUCT_INFO_LENGTH.getMessage();
+        }
+        if (row.manufacturer() != null && row.manufacturer().length() > 100) {
+            return ErrorCode.INVALID_MANUFACTURER_LENGTH.getMessage();
+        }
+        if (row.categoryName() != null && !categoryIds.containsKey(row.categoryName())) {
+            return ErrorCode.CATEGORY_NOT_FOUND.getMessage() + " (" + row.categoryName() + ")";
+        }
+        return null;
+    }
+
+    private static List<String> imageUrls(ProductImportRow row) {
+        List<String> urls = new ArrayList<>();
+        if (row.productImgUrls() != null) {
+            urls.addAll(row.productImgUrls());
+        }
+        if (row.productDescImgUrls() != null) {
+            urls.addAll(row.productDescImgUrls());
+        }
+        return urls;
+    }
+
+    private static List<String> stored(List<String> sourceUrls, Map<String, CompletableFuture<String>> uploads) {
+        if (sourceUrls == null) {
+            return null;
+        }
+        return sourceUrls.stream().map(url -> uploads.get(url).join()).toList();
+    }
+
+    private static String reason(Throwable cause) {
+        if (cause instanceof CustomException customException) {
+            return customException.getErrorCode().getMessage();
+        }
+        return cause != null ? cause.getMessage() : null;
+    }
+
+    private void updateJob(Long jobId, Consumer<ProductImportJob> change) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(change));
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("fitinside.product_import.rows")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,7 @@
+package com.team2.fitinside.product.bulk;
+
+public enum ProductImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
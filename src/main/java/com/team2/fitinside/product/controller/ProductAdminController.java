@@ -1,6 +1,10 @@
 package com.team2.fitinside.product.controller;
 
+import com.team2.fitinside.product.bulk.ProductImportService;
+import com.team2.fitinside.product.dto.ProductImportErrorResponseDto;
+import com.team2.fitinside.product.dto.ProductImportJobResponseDto;
 import com.team2.fitinside.product.dto.ProductInsertDto;
+import com.team2.fitinside.product.dto.ProductPatchDto;
 import com.team2.fitinside.product.dto.ProductResponseDto;
 import com.team2.fitinside.product.mapper.ProductMapper;
 import com.team2.fitinside.product.service.ProductService;
@@ -9,9 +13,12 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 
 @RestController
@@ -19,11 +26,13 @@ import java.util.List;
 public class ProductAdminController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     // 생성자 주입
     @Autowired
-    public ProductAdminController(ProductService productService) {
+    public ProductAdminController(ProductService productService, ProductImportService productImportService) {
         this.productService = productService;
+        this.productImportService = productImportService;
     }
 
 
@@ -69,6 +78,21 @@ public class ProductAdminController {
     }
 
 
+    // 상품 부분 수정 (관리자 전용, 요청에 포함된 필드만 변경)
+    @PatchMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "상품 부분 수정", description = "요청에 포함된 필드만 수정합니다. 이미지는 추가/삭제할 URL 목록으로 전달합니다.")
+    @ApiResponse(responseCode = "200", description = "상품 수정 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "유효하지 않은 상품 정보", content = @Content(mediaType = "application/json"))
+    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content(mediaType = "application/json"))
+    @ApiResponse(responseCode = "404", description = "상품 또는 카테고리를 찾을 수 없음", content = @Content(mediaType = "application/json"))
+    public ResponseEntity<ProductResponseDto> patchProduct(
+            @PathVariable Long id,
+            @RequestBody ProductPatchDto productPatchDto) {
+
+        return ResponseEntity.ok(productService.patchProduct(id, productPatchDto));
+    }
+
+
     // 상품 이미지 삭제 (특정 이미지 삭제)
     @DeleteMapping("/{id}/images")
     @CrossOrigin(origins = "http://localhost:3000")
@@ -103,6 +127,51 @@ public class ProductAdminController {
 
 
 
+    // 상품 일괄 가져오기 (관리자 전용, CSV/NDJSON 파일을 sku 기준으로 등록 또는 수정)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "상품 일괄 가져오기", description = "CSV 또는 NDJSON 파일의 상품을 sku 기준으로 등록/수정합니다. 백그라운드에서 처리되며 작업 ID 로 진행 상황을 조회합니다.")
+    @ApiResponse(responseCode = "202", description = "가져오기 작업 시작", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductImportJobResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "빈 파일 또는 지원하지 않는 형식", content = @Content(mediaType = "application/json"))
+    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content(mediaType = "application/json"))
+    public ResponseEntity<ProductImportJobResponseDto> importProducts(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format  // csv, ndjson (생략 시 확장자로 판단)
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(productImportService.start(file, format));
+    }
+
+    // 상품 일괄 가져오기 진행 상황 조회
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "상품 일괄 가져오기 진행 상황", description = "처리된 행 수와 성공/실패 건수를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductImportJobResponseDto.class)))
+    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content(mediaType = "application/json"))
+    public ResponseEntity<ProductImportJobResponseDto> getImportJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(productImportService.getJob(jobId));
+    }
+
+    // 상품 일괄 가져오기 실패 행 목록
+    @GetMapping("/import/{jobId}/errors")
+    @Operation(summary = "상품 일괄 가져오기 실패 행 조회", description = "실패한 행 번호와 사유를 행 번호 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json"))
+    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content(mediaType = "application/json"))
+    public ResponseEntity<Page<ProductImportErrorResponseDto>> getImportErrors(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(productImportService.getErrors(jobId, page, size));
+    }
+
+    // 중단된 상품 일괄 가져오기 재개 (마지막으로 커밋된 행 다음부터)
+    @PostMapping("/import/{jobId}/resume")
+    @Operation(summary = "상품 일괄 가져오기 재개", description = "실패했거나 서버 종료로 멈춘 작업을 마지막 커밋 지점부터 다시 처리합니다.")
+    @ApiResponse(responseCode = "202", description = "재개 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductImportJobResponseDto.class)))
+    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content(mediaType = "application/json"))
+    @ApiResponse(responseCode = "409", description = "이미 완료되었거나 처리 중인 작업", content = @Content(mediaType = "application/json"))
+    public ResponseEntity<ProductImportJobResponseDto> resumeImport(@PathVariable Long jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(productImportService.resume(jobId));
+    }
+
+
     // 상품 삭제 (관리자 전용, soft delete)
     @DeleteMapping("/{id}")
     @Operation(summary = "상품 삭제", description = "상품을 삭제합니다. (soft delete)")
@@ -1,5 +1,7 @@
 package com.team2.fitinside.product.controller;
 
+import com.team2.fitinside.global.metrics.QueryBudget;
+import com.team2.fitinside.product.dto.ProductPageResponseDto;
 import com.team2.fitinside.product.dto.ProductResponseDto;
 import com.team2.fitinside.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,10 +23,11 @@ public class ProductController {
 
 
     // 페이지네이션, 정렬, 검색을 적용한 상품 목록 조회
+    @QueryBudget(4)
     @GetMapping
     @Operation(summary = "상품 목록 조회", description = "등록된 모든 상품 목록을 페이지네이션, 정렬, 검색 기능과 함께 반환합니다.")
-    @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDto.class)))
-    public ResponseEntity<Page<ProductResponseDto>> getAllProducts(
+    @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductPageResponseDto.class)))
+    public ResponseEntity<ProductPageResponseDto> getAllProducts(
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "9") int size,
             @RequestParam(value = "sortField", defaultValue = "createdAt") String sortField,
@@ -32,14 +35,14 @@ public class ProductController {
             @RequestParam(value = "keyword", required = false) String keyword) {
 
         Page<ProductResponseDto> products = productService.getAllProducts(page, size, sortField, sortDir, keyword);
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(ProductPageResponseDto.from(products));
     }
 
     // 페이지네이션, 정렬, 검색을 적용한 상품 목록 조회
     @GetMapping("/byCategory")
     @Operation(summary = "상품 목록 조회", description = "등록된 모든 상품 목록을 페이지네이션, 정렬, 검색 기능과 함께 반환합니다.")
-    @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDto.class)))
-    public ResponseEntity<Page<ProductResponseDto>> getAllProductsByCategoryName(
+    @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductPageResponseDto.class)))
+    public ResponseEntity<ProductPageResponseDto> getAllProductsByCategoryName(
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "9") int size,
             @RequestParam(value = "sortField", defaultValue = "createdAt") String sortField,
@@ -47,7 +50,7 @@ public class ProductController {
             @RequestParam(value = "keyword", required = false) String keyword) {
 
         Page<ProductResponseDto> products = productService.getAllProductsByCategoryName(page, size, sortField, sortDir, keyword);
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(ProductPageResponseDto.from(products));
     }
 
 
@@ -55,8 +58,8 @@ public class ProductController {
     // 페이지네이션, 정렬, 검색을 적용한 특정 카테고리 상품 목록 조회
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "카테고리별 상품 목록 조회", description = "특정 카테고리의 상품 목록을 페이지네이션, 정렬, 검색 기능과 함께 반환합니다.")
-    @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponseDto.class)))
-    public ResponseEntity<Page<ProductResponseDto>> getProductsByCategory(
+    @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductPageResponseDto.class)))
+    public ResponseEntity<ProductPageResponseDto> getProductsByCategory(
             @PathVariable("categoryId") Long categoryId,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "9") int size,
@@ -65,7 +68,7 @@ public class ProductController {
             @RequestParam(value = "keyword", required = false) String keyword) {
 
         Page<ProductResponseDto> products = productService.getProductsByCategory(categoryId, page, size, sortField, sortDir, keyword);
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(ProductPageResponseDto.from(products));
     }
 
     // 상품 상세 조회
@@ -0,0 +1,14 @@
+package com.team2.fitinside.product.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class ImageUploadConfirmRequestDto {
+
+    private String key;  // 슬롯 발급 시 받은 키
+
+}
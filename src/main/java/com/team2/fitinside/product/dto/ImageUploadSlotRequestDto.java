@@ -0,0 +1,17 @@
+package com.team2.fitinside.product.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+// 저장소 직접 업로드 슬롯 발급 요청
+@Getter
+@Setter
+@ToString
+public class ImageUploadSlotRequestDto {
+
+    private String filename;     // 원본 파일명 (확장자 검사용)
+    private String contentType;  // image/jpeg, image/png, image/gif
+    private long size;           // 업로드할 바이트 수
+
+}
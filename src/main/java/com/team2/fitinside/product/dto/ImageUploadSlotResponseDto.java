@@ -0,0 +1,16 @@
+package com.team2.fitinside.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class ImageUploadSlotResponseDto {
+
+    private String key;          // 업로드 후 확인 요청에 그대로 전달
+    private String uploadUrl;    // 이 주소로 파일 바이트를 PUT
+    private String contentType;  // PUT 요청의 Content-Type 헤더 (서명에 포함되어 있어 다르면 거부됨)
+    private Instant expiresAt;   // 업로드 주소 만료 시각
+
+}
@@ -0,0 +1,18 @@
+package com.team2.fitinside.product.dto;
+
+import com.team2.fitinside.product.bulk.ProductImportError;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductImportErrorResponseDto {
+
+    private long rowNo;      // 데이터 행 번호 (CSV 헤더 제외, 1부터)
+    private String sku;
+    private String message;  // 실패 사유
+
+    public static ProductImportErrorResponseDto from(ProductImportError error) {
+        return new ProductImportErrorResponseDto(error.getRowNo(), error.getSku(), error.getMessage());
+    }
+}
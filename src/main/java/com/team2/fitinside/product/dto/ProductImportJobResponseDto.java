@@ -0,0 +1,31 @@
+package com.team2.fitinside.product.dto;
+
+import com.team2.fitinside.product.bulk.ProductImportFormat;
+import com.team2.fitinside.product.bulk.ProductImportJob;
+import com.team2.fitinside.product.bulk.ProductImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ProductImportJobResponseDto {
+
+    private Long id;                  // 작업 ID
+    private String originalFilename;  // 업로드한 파일명
+    private ProductImportFormat format;
+    private ProductImportStatus status;
+    private long committedRows;       // 커밋된 마지막 행 번호 (재개 시 다음 행부터 처리)
+    private long succeededRows;
+    private long failedRows;          // 행 단위 오류는 /errors 에서 조회
+    private String lastError;         // 작업 전체가 중단된 사유
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static ProductImportJobResponseDto from(ProductImportJob job) {
+        return new ProductImportJobResponseDto(job.getId(), job.getOriginalFilename(), job.getFormat(), job.getStatus(),
+                job.getCommittedRows(), job.getSucceededRows(), job.getFailedRows(), job.getLastError(),
+                job.getCreatedAt(), job.getUpdatedAt(), job.getFinishedAt());
+    }
+}
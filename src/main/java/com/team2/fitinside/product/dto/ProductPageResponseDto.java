@@ -0,0 +1,27 @@
+package com.team2.fitinside.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+// 상품 목록 페이지 응답 (PageImpl 의 pageable, sort 등 중복 필드 제외)
+// 필드 이름은 기존 Page 직렬화 결과와 같게 유지 (프론트 호환)
+@Getter
+@AllArgsConstructor
+public class ProductPageResponseDto {
+
+    private List<ProductResponseDto> content;
+    private int number;           // 현재 페이지 (0부터 시작)
+    private int size;             // 페이지 크기
+    private long totalElements;   // 전체 상품 수
+    private int totalPages;       // 전체 페이지 수
+    private boolean first;
+    private boolean last;
+
+    public static ProductPageResponseDto from(Page<ProductResponseDto> page) {
+        return new ProductPageResponseDto(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast());
+    }
+}
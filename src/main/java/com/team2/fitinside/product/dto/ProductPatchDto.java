@@ -0,0 +1,27 @@
+package com.team2.fitinside.product.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import java.util.List;
+
+// 부분 수정 요청 (null 인 필드는 변경하지 않음)
+@Getter
+@Setter
+@ToString
+public class ProductPatchDto {
+
+    private String categoryName;
+    private String productName;
+    private Integer price;
+    private String info;
+    private Integer stock;
+    private String manufacturer;
+
+    // 이미 업로드된 이미지 URL 을 목록 끝에 추가
+    private List<String> addProductImgUrls;
+    private List<String> removeProductImgUrls;
+    private List<String> addProductDescImgUrls;
+    private List<String> removeProductDescImgUrls;
+
+}
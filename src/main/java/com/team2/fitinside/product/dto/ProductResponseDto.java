@@ -10,6 +10,7 @@ import java.util.List;
 public class ProductResponseDto {
 
     private Long id;                 // 상품 ID
+    private String sku;              // 공급사 상품 코드
     private Long categoryId;         // 카테고리 ID
     private String categoryName;     // 카테고리 이름
     private String productName;      // 상품명
@@ -2,13 +2,16 @@ package com.team2.fitinside.product.entity;
 
 
 import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.global.cache.CatalogChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Entity
@@ -17,8 +20,15 @@ import java.util.List;
 @Getter
 @Builder
 @ToString
-@Table(name = "product")
-@EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_deleted_created", columnList = "is_deleted, created_at"),
+        @Index(name = "idx_product_category_deleted", columnList = "category_id, is_deleted, created_at"),
+        @Index(name = "idx_product_updated_at", columnList = "updated_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_sku", columnNames = "sku")
+})
+@EntityListeners({AuditingEntityListener.class, CatalogChangeListener.class})
 public class Product {
 
     @Id
@@ -26,6 +36,10 @@ public class Product {
     @Column(name = "product_id")
     private Long id;
 
+    // 공급사 상품 코드 (일괄 가져오기 시 등록/수정 판단 기준, 직접 등록한 상품은 null)
+    @Column(name = "sku", length = 64)
+    private String sku;
+
     // 카테고리와의 다대일 관계 (ManyToOne)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
@@ -52,15 +66,17 @@ public class Product {
     @Column(name = "manufacturer", length = 100)
     private String manufacturer;
 
-    // 이미지 ID 목록을 저장하는 필드
+    // 이미지 ID 목록을 저장하는 필드 (순서 컬럼으로 추가/삭제 시 바뀐 행만 반영)
     @ElementCollection
     @CollectionTable(name = "product_img_urls", joinColumns = @JoinColumn(name = "product_id"))
+    @OrderColumn(name = "img_order")
     @Column(name = "product_img_url")
     private List<String> productImgUrls = new ArrayList<>();
 
     // 상품 설명 이미지 URL 목록을 저장하는 필드
     @ElementCollection
     @CollectionTable(name = "product_desc_img_urls", joinColumns = @JoinColumn(name = "product_id"))
+    @OrderColumn(name = "img_order")
     @Column(name = "product_desc_img_url")
     private List<String> productDescImgUrls = new ArrayList<>();
 
@@ -76,6 +92,11 @@ public class Product {
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted;
 
+    // 낙관적 락 버전 (HTTP 캐시 ETag 계산에도 사용)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         this.isDeleted = false;
@@ -89,6 +110,72 @@ public class Product {
         this.isSoldOut = (this.stock == 0); // 재고가 0이면 품절 상태로 설정
     }
 
+    // 상품 정보 수정 (영속 상태의 상품을 직접 변경)
+    public void updateDetails(String productName, int price, String info, int stock, String manufacturer) {
+        this.productName = productName;
+        this.price = price;
+        this.info = info;
+        this.manufacturer = manufacturer;
+        setStock(stock);
+    }
+
+    public void changeProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public void changePrice(int price) {
+        this.price = price;
+    }
+
+    public void changeInfo(String info) {
+        this.info = info;
+    }
+
+    public void changeManufacturer(String manufacturer) {
+        this.manufacturer = manufacturer;
+    }
+
+    // 이미지 목록 끝에 추가 (기존 행은 그대로, 새 행만 INSERT)
+    public void appendProductImgUrls(List<String> imgUrls) {
+        this.productImgUrls.addAll(imgUrls);
+    }
+
+    public void appendProductDescImgUrls(List<String> imgUrls) {
+        this.productDescImgUrls.addAll(imgUrls);
+    }
+
+    // 목록에 실제로 있던 URL 만 제거하고 제거된 URL 반환
+    public List<String> removeProductImgUrls(Collection<String> imgUrls) {
+        return removeFrom(this.productImgUrls, imgUrls);
+    }
+
+    public List<String> removeProductDescImgUrls(Collection<String> imgUrls) {
+        return removeFrom(this.productDescImgUrls, imgUrls);
+    }
+
+    // 삭제된 상품은 대표 이미지만 유지하고 나머지 이미지 URL 반환
+    public List<String> releaseImagesExceptThumbnail() {
+        List<String> released = new ArrayList<>();
+        if (this.productImgUrls.size() > 1) {
+            List<String> rest = this.productImgUrls.subList(1, this.productImgUrls.size());
+            released.addAll(rest);
+            rest.clear();
+        }
+        released.addAll(this.productDescImgUrls);
+        this.productDescImgUrls.clear();
+        return released;
+    }
+
+    private static List<String> removeFrom(List<String> source, Collection<String> imgUrls) {
+        List<String> removed = new ArrayList<>();
+        for (String imgUrl : imgUrls) {
+            if (source.remove(imgUrl)) {
+                removed.add(imgUrl);
+            }
+        }
+        return removed;
+    }
+
     // 카테고리를 설정하는 메서드
     public void setCategory(Category category) {
         this.category = category;
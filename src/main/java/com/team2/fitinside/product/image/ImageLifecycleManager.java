@@ -0,0 +1,156 @@
+package com.team2.fitinside.product.image;
+
+import com.team2.fitinside.global.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// S3 이미지 삭제 대기열
+// 서비스는 트랜잭션 안에서 삭제할 URL 만 넘기고, 커밋이 확정된 뒤 전용 스레드가 모아서 다중 객체 삭제 요청으로 처리
+// 롤백되면 삭제하지 않고, 반대로 트랜잭션 안에서 새로 올린 이미지는 롤백 시 삭제
+// 삭제에 실패한 이미지는 OrphanImageSweeper 가 나중에 회수
+@Slf4j
+@Component
+public class ImageLifecycleManager implements DisposableBean {
+
+    private final S3ImageService s3ImageService;
+    private final ThreadPoolTaskExecutor executor;
+    private final ConcurrentLinkedQueue<String> pendingKeys = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    @Value("${fitinside.image.delete-batch-size:1000}")
+    private int deleteBatchSize = 1000;
+
+    public ImageLifecycleManager(S3ImageService s3ImageService, MeterRegistry meterRegistry,
+                                 ThreadPoolTaskExecutorBuilder executorBuilder) {
+        this.s3ImageService = s3ImageService;
+        this.executor = executorBuilder
+                .corePoolSize(1)
+                .maxPoolSize(1)
+                .threadNamePrefix("fitinside-image-delete-")
+                .build();
+        this.executor.initialize();
+        this.deletedCounter = deleteCounter(meterRegistry, "deleted");
+        this.failedCounter = deleteCounter(meterRegistry, "failed");
+    }
+
+    // 커밋 후 삭제 (트랜잭션 밖에서 호출되면 바로 대기열에 추가)
+    public void deleteAfterCommit(Collection<String> imageUrls) {
+        List<String> urls = imageUrls.stream().filter(Objects::nonNull).toList();
+        if (!urls.isEmpty()) {
+            AfterCommit.run(() -> enqueue(urls));
+        }
+    }
+
+    public void deleteAfterCommit(String imageUrl) {
+        if (imageUrl != null) {
+            deleteAfterCommit(List.of(imageUrl));
+        }
+    }
+
+    // 트랜잭션 안에서 업로드한 이미지는 롤백되면 참조하는 행이 없으므로 삭제
+    public void discardOnRollback(Collection<String> imageUrls) {
+        List<String> urls = imageUrls.stream().filter(Objects::nonNull).toList();
+        if (urls.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    enqueue(urls);
+                }
+            }
+        });
+    }
+
+    public void discardOnRollback(String imageUrl) {
+        if (imageUrl != null) {
+            discardOnRollback(List.of(imageUrl));
+        }
+    }
+
+    // 고아 이미지 회수 등 이미 키를 알고 있는 경우
+    public void deleteKeys(Collection<String> keys) {
+        pendingKeys.addAll(keys);
+        scheduleFlush();
+    }
+
+    private void enqueue(List<String> urls) {
+        for (String url : urls) {
+            try {
+                pendingKeys.add(s3ImageService.keyOf(url));
+            } catch (RuntimeException e) {
+                log.warn("S3 이미지 URL 이 아니어서 삭제하지 않음: {}", url);
+            }
+        }
+        scheduleFlush();
+    }
+
+    // 여러 번 추가되어도 실행은 한 번만 예약 (실행 중 추가된 키는 다음 실행에서 처리)
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+    }
+
+    void flush() {
+        flushScheduled.set(false);
+        List<String> batch = new ArrayList<>(deleteBatchSize);
+        String key;
+        while ((key = pendingKeys.poll()) != null) {
+            batch.add(key);
+            if (batch.size() >= deleteBatchSize) {
+                deleteBatch(batch);
+                batch.clear();
+            }
+        }
+        deleteBatch(batch);
+    }
+
+    private void deleteBatch(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            int failed = s3ImageService.deleteImagesFromS3(keys);
+            deletedCounter.increment(keys.size() - failed);
+            failedCounter.increment(failed);
+            if (failed > 0) {
+                log.warn("S3 이미지 {}개 중 {}개 삭제 실패 (고아 이미지 회수에서 다시 처리)", keys.size(), failed);
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment(keys.size());
+            log.warn("S3 이미지 {}개 삭제 요청 실패 (고아 이미지 회수에서 다시 처리)", keys.size(), e);
+        }
+    }
+
+    private static Counter deleteCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("fitinside.image.deletes")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 종료 전에 남은 삭제 요청 처리
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        flush();
+    }
+}
@@ -0,0 +1,136 @@
+package com.team2.fitinside.product.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+// 어떤 행에서도 참조하지 않는 S3 이미지 회수 (mark-and-sweep)
+// mark: 상품/상품 설명/카테고리/배너 이미지 URL 을 키의 64비트 지문 정렬 배열로 적재 (URL 문자열을 모두 들고 있지 않음)
+// sweep: 이 애플리케이션이 쓰는 접두사(images/, uploads/)만 페이지 단위로 훑어 지문이 없고 유예 시간보다 오래된 객체를 ImageLifecycleManager 로 삭제
+// 같은 버킷의 다른 객체(정적 리소스, 접두사 도입 전 이미지 등)는 조회하지 않음
+// 기본은 dry-run (개수만 기록). 실제 버킷에서 결과를 확인한 뒤 gc-dry-run: false 로 전환
+// 지문 충돌은 "참조 중" 으로만 판정되므로 참조 중인 이미지를 지우지는 않음
+// 유예 시간은 업로드 후 아직 저장되지 않은 이미지(상품 등록 전 업로드, 가져오기 청크 처리 중 등)를 보호
+@Slf4j
+@Component
+public class OrphanImageSweeper {
+
+    private static final List<String> REFERENCE_QUERIES = List.of(
+            "SELECT product_img_url FROM product_img_urls WHERE product_img_url IS NOT NULL",
+            "SELECT product_desc_img_url FROM product_desc_img_urls WHERE product_desc_img_url IS NOT NULL",
+            "SELECT image_url FROM category WHERE image_url IS NOT NULL",
+            "SELECT image_url FROM banner WHERE image_url IS NOT NULL");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final S3ImageService s3ImageService;
+    private final ImageLifecycleManager imageLifecycleManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fitinside.image.gc-enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${fitinside.image.gc-dry-run:true}")
+    private boolean dryRun = true;
+
+    @Value("${fitinside.image.gc-grace:PT24H}")
+    private Duration grace = Duration.ofHours(24);
+
+    public OrphanImageSweeper(JdbcTemplate jdbcTemplate, S3ImageService s3ImageService,
+                              ImageLifecycleManager imageLifecycleManager, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.s3ImageService = s3ImageService;
+        this.imageLifecycleManager = imageLifecycleManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${fitinside.image.gc-interval:PT24H}",
+            initialDelayString = "${fitinside.image.gc-initial-delay:PT1H}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Instant cutoff = Instant.now().minus(grace);
+            long[] referenced = markReferenced();
+
+            List<String> orphans = new ArrayList<>();
+            for (String prefix : S3ImageService.MANAGED_PREFIXES) {
+                s3ImageService.forEachStoredImage(prefix, object -> {
+                    Date lastModified = object.getLastModified();
+                    if (lastModified != null && lastModified.toInstant().isBefore(cutoff)
+                            && Arrays.binarySearch(referenced, fingerprint(object.getKey())) < 0) {
+                        orphans.add(object.getKey());
+                    }
+                });
+            }
+
+            Counter.builder("fitinside.image.gc.orphans")
+                    .tag("dry_run", String.valueOf(dryRun))
+                    .register(meterRegistry)
+                    .increment(orphans.size());
+            if (dryRun) {
+                log.info("고아 이미지 회수 (dry-run): 참조 {}개, 삭제 대상 {}개 (삭제하지 않음)", referenced.length, orphans.size());
+                return;
+            }
+            if (!orphans.isEmpty()) {
+                imageLifecycleManager.deleteKeys(orphans);
+            }
+            log.info("고아 이미지 회수: 참조 {}개, 삭제 요청 {}개", referenced.length, orphans.size());
+        } catch (RuntimeException e) {
+            log.warn("고아 이미지 회수 실패", e);
+        }
+    }
+
+    long[] markReferenced() {
+        LongArray fingerprints = new LongArray();
+        for (String query : REFERENCE_QUERIES) {
+            jdbcTemplate.query(query, rs -> {
+                try {
+                    fingerprints.add(fingerprint(s3ImageService.keyOf(rs.getString(1))));
+                } catch (RuntimeException e) {
+                    // 외부 URL 등 버킷 키로 바꿀 수 없는 값은 건너뜀
+                }
+            });
+        }
+        long[] sorted = fingerprints.toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // FNV-1a 64비트
+    static long fingerprint(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static final class LongArray {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.team2.fitinside.product.image;
 
+import com.team2.fitinside.product.dto.ImageUploadConfirmRequestDto;
+import com.team2.fitinside.product.dto.ImageUploadSlotRequestDto;
+import com.team2.fitinside.product.dto.ImageUploadSlotResponseDto;
 import io.swagger.v3.oas.annotations.Parameter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -33,6 +36,23 @@ public class S3ImageController {
         return ResponseEntity.ok(imageUrl);
     }
 
+    // 직접 업로드 슬롯 발급 (파일은 응답의 uploadUrl 로 저장소에 바로 PUT)
+    @PostMapping("/upload-slots")
+    @Operation(summary = "이미지 직접 업로드 주소 발급", description = "저장소에 파일을 바로 올릴 수 있는 presigned PUT 주소를 발급합니다. 업로드 후 /api/images/confirm 으로 확인해야 이미지 URL 을 사용할 수 있습니다.")
+    @ApiResponse(responseCode = "200", description = "업로드 주소 발급 성공")
+    public ResponseEntity<ImageUploadSlotResponseDto> createUploadSlot(@RequestBody ImageUploadSlotRequestDto requestDto) {
+        return ResponseEntity.ok(s3ImageService.createUploadSlot(
+                requestDto.getFilename(), requestDto.getContentType(), requestDto.getSize()));
+    }
+
+    // 직접 업로드 확인 (업로드 방식과 같이 이미지 URL 반환)
+    @PostMapping("/confirm")
+    @Operation(summary = "이미지 직접 업로드 확인", description = "저장소에 올라간 파일의 크기와 형식을 확인하고 이미지 URL 을 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "업로드 확인 성공")
+    public ResponseEntity<String> confirmUpload(@RequestBody ImageUploadConfirmRequestDto requestDto) {
+        return ResponseEntity.ok(s3ImageService.confirmUpload(requestDto.getKey()));
+    }
+
     // 이미지 삭제
     @DeleteMapping("/delete")
     @Operation(summary = "이미지 삭제", description = "S3 버킷에서 이미지를 삭제합니다.")
@@ -1,26 +1,42 @@
 package com.team2.fitinside.product.image;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.util.IOUtils;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.global.util.HashUtils;
+import com.team2.fitinside.product.dto.ImageUploadSlotResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import static com.team2.fitinside.global.exception.ErrorCode.*;
 
@@ -28,11 +44,31 @@ import static com.team2.fitinside.global.exception.ErrorCode.*;
 @Component
 public class S3ImageService {
 
+    // 이 애플리케이션이 쓰는 키 접두사 (서버 경유 업로드 / 저장소 직접 업로드). 고아 이미지 회수는 이 범위만 조회
+    public static final String IMAGE_PREFIX = "images/";
+    public static final String UPLOAD_PREFIX = "uploads/";
+    // 상품 가져오기로 받은 외부 이미지 (images/ 아래라 고아 이미지 회수 대상에 포함)
+    public static final String IMPORT_PREFIX = IMAGE_PREFIX + "import/";
+    public static final List<String> MANAGED_PREFIXES = List.of(IMAGE_PREFIX, UPLOAD_PREFIX);
+
+    private static final List<String> ALLOWED_CONTENT_TYPES = List.of("image/jpeg", "image/png", "image/gif");
+    // 직접 업로드 키 형식 (슬롯 발급 시 만든 키만 확인 가능)
+    private static final Pattern UPLOAD_KEY_PATTERN =
+            Pattern.compile("uploads/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\.(jpg|jpeg|png|gif)");
+
     private final AmazonS3 amazonS3;
 
     @Value("${cloud.aws.s3.bucketName}")
     private String bucketName;
 
+    private volatile String bucketUrlPrefix;
+
+    @Value("${fitinside.image.upload-url-ttl:PT10M}")
+    private Duration uploadUrlTtl = Duration.ofMinutes(10);
+
+    @Value("${fitinside.image.upload-max-size:10MB}")
+    private DataSize uploadMaxSize = DataSize.ofMegabytes(10);
+
     public String upload(MultipartFile image) {
         if (image.isEmpty() || Objects.isNull(image.getOriginalFilename())) {
             throw new CustomException(EMPTY_FILE_EXCEPTION);
@@ -63,17 +99,145 @@ public class S3ImageService {
         }
     }
 
+    // 외부 이미지 키 (상품 일괄 가져오기): 원본 URL 해시로 고정해 같은 URL 은 피드를 다시 받아도 같은 객체를 사용
+    // 공급사가 같은 URL 의 이미지 내용만 바꾼 경우는 반영되지 않음
+    public String importKey(String sourceUrl, String originalFilename) {
+        if (Objects.isNull(originalFilename)) {
+            throw new CustomException(EMPTY_FILE_EXCEPTION);
+        }
+        this.validateImageFileExtension(originalFilename);
+        String extension = originalFilename.substring(originalFilename.lastIndexOf(".") + 1).toLowerCase();
+        return IMPORT_PREFIX + HashUtils.sha256Hex(sourceUrl) + "." + extension;
+    }
+
+    // 이미 올라간 객체면 URL, 없으면 null
+    public String findStoredImage(String key) {
+        try {
+            return amazonS3.doesObjectExist(bucketName, key) ? amazonS3.getUrl(bucketName, key).toString() : null;
+        } catch (Exception e) {
+            throw new CustomException(IO_EXCEPTION_ON_IMAGE_UPLOAD);
+        }
+    }
+
+    // importKey 로 만든 키에 외부에서 내려받은 이미지 업로드
+    public String uploadImported(byte[] bytes, String key) {
+        if (bytes.length == 0) {
+            throw new CustomException(EMPTY_FILE_EXCEPTION);
+        }
+        String extension = key.substring(key.lastIndexOf(".") + 1);
+        try {
+            return this.putObject(bytes, key, "image/" + ("jpg".equals(extension) ? "jpeg" : extension));
+        } catch (IOException e) {
+            throw new CustomException(IO_EXCEPTION_ON_IMAGE_UPLOAD);
+        }
+    }
+
+    // 이미 이 버킷에 올라간 이미지 URL 인지 확인
+    public boolean isStoredImage(String imageUrl) {
+        return imageUrl != null && imageUrl.startsWith(bucketUrlPrefix());
+    }
+
+    // 버킷 URL 접두사 (가상 호스트 방식: https://fitinside.s3.ap-northeast-2.amazonaws.com/,
+    // 경로 방식: http://localhost:9000/fitinside/). 클라이언트 설정에 따라 고정이므로 한 번만 계산
+    private String bucketUrlPrefix() {
+        String prefix = bucketUrlPrefix;
+        if (prefix == null) {
+            prefix = amazonS3.getUrl(bucketName, "").toString();
+            bucketUrlPrefix = prefix;
+        }
+        return prefix;
+    }
+
+    // 저장소 직접 업로드 슬롯 발급: 파일 바이트는 서버를 거치지 않고 클라이언트가 presigned URL 로 바로 PUT
+    // 업로드된 객체는 confirmUpload 전까지 공개되지 않음
+    public ImageUploadSlotResponseDto createUploadSlot(String filename, String contentType, long size) {
+        if (size <= 0 || Objects.isNull(filename)) {
+            throw new CustomException(EMPTY_FILE_EXCEPTION);
+        }
+        this.validateImageFileExtension(filename);
+        if (!ALLOWED_CONTENT_TYPES.contains(contentType)) {
+            throw new CustomException(INVALID_FILE_FORMAT);
+        }
+        if (size > uploadMaxSize.toBytes()) {
+            throw new CustomException(IMAGE_SIZE_EXCEEDED);
+        }
+
+        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
+        String key = UPLOAD_PREFIX + UUID.randomUUID() + "." + extension;
+        Instant expiresAt = Instant.now().plus(uploadUrlTtl);
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        try {
+            String uploadUrl = amazonS3.generatePresignedUrl(request).toString();
+            return new ImageUploadSlotResponseDto(key, uploadUrl, contentType, expiresAt);
+        } catch (Exception e) {
+            throw new CustomException(PUT_OBJECT_EXCEPTION);
+        }
+    }
+
+    // 직접 업로드 확인: HEAD 로 크기/형식을 검증하고 통과하면 공개 후 이미지 URL 반환
+    // 검증에 실패한 객체는 바로 삭제 (확인 요청이 오지 않은 객체는 OrphanImageSweeper 가 회수)
+    public String confirmUpload(String key) {
+        if (key == null || !UPLOAD_KEY_PATTERN.matcher(key).matches()) {
+            throw new CustomException(INVALID_UPLOAD_KEY);
+        }
+
+        ObjectMetadata metadata;
+        try {
+            metadata = amazonS3.getObjectMetadata(bucketName, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new CustomException(UPLOADED_IMAGE_NOT_FOUND);
+            }
+            throw new CustomException(IO_EXCEPTION_ON_IMAGE_UPLOAD);
+        }
+
+        if (metadata.getContentLength() <= 0) {
+            rejectUpload(key, EMPTY_FILE_EXCEPTION);
+        }
+        if (metadata.getContentLength() > uploadMaxSize.toBytes()) {
+            rejectUpload(key, IMAGE_SIZE_EXCEEDED);
+        }
+        if (!ALLOWED_CONTENT_TYPES.contains(metadata.getContentType())) {
+            rejectUpload(key, INVALID_FILE_FORMAT);
+        }
+
+        try {
+            amazonS3.setObjectAcl(bucketName, key, CannedAccessControlList.PublicRead);
+        } catch (Exception e) {
+            throw new CustomException(PUT_OBJECT_EXCEPTION);
+        }
+        return amazonS3.getUrl(bucketName, key).toString();
+    }
+
+    private void rejectUpload(String key, ErrorCode errorCode) {
+        try {
+            amazonS3.deleteObject(new DeleteObjectRequest(bucketName, key));
+        } catch (Exception ignored) {
+            // 지우지 못해도 공개되지 않은 상태로 남고, 고아 이미지 회수에서 삭제됨
+        }
+        throw new CustomException(errorCode);
+    }
+
     private String uploadImageToS3(MultipartFile image) throws IOException {
-        String originalFilename = image.getOriginalFilename(); // 원본 파일 명
+        try (InputStream is = image.getInputStream()) {
+            return putObject(IOUtils.toByteArray(is), image.getOriginalFilename());
+        }
+    }
+
+    private String putObject(byte[] bytes, String originalFilename) throws IOException {
         String extension = originalFilename.substring(originalFilename.lastIndexOf(".")); // 확장자 명
 
-        String s3FileName = UUID.randomUUID().toString().substring(0, 10) + originalFilename; // 변경된 파일 명
+        String s3FileName = IMAGE_PREFIX + UUID.randomUUID().toString().substring(0, 10) + originalFilename; // 변경된 파일 명
 
-        InputStream is = image.getInputStream();
-        byte[] bytes = IOUtils.toByteArray(is);
+        return putObject(bytes, s3FileName, "image/" + extension);
+    }
 
+    private String putObject(byte[] bytes, String s3FileName, String contentType) throws IOException {
         ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType("image/" + extension);
+        metadata.setContentType(contentType);
         metadata.setContentLength(bytes.length);
         ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
 
@@ -86,14 +250,13 @@ public class S3ImageService {
             throw new CustomException(PUT_OBJECT_EXCEPTION);
         } finally {
             byteArrayInputStream.close();
-            is.close();
         }
 
         return amazonS3.getUrl(bucketName, s3FileName).toString();
     }
 
     public void deleteImageFromS3(String imageAddress) {
-        String key = getKeyFromImageAddress(imageAddress);
+        String key = keyOf(imageAddress);
         try {
             amazonS3.deleteObject(new DeleteObjectRequest(bucketName, key));
         } catch (Exception e) {
@@ -101,13 +264,44 @@ public class S3ImageService {
         }
     }
 
-    private String getKeyFromImageAddress(String imageAddress) {
+    // 여러 이미지를 한 번의 요청으로 삭제 (S3 는 요청당 최대 1000개). 삭제하지 못한 개수 반환
+    public int deleteImagesFromS3(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(true);
         try {
-            URL url = new URL(imageAddress);
-            String decodingKey = URLDecoder.decode(url.getPath(), "UTF-8");
-            return decodingKey.substring(1); // 맨 앞의 '/' 제거
-        } catch (MalformedURLException | UnsupportedEncodingException e) {
+            amazonS3.deleteObjects(request);
+            return 0;
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().size();
+        } catch (Exception e) {
+            throw new CustomException(IO_EXCEPTION_ON_IMAGE_DELETE);
+        }
+    }
+
+    // 접두사 아래 객체를 페이지 단위(최대 1000개)로 조회
+    public void forEachStoredImage(String prefix, Consumer<S3ObjectSummary> action) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix);
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3.listObjectsV2(request);
+            result.getObjectSummaries().forEach(action);
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
+    // 이미지 URL -> S3 객체 키
+    // URL 경로가 아니라 버킷 URL 접두사를 떼어내야 경로 방식 주소(S3 호환 저장소)에서도 버킷 이름이 키에 섞이지 않음
+    // 호출 지표 AOP 대상에서 제외 (ExternalCallMetricsAspect), 대량 변환용
+    public String keyOf(String imageAddress) {
+        if (!isStoredImage(imageAddress)) {
             throw new CustomException(IO_EXCEPTION_ON_IMAGE_DELETE);
         }
+        return URLDecoder.decode(imageAddress.substring(bucketUrlPrefix().length()), StandardCharsets.UTF_8);
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,6 +26,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND p.categoryName LIKE %:keyword%")
     Page<Product> searchByCategoryNameAndIsDeletedFalse(@Param("keyword") String keyword, Pageable pageable);
 
+    // 삭제되지 않은 상품 중 주어진 카테고리 id 목록에 속한 상품 조회 (category_id 인덱스 사용)
+    @Query("SELECT p FROM Product p WHERE p.isDeleted = false AND p.category.id IN :categoryIds")
+    Page<Product> findByCategoryIdInAndIsDeletedFalse(@Param("categoryIds") Collection<Long> categoryIds, Pageable pageable);
+
     // 삭제되지 않은 특정 카테고리의 상품 중 이름에 키워드가 포함된 상품 검색
     @Query("SELECT p FROM Product p WHERE (p.isDeleted = false) AND p.category = :category AND (p.productName LIKE %:keyword% )")
     Page<Product> searchByKeywordAndCategoryAndIsDeletedFalse(@Param("category") Category category, @Param("keyword") String keyword, Pageable pageable);
@@ -1,16 +1,20 @@
 package com.team2.fitinside.product.service;
 
 import com.team2.fitinside.product.dto.ProductCreateDto;
+import com.team2.fitinside.product.dto.ProductPatchDto;
 import com.team2.fitinside.product.dto.ProductResponseDto;
 import com.team2.fitinside.product.dto.ProductUpdateDto;
 import com.team2.fitinside.product.entity.Product;
 import com.team2.fitinside.global.exception.CustomException;
 import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.product.image.ImageLifecycleManager;
 import com.team2.fitinside.product.image.S3ImageService;
 import com.team2.fitinside.product.mapper.ProductMapper;
 import com.team2.fitinside.product.repository.ProductRepository;
 import com.team2.fitinside.category.repository.CategoryRepository;
 import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.category.service.CategoryTreeCache;
+import com.team2.fitinside.global.retry.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +26,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 
 @Service
@@ -31,9 +36,12 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final S3ImageService s3ImageService;
+    private final ImageLifecycleManager imageLifecycleManager;
+    private final CategoryTreeCache categoryTreeCache;
 //    private final String DEFAULT_IMAGE_URL = "https://dummyimage.com/100x100";
 
     // 페이지네이션, 정렬, 검색을 적용한 상품 전체 목록 조회
+    @Transactional(readOnly = true)
     public Page<ProductResponseDto> getAllProducts(int page, int size, String sortField, String sortDir, String keyword) {
         Sort sort = Sort.by(sortField);
         sort = sortDir.equalsIgnoreCase("asc") ? sort.ascending() : sort.descending();
@@ -49,13 +57,19 @@ public class ProductService {
     }
 
     // 페이지네이션, 정렬, 카테고리 이름을 적용한 상품 목록 조회
+    @Transactional(readOnly = true)
     public Page<ProductResponseDto> getAllProductsByCategoryName(int page, int size, String sortField, String sortDir, String categoryName) {
         Sort sort = Sort.by(sortField);
         sort = sortDir.equalsIgnoreCase("asc") ? sort.ascending() : sort.descending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
         if (categoryName != null && !categoryName.isEmpty()) {
-            return productRepository.searchByCategoryNameAndIsDeletedFalse(categoryName, pageable)
+            // 카테고리 트리에서 이름이 일치하는 카테고리와 하위 카테고리 id를 찾아 조회 (카테고리 이름 변경 시에도 결과 유지)
+            Set<Long> categoryIds = categoryTreeCache.findIdsWithDescendantsByNameContaining(categoryName);
+            if (categoryIds.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            return productRepository.findByCategoryIdInAndIsDeletedFalse(categoryIds, pageable)
                     .map(ProductMapper.INSTANCE::toDto);
         } else {
             return productRepository.findByIsDeletedFalse(pageable)
@@ -64,6 +78,7 @@ public class ProductService {
     }
 
     // 페이지네이션, 정렬, 검색을 적용한 카테고리별 상품 목록 조회
+    @Transactional(readOnly = true)
     public Page<ProductResponseDto> getProductsByCategory(Long categoryId, int page, int size, String sortField, String sortDir, String keyword) {
         Sort sort = Sort.by(sortField);
         sort = sortDir.equalsIgnoreCase("asc") ? sort.ascending() : sort.descending();
@@ -82,6 +97,7 @@ public class ProductService {
     }
 
     // 상품 상세 조회
+    @Transactional(readOnly = true)
     public ProductResponseDto findProductById(Long id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -168,48 +184,99 @@ public class ProductService {
         Product existingProduct = productRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        // 업데이트할 상품 정보로 변환
-        Product updatedProduct = ProductMapper.INSTANCE.toEntity(id, productUpdateDto);
-
         // categoryName을 통해 categoryId 조회
         Category category = categoryRepository.findByNameAndIsDeletedFalse(productUpdateDto.getCategoryName())
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
-        updatedProduct.setCategory(category);
 
         // 상품 이미지 업로드 전 파일 형식 검증
         validateImageTypes(productImages);
         validateImageTypes(productDescImages);
 
+        // 영속 상태의 상품을 직접 수정 (@Version 으로 동시 수정 감지, 재고에 따라 품절 여부 자동 설정)
+        existingProduct.updateDetails(productUpdateDto.getProductName(), productUpdateDto.getPrice(),
+                productUpdateDto.getInfo(), productUpdateDto.getStock() != null ? productUpdateDto.getStock() : 0,
+                productUpdateDto.getManufacturer());
+        existingProduct.setCategory(category);
+
         // S3 상품 이미지 업데이트 처리 (기존 이미지 유지하면서 새로운 이미지 추가)
-        List<String> productImageUrls = new ArrayList<>(existingProduct.getProductImgUrls()); // 기존 이미지 복사
-        List<String> newProductImageUrls = uploadImages(productImages); // 새로운 이미지 업로드
-        if (!newProductImageUrls.isEmpty()) {
-            productImageUrls.addAll(newProductImageUrls); // 새로운 이미지 추가
-        }
+        existingProduct.getProductImgUrls().addAll(uploadImages(productImages));
 
         // S3 상품 설명 이미지 업데이트 처리 (기존 설명 이미지 유지하면서 새로운 설명 이미지 추가)
-        List<String> productDescImageUrls = new ArrayList<>(existingProduct.getProductDescImgUrls()); // 기존 설명 이미지 복사
-        List<String> newProductDescImageUrls = uploadImages(productDescImages); // 새로운 설명 이미지 업로드
-        if (!newProductDescImageUrls.isEmpty()) {
-            productDescImageUrls.addAll(newProductDescImageUrls); // 새로운 설명 이미지 추가
+        existingProduct.getProductDescImgUrls().addAll(uploadImages(productDescImages));
+
+        // DTO로 변환하여 반환
+        return ProductMapper.INSTANCE.toDto(existingProduct);
+    }
+
+    // 상품 부분 수정 (요청에 포함된 필드만 영속 상품에 반영, @DynamicUpdate 로 바뀐 컬럼만 UPDATE)
+    @RetryOnConflict
+    @Transactional
+    public ProductResponseDto patchProduct(Long id, ProductPatchDto patchDto) {
+
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        if (patchDto.getProductName() != null) {
+            if (patchDto.getProductName().length() > 100) {
+                throw new CustomException(ErrorCode.INVALID_PRODUCT_NAME_LENGTH);
+            }
+            product.changeProductName(patchDto.getProductName());
         }
 
-        // 업데이트된 이미지 URL 설정
-        updatedProduct.setProductImgUrls(productImageUrls);
-        updatedProduct.setProductDescImgUrls(productDescImageUrls);
+        if (patchDto.getPrice() != null) {
+            if (patchDto.getPrice() < 0) {
+                throw new CustomException(ErrorCode.INVALID_PRODUCT_PRICE);
+            }
+            product.changePrice(patchDto.getPrice());
+        }
 
-        // **재고에 따른 품절 여부 수동 설정**
-        if (updatedProduct.getStock() == 0) {
-            updatedProduct.setIsSoldOut(true); // 재고가 0일 경우 품절로 설정
-        } else {
-            updatedProduct.setIsSoldOut(false); // 재고가 있을 경우 품절 해제
+        if (patchDto.getInfo() != null) {
+            if (patchDto.getInfo().length() > 500) {
+                throw new CustomException(ErrorCode.INVALID_PRODUCT_INFO_LENGTH);
+            }
+            product.changeInfo(patchDto.getInfo());
         }
 
-        // 상품 저장
-        Product savedProduct = productRepository.save(updatedProduct);
+        if (patchDto.getManufacturer() != null) {
+            if (patchDto.getManufacturer().length() > 100) {
+                throw new CustomException(ErrorCode.INVALID_MANUFACTURER_LENGTH);
+            }
+            product.changeManufacturer(patchDto.getManufacturer());
+        }
 
-        // DTO로 변환하여 반환
-        return ProductMapper.INSTANCE.toDto(savedProduct);
+        if (patchDto.getStock() != null) {
+            if (patchDto.getStock() < 0) {
+                throw new CustomException(ErrorCode.INVALID_PRODUCT_DATA);
+            }
+            product.setStock(patchDto.getStock());
+        }
+
+        // 카테고리가 실제로 바뀔 때만 조회
+        if (patchDto.getCategoryName() != null && !patchDto.getCategoryName().equals(product.getCategoryName())) {
+            Category category = categoryRepository.findByNameAndIsDeletedFalse(patchDto.getCategoryName())
+                    .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
+            product.setCategory(category);
+        }
+
+        // 이미지는 삭제 -> 추가 순으로 반영 (순서 컬럼 덕분에 뒤쪽 행만 수정/추가됨)
+        List<String> removedImgUrls = new ArrayList<>();
+        if (patchDto.getRemoveProductImgUrls() != null) {
+            removedImgUrls.addAll(product.removeProductImgUrls(patchDto.getRemoveProductImgUrls()));
+        }
+        if (patchDto.getRemoveProductDescImgUrls() != null) {
+            removedImgUrls.addAll(product.removeProductDescImgUrls(patchDto.getRemoveProductDescImgUrls()));
+        }
+        if (patchDto.getAddProductImgUrls() != null) {
+            product.appendProductImgUrls(patchDto.getAddProductImgUrls());
+        }
+        if (patchDto.getAddProductDescImgUrls() != null) {
+            product.appendProductDescImgUrls(patchDto.getAddProductDescImgUrls());
+        }
+
+        // S3 이미지는 커밋이 확정된 뒤에만 삭제 (롤백 시 이미지가 사라지지 않도록)
+        imageLifecycleManager.deleteAfterCommit(removedImgUrls);
+
+        return ProductMapper.INSTANCE.toDto(product);
     }
 
     // 파일 형식 검증 메서드
@@ -237,18 +304,10 @@ public class ProductService {
         Product existingProduct = productRepository.findById(productId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        // S3에서 상품 이미지 삭제 (특정 이미지들만 삭제)
+        // 목록에서 제거하고, S3 삭제는 커밋 후 모아서 처리 (상품에 없던 URL 은 삭제하지 않음)
         if (imageUrlsToDelete != null && !imageUrlsToDelete.isEmpty()) {
-            for (String imageUrl : imageUrlsToDelete) {
-                s3ImageService.deleteImageFromS3(imageUrl); // S3에서 이미지 삭제
-            }
-            List<String> updatedProductImages = existingProduct.getProductImgUrls();
-            updatedProductImages.removeAll(imageUrlsToDelete); // 삭제된 이미지 URL만 제거
-            existingProduct.setProductImgUrls(updatedProductImages); // 업데이트된 이미지 리스트 설정
+            imageLifecycleManager.deleteAfterCommit(existingProduct.removeProductImgUrls(imageUrlsToDelete));
         }
-
-        // 상품 정보 업데이트
-        productRepository.save(existingProduct);
     }
 
 
@@ -259,18 +318,10 @@ public class ProductService {
         Product existingProduct = productRepository.findById(productId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        // S3에서 상품 설명 이미지 삭제 (특정 설명 이미지들만 삭제)
+        // 목록에서 제거하고, S3 삭제는 커밋 후 모아서 처리
         if (descImageUrlsToDelete != null && !descImageUrlsToDelete.isEmpty()) {
-            for (String imageUrl : descImageUrlsToDelete) {
-                s3ImageService.deleteImageFromS3(imageUrl); // S3에서 설명 이미지 삭제
-            }
-            List<String> updatedDescImages = existingProduct.getProductDescImgUrls();
-            updatedDescImages.removeAll(descImageUrlsToDelete); // 삭제된 설명 이미지 URL만 제거
-            existingProduct.setProductDescImgUrls(updatedDescImages); // 업데이트된 설명 이미지 리스트 설정
+            imageLifecycleManager.deleteAfterCommit(existingProduct.removeProductDescImgUrls(descImageUrlsToDelete));
         }
-
-        // 상품 정보 업데이트
-        productRepository.save(existingProduct);
     }
 
 
@@ -284,6 +335,7 @@ public class ProductService {
         if (images != null && !images.isEmpty()) {
             for (MultipartFile image : images) {
                 String imageUrl = s3ImageService.upload(image); // S3에 업로드하고 URL 받기
+                imageLifecycleManager.discardOnRollback(imageUrl); // 상품 저장이 롤백되면 올린 이미지도 삭제
                 imageUrls.add(imageUrl);
             }
         }
@@ -297,6 +349,9 @@ public class ProductService {
         Product deletedProduct = productRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
         deletedProduct.setIsDeleted(true);
+
+        // 주문 내역에 보이는 대표 이미지(첫 번째)만 남기고 나머지 이미지는 커밋 후 삭제
+        imageLifecycleManager.deleteAfterCommit(deletedProduct.releaseImagesExceptThumbnail());
         productRepository.save(deletedProduct);
         return ProductMapper.INSTANCE.toDto(deletedProduct);
     }
@@ -0,0 +1,16 @@
+-- Idempotency-Key 로 처리한 요청의 응답 (IdempotencyRecord)
+CREATE TABLE idempotency_record (
+    idempotency_record_id BIGINT       NOT NULL,
+    key_hash              CHAR(64)     NOT NULL,
+    request_hash          CHAR(64)     NOT NULL,
+    status_code           INT,
+    content_type          VARCHAR(255),
+    response_body         TEXT,
+    created_at            DATETIME(6)  NOT NULL,
+    expires_at            DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idempotency_record_id),
+    CONSTRAINT uk_idempotency_record_key_hash UNIQUE (key_hash)
+) ENGINE = InnoDB;
+
+-- IdempotencyRecordRepository.deleteExpired
+CREATE INDEX idx_idempotency_record_expires ON idempotency_record (expires_at);
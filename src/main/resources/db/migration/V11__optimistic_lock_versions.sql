@@ -0,0 +1,4 @@
+-- 주문/쿠폰 발급/장바구니 낙관적 락 버전 (@Version, @RetryOnConflict)
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE coupon_member ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE cart ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,64 @@
+-- 상품 이미지 목록에 순서 컬럼(@OrderColumn) 추가
+-- 순서 없는 목록은 한 장만 바뀌어도 전체 DELETE 후 재INSERT 되므로, (product_id, img_order) 키로 바뀐 행만 반영
+-- 기존 행에는 식별 키가 없어 새 테이블에 순번을 매겨 옮긴 뒤 교체
+--
+-- 순번 기준: 키 없는 InnoDB 테이블은 숨은 행 id(입력 순서) 순으로 저장되고, 목록은 변경 때마다 전체 재INSERT 되었으므로
+-- 이 순서가 애플리케이션이 마지막으로 저장한 목록 순서이자 지금까지 대표 이미지(0번)를 정한 순서임
+-- 숨은 행 id 는 SQL 로 참조할 수 없어, 조건 없는 전체 스캔(클러스터 인덱스 순서)으로 AUTO_INCREMENT 임시 테이블에 옮겨 순번을 고정
+-- 원래 순서를 완전히 복원한다는 보장은 없음 (스캔 순서는 InnoDB 구현에 의존). 적용 전 대표 이미지 표본을 비교해 확인할 것
+CREATE TABLE product_img_urls_scan (
+    seq             BIGINT NOT NULL AUTO_INCREMENT,
+    product_id      BIGINT NOT NULL,
+    product_img_url VARCHAR(255),
+    PRIMARY KEY (seq)
+) ENGINE = InnoDB;
+
+INSERT INTO product_img_urls_scan (product_id, product_img_url)
+SELECT product_id, product_img_url
+FROM product_img_urls;
+
+CREATE TABLE product_img_urls_ordered (
+    product_id      BIGINT NOT NULL,
+    img_order       INT    NOT NULL,
+    product_img_url VARCHAR(255),
+    PRIMARY KEY (product_id, img_order)
+) ENGINE = InnoDB;
+
+INSERT INTO product_img_urls_ordered (product_id, img_order, product_img_url)
+SELECT product_id, ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY seq) - 1, product_img_url
+FROM product_img_urls_scan;
+
+DROP TABLE product_img_urls_scan;
+DROP TABLE product_img_urls;
+RENAME TABLE product_img_urls_ordered TO product_img_urls;
+ALTER TABLE product_img_urls
+    ADD CONSTRAINT fk_product_img_urls_product FOREIGN KEY (product_id) REFERENCES product (product_id);
+
+-- 상품 설명 이미지도 같은 방식
+CREATE TABLE product_desc_img_urls_scan (
+    seq                  BIGINT NOT NULL AUTO_INCREMENT,
+    product_id           BIGINT NOT NULL,
+    product_desc_img_url VARCHAR(255),
+    PRIMARY KEY (seq)
+) ENGINE = InnoDB;
+
+INSERT INTO product_desc_img_urls_scan (product_id, product_desc_img_url)
+SELECT product_id, product_desc_img_url
+FROM product_desc_img_urls;
+
+CREATE TABLE product_desc_img_urls_ordered (
+    product_id           BIGINT NOT NULL,
+    img_order            INT    NOT NULL,
+    product_desc_img_url VARCHAR(255),
+    PRIMARY KEY (product_id, img_order)
+) ENGINE = InnoDB;
+
+INSERT INTO product_desc_img_urls_ordered (product_id, img_order, product_desc_img_url)
+SELECT product_id, ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY seq) - 1, product_desc_img_url
+FROM product_desc_img_urls_scan;
+
+DROP TABLE product_desc_img_urls_scan;
+DROP TABLE product_desc_img_urls;
+RENAME TABLE product_desc_img_urls_ordered TO product_desc_img_urls;
+ALTER TABLE product_desc_img_urls
+    ADD CONSTRAINT fk_product_desc_img_urls_product FOREIGN KEY (product_id) REFERENCES product (product_id);
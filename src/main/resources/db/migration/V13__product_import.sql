@@ -0,0 +1,31 @@
+-- 상품 일괄 가져오기: 공급사 상품 코드(sku) 와 작업 진행 상태/실패 행
+-- 직접 등록한 기존 상품은 sku 가 NULL 이라 유니크 인덱스에 걸리지 않음
+ALTER TABLE product ADD COLUMN sku VARCHAR(64) NULL;
+CREATE UNIQUE INDEX uk_product_sku ON product (sku);
+
+CREATE TABLE product_import_job (
+    product_import_job_id BIGINT       NOT NULL,
+    original_filename     VARCHAR(255),
+    file_path             VARCHAR(500) NOT NULL,
+    format                VARCHAR(20)  NOT NULL,
+    status                VARCHAR(20)  NOT NULL,
+    committed_rows        BIGINT       NOT NULL,
+    succeeded_rows        BIGINT       NOT NULL,
+    failed_rows           BIGINT       NOT NULL,
+    last_error            VARCHAR(500),
+    created_at            DATETIME(6)  NOT NULL,
+    updated_at            DATETIME(6)  NOT NULL,
+    finished_at           DATETIME(6),
+    PRIMARY KEY (product_import_job_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE product_import_error (
+    product_import_error_id BIGINT       NOT NULL,
+    product_import_job_id   BIGINT       NOT NULL,
+    row_no                  BIGINT       NOT NULL,
+    sku                     VARCHAR(64),
+    message                 VARCHAR(500) NOT NULL,
+    PRIMARY KEY (product_import_error_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_product_import_error_job_row ON product_import_error (product_import_job_id, row_no);
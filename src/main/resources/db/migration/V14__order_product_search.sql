@@ -0,0 +1,18 @@
+-- 회원 주문 상품명 검색 (OrderProductRepository.searchFirst / searchAfter)
+-- 주문 상품에 회원 id 와 주문 시각을 복사해 orders/product 조인 없이 회원별 인덱스 범위만으로 검색
+ALTER TABLE order_product
+    ADD COLUMN member_id BIGINT NULL,
+    ADD COLUMN order_created_at DATETIME(6) NULL;
+
+UPDATE order_product op
+    JOIN orders o ON o.order_id = op.order_id
+SET op.member_id = o.member_id,
+    op.order_created_at = COALESCE(o.created_at, CURRENT_TIMESTAMP(6));
+
+ALTER TABLE order_product
+    MODIFY member_id BIGINT NOT NULL,
+    MODIFY order_created_at DATETIME(6) NOT NULL;
+
+-- 상품명까지 포함한 커버링 인덱스 (LIKE 조건도 인덱스 안에서 평가, 주문 시각 역순으로 읽고 커서 이후부터 시작)
+CREATE INDEX idx_order_product_member_search
+    ON order_product (member_id, order_created_at, order_id, order_product_name);
@@ -0,0 +1,13 @@
+-- 상품 목록 ETag 토큰용 변경 카운터 (CatalogVersion)
+-- 기존 토큰(MAX(product_id), MAX(updated_at))은 서버 시계에 따라 값이 달라져 다른 서버의 변경을 놓칠 수 있음
+CREATE TABLE catalog_version (
+    version_key VARCHAR(32) NOT NULL,
+    version     BIGINT      NOT NULL,
+    PRIMARY KEY (version_key)
+) ENGINE = InnoDB;
+
+INSERT INTO catalog_version (version_key, version)
+VALUES ('PRODUCT:0', 0), ('PRODUCT:1', 0), ('PRODUCT:2', 0), ('PRODUCT:3', 0),
+       ('PRODUCT:4', 0), ('PRODUCT:5', 0), ('PRODUCT:6', 0), ('PRODUCT:7', 0),
+       ('PRODUCT:8', 0), ('PRODUCT:9', 0), ('PRODUCT:10', 0), ('PRODUCT:11', 0),
+       ('PRODUCT:12', 0), ('PRODUCT:13', 0), ('PRODUCT:14', 0), ('PRODUCT:15', 0);
@@ -0,0 +1,160 @@
+-- 기존 ddl-auto 로 생성되던 스키마 (운영 DB 는 baseline-on-migrate 로 이 버전부터 이력 관리)
+
+CREATE TABLE member (
+    member_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255),
+    user_name   VARCHAR(255) NOT NULL,
+    phone       VARCHAR(255),
+    authority   VARCHAR(255),
+    is_deleted  BIT          NOT NULL,
+    created_at  DATETIME(6),
+    PRIMARY KEY (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE category (
+    category_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    name               VARCHAR(30)  NOT NULL,
+    display_order      BIGINT,
+    main_display_order BIGINT,
+    is_deleted         BIT          NOT NULL,
+    parent_id          BIGINT,
+    image_url          VARCHAR(255),
+    PRIMARY KEY (category_id),
+    CONSTRAINT fk_category_parent FOREIGN KEY (parent_id) REFERENCES category (category_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE product (
+    product_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    category_id   BIGINT       NOT NULL,
+    category_name VARCHAR(255) NOT NULL,
+    product_name  VARCHAR(100) NOT NULL,
+    price         INT          NOT NULL,
+    info          VARCHAR(500),
+    product_stock INT          NOT NULL,
+    is_sold_out   BIT          NOT NULL,
+    manufacturer  VARCHAR(100),
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6),
+    is_deleted    BIT          NOT NULL,
+    PRIMARY KEY (product_id),
+    CONSTRAINT fk_product_category FOREIGN KEY (category_id) REFERENCES category (category_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE product_img_urls (
+    product_id      BIGINT NOT NULL,
+    product_img_url VARCHAR(255),
+    CONSTRAINT fk_product_img_urls_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE product_desc_img_urls (
+    product_id           BIGINT NOT NULL,
+    product_desc_img_url VARCHAR(255),
+    CONSTRAINT fk_product_desc_img_urls_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE banner (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    image_url     VARCHAR(255),
+    display_order INT,
+    title         VARCHAR(255),
+    target_url    VARCHAR(255),
+    is_deleted    BIT          NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE coupon (
+    coupon_id               BIGINT       NOT NULL AUTO_INCREMENT,
+    coupon_name             VARCHAR(255) NOT NULL,
+    coupon_code             VARCHAR(6)   NOT NULL,
+    coupon_type             VARCHAR(255) NOT NULL,
+    discount_value          INT,
+    discount_percentage     INT,
+    minimum_purchase_amount INT,
+    expired_at              DATE         NOT NULL,
+    active                  BIT          NOT NULL,
+    category_id             BIGINT,
+    PRIMARY KEY (coupon_id),
+    CONSTRAINT fk_coupon_category FOREIGN KEY (category_id) REFERENCES category (category_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE coupon_member (
+    coupon_member_id BIGINT NOT NULL AUTO_INCREMENT,
+    used             BIT    NOT NULL,
+    coupon_id        BIGINT,
+    member_id        BIGINT,
+    PRIMARY KEY (coupon_member_id),
+    CONSTRAINT fk_coupon_member_coupon FOREIGN KEY (coupon_id) REFERENCES coupon (coupon_id),
+    CONSTRAINT fk_coupon_member_member FOREIGN KEY (member_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE cart (
+    cart_id    BIGINT NOT NULL AUTO_INCREMENT,
+    member_id  BIGINT,
+    product_id BIGINT,
+    quantity   INT    NOT NULL,
+    PRIMARY KEY (cart_id),
+    CONSTRAINT fk_cart_member FOREIGN KEY (member_id) REFERENCES member (member_id),
+    CONSTRAINT fk_cart_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE address (
+    address_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id         BIGINT       NOT NULL,
+    delivery_receiver VARCHAR(255) NOT NULL,
+    delivery_phone    VARCHAR(255) NOT NULL,
+    postal_code       VARCHAR(255) NOT NULL,
+    delivery_address  VARCHAR(255) NOT NULL,
+    detailed_address  VARCHAR(255),
+    delivery_memo     VARCHAR(255),
+    default_address   VARCHAR(255) NOT NULL,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    is_deleted        BIT          NOT NULL,
+    PRIMARY KEY (address_id),
+    CONSTRAINT fk_address_member FOREIGN KEY (member_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE orders (
+    order_id               BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id              BIGINT       NOT NULL,
+    order_status           VARCHAR(255) NOT NULL,
+    total_price            INT          NOT NULL,
+    discounted_total_price INT,
+    delivery_fee           INT          NOT NULL,
+    postal_code            VARCHAR(255) NOT NULL,
+    delivery_address       VARCHAR(255) NOT NULL,
+    detailed_address       VARCHAR(255),
+    delivery_receiver      VARCHAR(255) NOT NULL,
+    delivery_phone         VARCHAR(255) NOT NULL,
+    delivery_memo          VARCHAR(255),
+    created_at             DATETIME(6),
+    is_deleted             BIT          NOT NULL,
+    PRIMARY KEY (order_id),
+    CONSTRAINT fk_orders_member FOREIGN KEY (member_id) REFERENCES member (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE order_product (
+    order_product_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    order_id            BIGINT       NOT NULL,
+    product_id          BIGINT       NOT NULL,
+    order_product_name  VARCHAR(255) NOT NULL,
+    order_product_price INT          NOT NULL,
+    count               INT          NOT NULL,
+    coupon_member_id    BIGINT,
+    discounted_price    INT,
+    is_deleted          BIT,
+    PRIMARY KEY (order_product_id),
+    CONSTRAINT uk_order_product_coupon_member UNIQUE (coupon_member_id),
+    CONSTRAINT fk_order_product_order FOREIGN KEY (order_id) REFERENCES orders (order_id),
+    CONSTRAINT fk_order_product_product FOREIGN KEY (product_id) REFERENCES product (product_id),
+    CONSTRAINT fk_order_product_coupon_member FOREIGN KEY (coupon_member_id) REFERENCES coupon_member (coupon_member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_token (
+    refreshtoken_id BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id       BIGINT       NOT NULL,
+    refresh_token   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (refreshtoken_id),
+    CONSTRAINT uk_refresh_token_member UNIQUE (member_id)
+) ENGINE = InnoDB;
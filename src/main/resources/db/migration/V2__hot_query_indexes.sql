@@ -0,0 +1,31 @@
+-- 자주 호출되는 조회 메서드의 조건/정렬 컬럼에 맞춘 복합 인덱스
+
+-- ProductRepository.findByIsDeletedFalse (기본 정렬: created_at DESC)
+CREATE INDEX idx_product_deleted_created ON product (is_deleted, created_at);
+
+-- ProductRepository.findByCategoryAndIsDeletedFalse / findByCategoryIdInAndIsDeletedFalse
+CREATE INDEX idx_product_category_deleted ON product (category_id, is_deleted, created_at);
+
+-- CartRepository.findAllByMember_Id / existsCartByMember_IdAndProduct_Id / findByMember_IdAndProduct_Id
+CREATE INDEX idx_cart_member_product ON cart (member_id, product_id);
+
+-- AddressRepository.findByMemberIdAndDefaultAddress
+CREATE INDEX idx_address_member_default ON address (member_id, default_address);
+
+-- AddressRepository.findAllByMemberId (is_deleted = false, created_at DESC)
+CREATE INDEX idx_address_member_deleted_created ON address (member_id, is_deleted, created_at);
+
+-- RefreshTokenRepository.findByRefreshToken
+CREATE INDEX idx_refresh_token_token ON refresh_token (refresh_token);
+
+-- CouponRepository.findByCode
+CREATE INDEX idx_coupon_code ON coupon (coupon_code);
+
+-- CouponMemberRepository.findByMember_IdAndCoupon_IdAndUsedIs / existsByCoupon_CodeAndMember_Id
+CREATE INDEX idx_coupon_member_member_coupon ON coupon_member (member_id, coupon_id);
+
+-- MemberRepository.findByEmail / existsByEmail
+CREATE INDEX idx_member_email ON member (email);
+
+-- OrderRepository.findByMemberIdAndProductName (is_deleted = false, created_at DESC)
+CREATE INDEX idx_orders_member_deleted_created ON orders (member_id, is_deleted, created_at);
@@ -0,0 +1,18 @@
+-- Cart, OrderProduct, CouponMember 의 IDENTITY 전략을 pooled 시퀀스로 변경
+-- MySQL 은 시퀀스가 없어 Hibernate 가 <이름>_seq 테이블(next_val)로 시퀀스를 흉내냄
+-- pooled 옵티마이저는 (next_val - 49) ~ next_val 구간을 사용하므로 기존 최대 id + 50 으로 초기화
+
+CREATE TABLE cart_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO cart_seq (next_val) SELECT COALESCE(MAX(cart_id), 0) + 50 FROM cart;
+
+CREATE TABLE order_product_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO order_product_seq (next_val) SELECT COALESCE(MAX(order_product_id), 0) + 50 FROM order_product;
+
+CREATE TABLE coupon_member_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO coupon_member_seq (next_val) SELECT COALESCE(MAX(coupon_member_id), 0) + 50 FROM coupon_member;
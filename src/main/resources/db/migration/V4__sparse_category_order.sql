@@ -0,0 +1,4 @@
+-- 카테고리 노출 순서를 간격(1024)을 둔 정렬 키로 변환
+-- 순서 변경 시 앞뒤 키의 중간값을 부여해 한 행만 수정 (CategoryOrdering)
+UPDATE category SET display_order = display_order * 1024 WHERE display_order IS NOT NULL;
+UPDATE category SET main_display_order = main_display_order * 1024 WHERE main_display_order IS NOT NULL;
@@ -0,0 +1,7 @@
+-- 상품/카테고리/배너 낙관적 락 버전 (HTTP 캐시 ETag 계산에도 사용)
+ALTER TABLE product ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE category ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE banner ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- 상품 목록 ETag 계산 (MAX(updated_at)) 을 인덱스만으로 처리
+CREATE INDEX idx_product_updated_at ON product (updated_at);
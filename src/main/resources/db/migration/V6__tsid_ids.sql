@@ -0,0 +1,7 @@
+-- Order, OrderProduct, Cart, CouponMember, Address 의 id 를 애플리케이션에서 발급 (@TsidId)
+-- TSID 는 현재 시각 기반이라 기존 id 보다 항상 크므로 기존 데이터는 그대로 유지
+-- orders, address 의 AUTO_INCREMENT 속성은 남겨둠 (id 를 직접 지정한 INSERT 는 그대로 저장됨)
+
+DROP TABLE IF EXISTS cart_seq;
+DROP TABLE IF EXISTS order_product_seq;
+DROP TABLE IF EXISTS coupon_member_seq;
@@ -0,0 +1,18 @@
+-- 리프레시 토큰 원문 대신 SHA-256 다이제스트 저장, family 단위 교체(rotation) 지원
+-- 기존 행은 원문만 있고 family 정보가 없어 재사용할 수 없으므로 새로 생성 (배포 후 재로그인 필요)
+DROP TABLE refresh_token;
+
+CREATE TABLE refresh_token (
+    refreshtoken_id BIGINT      NOT NULL AUTO_INCREMENT,
+    member_id       BIGINT      NOT NULL,
+    token_hash      CHAR(64)    NOT NULL,
+    family_id       VARCHAR(36) NOT NULL,
+    expires_at      DATETIME(6) NOT NULL,
+    rotated_at      DATETIME(6),
+    revoked         BIT         NOT NULL,
+    PRIMARY KEY (refreshtoken_id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_refresh_token_family ON refresh_token (family_id);
+CREATE INDEX idx_refresh_token_expires ON refresh_token (expires_at);
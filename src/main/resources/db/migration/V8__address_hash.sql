@@ -0,0 +1,5 @@
+-- 중복 배송지 판별용 정규화 해시 (Address.hashOf)
+-- 기존 배송지는 NULL 로 두고, 해당 회원의 배송지를 변경할 때 애플리케이션에서 채움
+-- 삭제된 배송지도 NULL 이라 유니크 인덱스에 걸리지 않음
+ALTER TABLE address ADD COLUMN address_hash CHAR(64) NULL;
+CREATE UNIQUE INDEX uk_address_member_hash ON address (member_id, address_hash);
@@ -0,0 +1,20 @@
+-- 도메인 이벤트 트랜잭셔널 아웃박스 (OutboxEvent)
+CREATE TABLE outbox_event (
+    outbox_event_id BIGINT       NOT NULL,
+    aggregate_type  VARCHAR(50)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    event_type      VARCHAR(255) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    published_at    DATETIME(6),
+    PRIMARY KEY (outbox_event_id)
+) ENGINE = InnoDB;
+
+-- OutboxEventRepository.findDue / claim
+CREATE INDEX idx_outbox_event_status_next ON outbox_event (status, next_attempt_at);
+-- OutboxEventRepository.existsByAggregateTypeAndAggregateIdAndStatusAndIdLessThan
+CREATE INDEX idx_outbox_event_aggregate ON outbox_event (aggregate_type, aggregate_id, status);
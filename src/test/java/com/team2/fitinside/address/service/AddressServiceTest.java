@@ -0,0 +1,159 @@
+package com.team2.fitinside.address.service;
+
+import com.team2.fitinside.address.dto.AddressRequestDto;
+import com.team2.fitinside.address.entity.Address;
+import com.team2.fitinside.address.mapper.AddressMapper;
+import com.team2.fitinside.address.repository.AddressRepository;
+import com.team2.fitinside.config.SecurityUtil;
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.member.entity.Authority;
+import com.team2.fitinside.member.entity.Member;
+import com.team2.fitinside.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("배송지 서비스 단위 테스트")
+class AddressServiceTest {
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private AddressMapper addressMapper;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private DefaultAddressCache defaultAddressCache;
+
+    @InjectMocks
+    private AddressService addressService;
+
+    private Member loginMember;
+
+    @BeforeEach
+    void setUp() {
+        loginMember = Member.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("password1234")
+                .userName("회원1")
+                .phone("010-1111-1111")
+                .authority(Authority.ROLE_USER)
+                .build();
+        given(securityUtil.getCurrentMemberId()).willReturn(1L);
+    }
+
+    @Test
+    @DisplayName("공백/하이픈만 다른 배송지를 기본 배송지로 추가하면 저장하지 않고 기본 배송지만 변경")
+    void createDuplicateAsDefault() {
+        //given
+        Address existing = createTestAddress(10L, "홍길동", "010-1234-5678", "N");
+        given(addressRepository.findAllByMemberId(1L)).willReturn(List.of(existing));
+        AddressRequestDto request = createRequest(" 홍길동 ", "01012345678", "Y");
+
+        //when
+        addressService.createAddress(request);
+
+        //then
+        verify(addressRepository, times(1)).findAllByMemberId(1L);
+        verify(addressRepository, never()).save(any());
+        verify(addressRepository).switchDefaultAddress(1L, 10L);
+        verify(defaultAddressCache).invalidate(1L);
+        assertThat(existing.getDefaultAddress()).isEqualTo("Y");
+    }
+
+    @Test
+    @DisplayName("배송지가 5개면 새 배송지 추가 실패")
+    void createExceedsLimit() {
+        //given
+        List<Address> addresses = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            addresses.add(createTestAddress(i, "수령인" + i, "010-0000-000" + i, "N"));
+        }
+        given(addressRepository.findAllByMemberId(1L)).willReturn(addresses);
+
+        //when, then
+        assertThatThrownBy(() -> addressService.createAddress(createRequest("새 수령인", "010-9999-9999", "N")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.EXCEEDED_MAX_ADDRESS_LIMIT);
+        verify(addressRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("수정한 내용이 다른 배송지와 같으면 실패")
+    void updateToDuplicate() {
+        //given
+        Address target = createTestAddress(10L, "홍길동", "010-1234-5678", "N");
+        Address other = createTestAddress(11L, "김철수", "010-2222-3333", "N");
+        given(addressRepository.findAllByMemberId(1L)).willReturn(List.of(target, other));
+
+        //when, then
+        assertThatThrownBy(() -> addressService.updateAddress(10L, createRequest("김철수", "010-2222-3333", "N")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DUPLICATE_ADDRESS);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 배송지를 기본 배송지로 설정하면 권한 없음")
+    void checkDefaultOtherMember() {
+        //given
+        given(addressRepository.findAllByMemberId(1L)).willReturn(List.of());
+        given(addressRepository.findByIdAndIsDeletedFalse(99L))
+                .willReturn(Optional.of(createTestAddress(99L, "홍길동", "010-1234-5678", "N")));
+
+        //when, then
+        assertThatThrownBy(() -> addressService.checkDefault(99L, "Y"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USER_NOT_AUTHORIZED);
+        verify(addressRepository, never()).switchDefaultAddress(any(), any());
+    }
+
+    private Address createTestAddress(Long id, String receiver, String phone, String defaultAddress) {
+        Address address = Address.builder()
+                .id(id)
+                .deliveryReceiver(receiver)
+                .deliveryPhone(phone)
+                .postalCode("12345")
+                .deliveryAddress("서울시 강남구")
+                .detailedAddress("101동 101호")
+                .defaultAddress(defaultAddress)
+                .build();
+        address.setMember(loginMember);
+        return address;
+    }
+
+    private AddressRequestDto createRequest(String receiver, String phone, String defaultAddress) {
+        AddressRequestDto request = new AddressRequestDto();
+        request.setDeliveryReceiver(receiver);
+        request.setDeliveryPhone(phone);
+        request.setPostalCode("12345");
+        request.setDeliveryAddress("서울시 강남구");
+        request.setDetailedAddress("101동  101호");
+        request.setDefaultAddress(defaultAddress);
+        return request;
+    }
+}
@@ -0,0 +1,99 @@
+package com.team2.fitinside.address.service;
+
+import com.team2.fitinside.address.dto.AddressResponseDto;
+import com.team2.fitinside.address.entity.Address;
+import com.team2.fitinside.address.mapper.AddressMapper;
+import com.team2.fitinside.address.repository.AddressRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("기본 배송지 캐시 단위 테스트")
+class DefaultAddressCacheTest {
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private AddressMapper addressMapper;
+
+    private DefaultAddressCache defaultAddressCache;
+
+    @BeforeEach
+    void setUp() {
+        defaultAddressCache = new DefaultAddressCache(addressRepository, addressMapper, new SimpleMeterRegistry(),
+                Duration.ofSeconds(30), 100);
+        given(addressMapper.toAddressResponseDto(any(Address.class))).willReturn(new AddressResponseDto());
+    }
+
+    private Address defaultAddress() {
+        return Address.builder()
+                .id(1L)
+                .deliveryReceiver("홍길동")
+                .defaultAddress("Y")
+                .build();
+    }
+
+    @Test
+    @DisplayName("ttl 안에서는 DB 를 다시 읽지 않음")
+    void cachesWithinTtl() {
+        //given
+        given(addressRepository.findAllByMemberId(1L)).willReturn(List.of(defaultAddress()));
+
+        //when
+        defaultAddressCache.get(1L);
+        AddressResponseDto cached = defaultAddressCache.get(1L);
+
+        //then
+        assertThat(cached).isNotNull();
+        verify(addressRepository, times(1)).findAllByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("조회 도중 invalidate 되면 읽어 온 값은 캐시에 넣지 않음")
+    void skipsPutWhenInvalidatedDuringLoad() {
+        //given
+        given(addressRepository.findAllByMemberId(1L)).willAnswer(invocation -> {
+            // 다른 요청이 배송지를 바꾼 상황 (이 요청이 읽은 값은 이미 지난 값)
+            defaultAddressCache.invalidate(1L);
+            return List.of(defaultAddress());
+        }).willReturn(List.of());
+
+        //when
+        defaultAddressCache.get(1L);
+        AddressResponseDto reloaded = defaultAddressCache.get(1L);
+
+        //then
+        assertThat(reloaded).isNull();
+        verify(addressRepository, times(2)).findAllByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("invalidate 후 다음 조회는 DB 에서 다시 읽음")
+    void reloadsAfterInvalidate() {
+        //given
+        given(addressRepository.findAllByMemberId(1L)).willReturn(List.of(defaultAddress()));
+        defaultAddressCache.get(1L);
+
+        //when
+        defaultAddressCache.invalidate(1L);
+        defaultAddressCache.get(1L);
+
+        //then
+        verify(addressRepository, times(2)).findAllByMemberId(1L);
+    }
+}
@@ -0,0 +1,163 @@
+package com.team2.fitinside.banner.service;
+
+import com.team2.fitinside.banner.dto.BannerResponseDTO;
+import com.team2.fitinside.banner.entity.Banner;
+import com.team2.fitinside.banner.repository.BannerRepository;
+import com.team2.fitinside.product.image.ImageLifecycleManager;
+import com.team2.fitinside.product.image.S3ImageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("배너 서비스 단위 테스트")
+class BannerServiceTest {
+
+    @Mock
+    private BannerRepository bannerRepository;
+
+    @Mock
+    private S3ImageService s3ImageService;
+
+    @Mock
+    private ImageLifecycleManager imageLifecycleManager;
+
+    private BannerService bannerService;
+
+    @BeforeEach
+    void setUp() {
+        bannerService = new BannerService(bannerRepository, s3ImageService, imageLifecycleManager, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("배너 목록은 변경 전까지 스냅샷에서 반환")
+    void getAllBanners_snapshot() {
+        //given
+        given(bannerRepository.findByIsDeletedFalseOrderByDisplayOrderAsc())
+                .willReturn(List.of(createBanner(1L, 1), createBanner(2L, 2)));
+
+        //when
+        List<BannerResponseDTO> first = bannerService.getAllBanners();
+        List<BannerResponseDTO> second = bannerService.getAllBanners();
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(first).extracting(BannerResponseDTO::getDisplayOrder).containsExactly(1, 2);
+        verify(bannerRepository, times(1)).findByIsDeletedFalseOrderByDisplayOrderAsc();
+    }
+
+    @Test
+    @DisplayName("배너 생성 시 범위를 넘는 순서는 마지막으로 보정하고 뒤 배너를 한 번에 밀기")
+    void createBanner() {
+        //given
+        given(bannerRepository.countByIsDeletedFalse()).willReturn(2L);
+
+        //when
+        BannerResponseDTO response = bannerService.createBanner("배너", 10, null, null);
+
+        //then
+        assertThat(response.getDisplayOrder()).isEqualTo(3);
+        verify(bannerRepository).shiftDisplayOrderFrom(3, 1);
+    }
+
+    @Test
+    @DisplayName("배너 순서를 뒤로 옮기면 사이 배너를 한 칸씩 당기고 스냅샷 무효화")
+    void updateBanner_moveBack() {
+        //given
+        Banner banner = createBanner(1L, 1);
+        given(bannerRepository.findByIsDeletedFalseOrderByDisplayOrderAsc()).willReturn(List.of(banner));
+        given(bannerRepository.findById(1L)).willReturn(Optional.of(banner));
+        given(bannerRepository.countByIsDeletedFalse()).willReturn(3L);
+        bannerService.getAllBanners();
+
+        //when
+        bannerService.updateBanner(1L, "수정된 배너", 3, null, null);
+        bannerService.getAllBanners();
+
+        //then
+        assertThat(banner.getDisplayOrder()).isEqualTo(3);
+        verify(bannerRepository).shiftDisplayOrderBetween(2, 3, -1, 1L);
+        verify(bannerRepository, times(2)).findByIsDeletedFalseOrderByDisplayOrderAsc();
+    }
+
+    @Test
+    @DisplayName("배너 삭제 시 뒤 배너를 한 번에 당기고 이미지는 커밋 후 삭제 대기열에 넣기")
+    void deleteBanner() {
+        //given
+        Banner banner = createBanner(1L, 2);
+        given(bannerRepository.findById(1L)).willReturn(Optional.of(banner));
+
+        //when
+        bannerService.deleteBanner(1L);
+
+        //then
+        verify(bannerRepository).delete(banner);
+        verify(bannerRepository).shiftDisplayOrderFrom(3, -1);
+        verify(imageLifecycleManager).deleteAfterCommit(banner.getImageUrl());
+    }
+
+    @Test
+    @DisplayName("목록 조회 도중 배너가 삭제되면 읽어 온 목록은 스냅샷으로 남기지 않음")
+    void getAllBanners_deletedDuringLoad() {
+        //given
+        Banner deleted = createBanner(1L, 1);
+        Banner remaining = createBanner(2L, 1);
+        given(bannerRepository.findById(1L)).willReturn(Optional.of(deleted));
+        given(bannerRepository.findByIsDeletedFalseOrderByDisplayOrderAsc())
+                .willAnswer(invocation -> {
+                    // 관리자가 배너를 삭제한 상황 (이 조회가 읽은 목록은 이미 지난 값)
+                    bannerService.deleteBanner(1L);
+                    return List.of(deleted, remaining);
+                })
+                .willReturn(List.of(remaining));
+
+        //when
+        bannerService.getAllBanners();
+        List<BannerResponseDTO> reloaded = bannerService.getAllBanners();
+
+        //then
+        assertThat(reloaded).extracting(BannerResponseDTO::getId).containsExactly(2L);
+        verify(bannerRepository, times(2)).findByIsDeletedFalseOrderByDisplayOrderAsc();
+    }
+
+    private Banner createBanner(Long id, int displayOrder) {
+        return Banner.builder()
+                .id(id)
+                .title("배너" + id)
+                .displayOrder(displayOrder)
+                .imageUrl("https://fitinside.s3.ap-northeast-2.amazonaws.com/banner" + id + ".png")
+                .targetUrl("")
+                .isDeleted(false)
+                .build();
+    }
+
+    @Test
+    @DisplayName("이 서버에서 변경이 없어도 TTL 이 지나면 배너 목록을 다시 적재")
+    void getAllBanners_reloadAfterTtl() {
+        //given
+        BannerService expiringService = new BannerService(bannerRepository, s3ImageService, imageLifecycleManager, Duration.ZERO);
+        given(bannerRepository.findByIsDeletedFalseOrderByDisplayOrderAsc())
+                .willReturn(List.of(createBanner(1L, 1)))
+                .willReturn(List.of(createBanner(1L, 1), createBanner(2L, 2)));
+
+        //when
+        expiringService.getAllBanners();
+        List<BannerResponseDTO> reloaded = expiringService.getAllBanners();
+
+        //then
+        assertThat(reloaded).hasSize(2);
+        verify(bannerRepository, times(2)).findByIsDeletedFalseOrderByDisplayOrderAsc();
+    }
+}
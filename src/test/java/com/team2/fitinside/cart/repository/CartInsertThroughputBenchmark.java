@@ -0,0 +1,81 @@
+package com.team2.fitinside.cart.repository;
+
+import com.team2.fitinside.banner.entity.Banner;
+import com.team2.fitinside.cart.entity.Cart;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark 로 실행 (일반 test 태스크에서는 제외)
+// IDENTITY 는 행마다 INSERT 후 생성 키를 받아야 해서 배치가 꺼지고, TSID(@TsidId) 는 id 를 애플리케이션에서 만들어 배치 가능
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@DisplayName("INSERT 처리량 비교 (IDENTITY vs TSID + JDBC 배치)")
+class CartInsertThroughputBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int FLUSH_INTERVAL = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("TSID + 배치 INSERT 처리량 측정")
+    void compareInsertThroughput() {
+        // 워밍업 (JIT, 커넥션, TSID 생성기 초기화)
+        measure("warm-up", 1, i -> entityManager.persist(newCart()));
+        measure("warm-up", 1, i -> entityManager.persist(newBanner(i)));
+
+        double identity = measure("IDENTITY (banner)", 1, i -> entityManager.persist(newBanner(i)));
+        double tsidUnbatched = measure("TSID, batch off (cart)", 1, i -> entityManager.persist(newCart()));
+        double tsidBatched = measure("TSID, batch 50 (cart)", FLUSH_INTERVAL, i -> entityManager.persist(newCart()));
+
+        System.out.printf("%n[insert throughput] identity=%.0f rows/s, tsid=%.0f rows/s, tsid+batch=%.0f rows/s (x%.2f vs identity)%n",
+                identity, tsidUnbatched, tsidBatched, tsidBatched / identity);
+
+        Long carts = entityManager.createQuery("SELECT COUNT(c) FROM Cart c", Long.class).getSingleResult();
+        assertThat(carts).isEqualTo(ROWS * 3L);
+    }
+
+    private double measure(String label, int jdbcBatchSize, IntConsumer insert) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            insert.accept(i);
+            if ((i + 1) % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double rowsPerSecond = ROWS / seconds;
+        System.out.printf("[insert throughput] %-26s %8.0f rows/s (%d rows, %.2fs)%n", label, rowsPerSecond, ROWS, seconds);
+        return rowsPerSecond;
+    }
+
+    private Cart newCart() {
+        return Cart.builder().quantity(1).build();
+    }
+
+    private Banner newBanner(int i) {
+        return Banner.builder().title("banner-" + i).displayOrder(i).isDeleted(false).build();
+    }
+}
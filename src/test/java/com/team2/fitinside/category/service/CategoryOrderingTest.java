@@ -0,0 +1,82 @@
+package com.team2.fitinside.category.service;
+
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.category.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("카테고리 정렬 키 단위 테스트")
+class CategoryOrderingTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @InjectMocks
+    private CategoryOrdering categoryOrdering;
+
+    @Test
+    @DisplayName("두 카테고리 사이로 옮기면 앞뒤 키의 중간값 부여")
+    void displayOrderKeyAt_between() {
+        //given
+        given(categoryRepository.findParentDisplayOrderKeys(5L, PageRequest.of(0, 1))).willReturn(List.of(1024L));
+        given(categoryRepository.findParentDisplayOrderKeys(5L, PageRequest.of(1, 1))).willReturn(List.of(2048L));
+
+        //when
+        long key = categoryOrdering.displayOrderKeyAt(null, 5L, 2);
+
+        //then
+        assertThat(key).isEqualTo(1536L);
+    }
+
+    @Test
+    @DisplayName("마지막 자리로 옮기면 마지막 키 + 간격 부여")
+    void displayOrderKeyAt_last() {
+        //given
+        given(categoryRepository.findChildDisplayOrderKeys(1L, null, PageRequest.of(1, 1))).willReturn(List.of(2048L));
+        given(categoryRepository.findChildDisplayOrderKeys(1L, null, PageRequest.of(2, 1))).willReturn(List.of());
+
+        //when
+        long key = categoryOrdering.displayOrderKeyAt(1L, null, 3);
+
+        //then
+        assertThat(key).isEqualTo(2048L + CategoryOrdering.GAP);
+    }
+
+    @Test
+    @DisplayName("중간값을 만들 수 없으면 그룹을 재배치한 뒤 다시 계산")
+    void displayOrderKeyAt_rebalance() {
+        //given
+        Category first = Category.builder().id(1L).name("상의").displayOrder(1L).isDeleted(false).build();
+        Category second = Category.builder().id(2L).name("하의").displayOrder(2L).isDeleted(false).build();
+        given(categoryRepository.findParentDisplayOrderKeys(null, PageRequest.of(0, 1)))
+                .willReturn(List.of(1L), List.of(CategoryOrdering.GAP));
+        given(categoryRepository.findParentDisplayOrderKeys(null, PageRequest.of(1, 1)))
+                .willReturn(List.of(2L), List.of(2 * CategoryOrdering.GAP));
+        given(categoryRepository.findAllByIsDeletedFalseAndParentIsNullOrderByDisplayOrderAscIdAsc())
+                .willReturn(List.of(first, second));
+
+        //when
+        long key = categoryOrdering.displayOrderKeyAt(null, null, 2);
+
+        //then
+        assertThat(first.getDisplayOrder()).isEqualTo(CategoryOrdering.GAP);
+        assertThat(second.getDisplayOrder()).isEqualTo(2 * CategoryOrdering.GAP);
+        assertThat(key).isEqualTo(CategoryOrdering.GAP + CategoryOrdering.GAP / 2);
+        verify(categoryTreeCache).invalidate();
+    }
+}
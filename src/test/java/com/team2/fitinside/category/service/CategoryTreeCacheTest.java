@@ -0,0 +1,130 @@
+package com.team2.fitinside.category.service;
+
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.category.repository.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("카테고리 트리 캐시 단위 테스트")
+class CategoryTreeCacheTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CategoryTreeCache categoryTreeCache;
+
+    private Category top;
+    private Category pants;
+    private Category shorts;
+    private Category shoes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        categoryTreeCache = new CategoryTreeCache(categoryRepository, meterRegistry, Duration.ofMinutes(1));
+        top = Category.builder().id(1L).name("의류").isDeleted(false).build();
+        pants = Category.builder().id(2L).name("바지").parent(top).isDeleted(false).build();
+        shorts = Category.builder().id(3L).name("반바지").parent(pants).isDeleted(false).build();
+        shoes = Category.builder().id(4L).name("신발").isDeleted(false).build();
+    }
+
+    @Test
+    @DisplayName("이름이 일치하는 카테고리와 모든 하위 카테고리 id 조회")
+    void findIdsWithDescendantsByNameContaining() {
+        //given
+        given(categoryRepository.findAllByIsDeletedFalse()).willReturn(List.of(top, pants, shorts, shoes));
+
+        //when
+        Set<Long> ids = categoryTreeCache.findIdsWithDescendantsByNameContaining("의류");
+
+        //then
+        assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("일치하는 카테고리가 없으면 빈 집합 반환")
+    void findIdsWithDescendantsByNameContaining_notFound() {
+        //given
+        given(categoryRepository.findAllByIsDeletedFalse()).willReturn(List.of(top, pants, shorts, shoes));
+
+        //when
+        Set<Long> ids = categoryTreeCache.findIdsWithDescendantsByNameContaining("가방");
+
+        //then
+        assertThat(ids).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화 전까지는 카테고리를 다시 조회하지 않음")
+    void invalidate() {
+        //given
+        given(categoryRepository.findAllByIsDeletedFalse()).willReturn(List.of(top, pants, shorts, shoes));
+
+        //when
+        categoryTreeCache.findIdByName("바지");
+        categoryTreeCache.findIdByName("신발");
+        categoryTreeCache.invalidate();
+        categoryTreeCache.findIdByName("바지");
+
+        //then
+        verify(categoryRepository, times(2)).findAllByIsDeletedFalse();
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽어 온 트리는 캐시에 남기지 않음")
+    void invalidatedDuringLoad() {
+        //given
+        given(categoryRepository.findAllByIsDeletedFalse())
+                .willAnswer(invocation -> {
+                    // 다른 요청이 카테고리를 바꾼 상황 (이 조회가 읽은 트리는 이미 지난 값)
+                    categoryTreeCache.invalidate();
+                    return List.of(top, pants, shorts, shoes);
+                })
+                .willReturn(List.of(top, shoes));
+
+        //when
+        categoryTreeCache.findIdByName("바지");
+        boolean found = categoryTreeCache.findIdByName("바지").isPresent();
+
+        //then
+        assertThat(found).isFalse();
+        verify(categoryRepository, times(2)).findAllByIsDeletedFalse();
+    }
+
+    @Test
+    @DisplayName("무효화가 없어도 TTL 이 지나면 다른 서버의 변경을 다시 읽어 반영")
+    void reloadAfterTtl() {
+        //given
+        CategoryTreeCache expiringCache = new CategoryTreeCache(categoryRepository, meterRegistry, Duration.ZERO);
+        given(categoryRepository.findAllByIsDeletedFalse())
+                .willReturn(List.of(top, pants, shorts, shoes))
+                .willReturn(List.of(top, shoes));
+
+        //when
+        boolean before = expiringCache.findIdByName("바지").isPresent();
+        boolean after = expiringCache.findIdByName("바지").isPresent();
+
+        //then
+        assertThat(before).isTrue();
+        assertThat(after).isFalse();
+        verify(categoryRepository, times(2)).findAllByIsDeletedFalse();
+    }
+}
@@ -0,0 +1,174 @@
+package com.team2.fitinside.config;
+
+import com.team2.fitinside.FitinsideApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 플랫폼 스레드 모드와 가상 스레드 모드의 동시 처리량 비교 (./gradlew benchmark -PjavaVersion=21)
+// S3/SMTP/DB 호출을 흉내내는 100ms 블로킹 엔드포인트에 동시 요청을 보내 최대 동시 처리 수와 p99 지연 시간을 측정
+@Tag("benchmark")
+@DisplayName("요청 처리 스레드 모드별 부하 비교")
+class ThreadModeLoadBenchmark {
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final long BLOCKING_MILLIS = 100;
+
+    @Test
+    @DisplayName("플랫폼 스레드 vs 가상 스레드 최대 동시 처리 수, p99 비교")
+    void compareThreadModes() throws Exception {
+        List<Result> results = new ArrayList<>();
+        results.add(run("platform", false));
+
+        if (Runtime.version().feature() >= 21) {
+            results.add(run("virtual", true));
+        } else {
+            System.out.println("[load] Java " + Runtime.version().feature() + " 에서는 가상 스레드 모드를 건너뜀 (-PjavaVersion=21 로 실행)");
+        }
+
+        System.out.printf("%n%-10s %12s %14s %10s %10s%n", "mode", "max in-flight", "throughput/s", "p50(ms)", "p99(ms)");
+        for (Result result : results) {
+            System.out.printf("%-10s %12d %14.0f %10d %10d%n",
+                    result.mode(), result.maxInFlight(), result.throughput(), result.p50Millis(), result.p99Millis());
+        }
+
+        assertThat(results).allMatch(result -> result.errors() == 0);
+    }
+
+    private Result run(String mode, boolean virtualThreads) throws Exception {
+        BlockingEndpoint.reset();
+        try (ConfigurableApplicationContext context = start(mode, virtualThreads)) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/auth/load-test/blocking");
+            return drive(mode, uri);
+        }
+    }
+
+    private ConfigurableApplicationContext start(String mode, boolean virtualThreads) {
+        String secret = Base64.getEncoder().encodeToString(
+                "fitinside-load-test-secret-key-fitinside-load-test-secret-key-0123".getBytes(StandardCharsets.UTF_8));
+
+        return new SpringApplicationBuilder(FitinsideApplication.class)
+                .profiles("load-test")
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",   // 실행 중인 서버의 관리 포트(8081)와 겹치지 않도록
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "fitinside.rate-limit.enabled=false",   // 부하 생성기는 한 IP 에서 익명으로 요청하므로 제한을 끔
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "jwt.secret=" + secret,
+                        "spring.security.oauth2.client.registration.google.client-id=load-test",
+                        "spring.security.oauth2.client.registration.google.client-secret=load-test",
+                        "spring.mail.password=load-test",
+                        "cloud.aws.credentials.accessKey=load-test",
+                        "cloud.aws.credentials.secretKey=load-test")
+                .run();
+    }
+
+    private Result drive(String mode, URI uri) throws Exception {
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(32);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(httpExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch startSignal = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(clients.submit(() -> {
+                startSignal.await();
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = client.send(
+                            HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    latencies.add(System.nanoTime() - start);
+                    if (response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        clients.shutdown();
+        httpExecutor.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Result(mode,
+                BlockingEndpoint.maxInFlight.get(),
+                sorted.size() / seconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                errors.get());
+    }
+
+    private long percentileMillis(List<Long> sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos.get(Math.max(index, 0)));
+    }
+
+    private record Result(String mode, int maxInFlight, double throughput, long p50Millis, long p99Millis, int errors) {
+    }
+
+    // 외부 I/O 를 흉내내는 테스트 전용 엔드포인트 (load-test 프로필에서만 등록)
+    @RestController
+    @Profile("load-test")
+    static class BlockingEndpoint {
+
+        static final AtomicInteger inFlight = new AtomicInteger();
+        static final AtomicInteger maxInFlight = new AtomicInteger();
+
+        static void reset() {
+            inFlight.set(0);
+            maxInFlight.set(0);
+        }
+
+        @GetMapping("/api/auth/load-test/blocking")
+        public String blocking() throws InterruptedException {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(BLOCKING_MILLIS);
+                return "ok";
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
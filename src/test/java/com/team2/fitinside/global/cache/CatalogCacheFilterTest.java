@@ -0,0 +1,130 @@
+package com.team2.fitinside.global.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("카탈로그 HTTP 캐시 필터 단위 테스트")
+class CatalogCacheFilterTest {
+
+    private static final String CACHE_CONTROL = "public, max-age=0, s-maxage=60, stale-while-revalidate=300";
+
+    @Mock
+    private CatalogVersionRegistry catalogVersionRegistry;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private CatalogCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CatalogCacheFilter(catalogVersionRegistry, CACHE_CONTROL);
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 200 응답에 ETag, Cache-Control 추가")
+    void addCacheHeaders() throws Exception {
+        //given
+        given(catalogVersionRegistry.token(CatalogResource.BANNER)).willReturn("3:7:3");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/banners");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(filter.etag("/api/banners"));
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo(CACHE_CONTROL);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 컨트롤러 호출 없이 304 반환")
+    void notModified() throws Exception {
+        //given
+        given(catalogVersionRegistry.token(CatalogResource.PRODUCT)).willReturn("100:2024-10-01T10:00");
+        given(catalogVersionRegistry.token(CatalogResource.CATEGORY)).willReturn("20:4");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, filter.etag("/api/products/1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, filterChain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("약한 비교: W/ 접두사가 없는 If-None-Match 도 같은 ETag 로 판단")
+    void notModifiedWithoutWeakPrefix() throws Exception {
+        //given
+        given(catalogVersionRegistry.token(CatalogResource.CATEGORY)).willReturn("20:4");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, filter.etag("/api/categories").substring(2));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, filterChain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("W/");
+    }
+
+    @Test
+    @DisplayName("오류 응답에는 캐시 헤더를 추가하지 않음")
+    void skipErrorResponse() throws Exception {
+        //given
+        given(catalogVersionRegistry.token(CatalogResource.CATEGORY)).willReturn("20:4");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories/99");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_NOT_FOUND);
+            res.getWriter().write("{}");
+        };
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    @Test
+    @DisplayName("조회가 아닌 요청은 검사하지 않음")
+    void skipNonGet() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, filterChain);
+
+        //then
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(catalogVersionRegistry);
+    }
+}
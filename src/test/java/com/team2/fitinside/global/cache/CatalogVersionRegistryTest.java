@@ -0,0 +1,40 @@
+package com.team2.fitinside.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(CatalogVersionRegistry.class)
+@DisplayName("카탈로그 버전 토큰 JDBC 테스트")
+class CatalogVersionRegistryTest {
+
+    @Autowired
+    private CatalogVersionRegistry catalogVersionRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("상품 변경은 같은 트랜잭션에서 슬롯 카운터를 올리고, 토큰은 슬롯 합계로 바뀐다")
+    void productChangeIncrementsCounter() {
+        //given
+        String before = catalogVersionRegistry.token(CatalogResource.PRODUCT);
+
+        //when
+        for (int i = 0; i < 40; i++) {
+            catalogVersionRegistry.changed(CatalogResource.PRODUCT);
+        }
+
+        //then
+        assertThat(before).isEqualTo("0");
+        assertThat(catalogVersionRegistry.token(CatalogResource.PRODUCT)).isEqualTo("40");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM catalog_version", Integer.class))
+                .isLessThanOrEqualTo(CatalogVersionRegistry.COUNTER_SLOTS);
+    }
+}
@@ -0,0 +1,129 @@
+package com.team2.fitinside.global.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2.fitinside.order.event.OrderCreated;
+import com.team2.fitinside.order.event.OrderEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("아웃박스 이벤트 전달 단위 테스트")
+class OutboxDispatcherTest {
+
+    private static final OrderCreated ORDER_CREATED = new OrderCreated(10L, 1L, 30000, 27000, 3000, 2);
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+    private OutboxDispatcher outboxDispatcher;
+    private OutboxEvent outboxEvent;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        outboxDispatcher = new OutboxDispatcher(outboxEventRepository, List.of(subscriber), objectMapper,
+                transactionTemplate, meterRegistry, new ThreadPoolTaskExecutorBuilder(), 1, 10);
+
+        outboxEvent = new OutboxEvent(ORDER_CREATED, objectMapper.writeValueAsString(ORDER_CREATED), LocalDateTime.now());
+        ReflectionTestUtils.setField(outboxEvent, "id", 1L);
+
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(outboxEventRepository.claim(eq(1L), eq(OutboxStatus.PENDING), any(), any())).willReturn(1);
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(outboxEvent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxDispatcher.destroy();
+    }
+
+    @Test
+    @DisplayName("저장된 이벤트를 역직렬화해 구독자에게 전달하고 전달 완료 처리")
+    void deliver() {
+        //when
+        outboxDispatcher.process(1L);
+
+        //then
+        assertThat(subscriber.received).containsExactly(ORDER_CREATED);
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(outboxEvent.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("구독자가 실패하면 재시도 횟수를 늘리고 다음 전달 시각을 미룸")
+    void retryOnFailure() {
+        //given
+        subscriber.fail = true;
+        LocalDateTime before = LocalDateTime.now();
+
+        //when
+        outboxDispatcher.process(1L);
+
+        //then
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+        assertThat(outboxEvent.getNextAttemptAt()).isAfter(before.plusSeconds(5));
+        assertThat(meterRegistry.counter("fitinside.outbox.events", "aggregate", "order", "outcome", "retry").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 주문의 앞선 이벤트가 남아 있으면 전달하지 않고 미룸")
+    void keepOrderPerAggregate() {
+        //given
+        given(outboxEventRepository.existsByAggregateTypeAndAggregateIdAndStatusAndIdLessThan(
+                "order", 10L, OutboxStatus.PENDING, 1L)).willReturn(true);
+
+        //when
+        outboxDispatcher.process(1L);
+
+        //then
+        assertThat(subscriber.received).isEmpty();
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outboxEvent.getAttempts()).isZero();
+    }
+
+    private static class RecordingSubscriber implements DomainEventSubscriber<OrderEvent> {
+
+        private final List<OrderEvent> received = new ArrayList<>();
+        private boolean fail;
+
+        @Override
+        public Class<OrderEvent> eventType() {
+            return OrderEvent.class;
+        }
+
+        @Override
+        public void handle(OrderEvent event) {
+            if (fail) {
+                throw new IllegalStateException("구독자 처리 실패");
+            }
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.team2.fitinside.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TSID 발급기 단위 테스트")
+class TsidFactoryTest {
+
+    private static final long NOW = TsidFactory.EPOCH + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 밀리초 안에서는 순번이 증가하고 노드 번호가 포함됨")
+    void sameMillisecond() {
+        //given
+        TsidFactory factory = new TsidFactory(5, () -> NOW);
+
+        //when
+        long first = factory.next();
+        long second = factory.next();
+
+        //then
+        assertThat(second).isEqualTo(first + 1);
+        assertThat((first >>> TsidFactory.SEQUENCE_BITS) & TsidFactory.MAX_NODE).isEqualTo(5);
+        assertThat(first >>> (TsidFactory.NODE_BITS + TsidFactory.SEQUENCE_BITS)).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가거나 순번이 넘쳐도 id 는 계속 증가")
+    void monotonic() {
+        //given
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidFactory factory = new TsidFactory(0, clock::get);
+        long previous = factory.next();
+
+        //when, then
+        for (int i = 0; i < 1_000; i++) {
+            if (i == 500) {
+                clock.addAndGet(-10);
+            }
+            long next = factory.next();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("자바스크립트에서 정확히 표현되는 53비트 범위 안의 값")
+    void fitsInDoublePrecision() {
+        //given
+        TsidFactory factory = new TsidFactory(TsidFactory.MAX_NODE, System::currentTimeMillis);
+
+        //when
+        long id = factory.next();
+
+        //then
+        assertThat(id).isPositive().isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 중복 없음")
+    void concurrentUnique() throws Exception {
+        //given
+        TsidFactory factory = new TsidFactory(1, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(factory.next());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        //then
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("같은 시계를 쓰는 두 발급기의 순번은 밀리초마다 임의의 값에서 시작")
+    void unpredictableSequenceStart() {
+        //given
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidFactory first = new TsidFactory(0, clock::get);
+        TsidFactory second = new TsidFactory(0, clock::get);
+        Set<Long> firstStarts = new HashSet<>();
+        List<Long> firstIds = new ArrayList<>();
+        List<Long> secondIds = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 64; i++) {
+            clock.incrementAndGet();
+            long id = first.next();
+            firstIds.add(id);
+            firstStarts.add(id & ((1L << TsidFactory.SEQUENCE_BITS) - 1));
+            secondIds.add(second.next());
+        }
+
+        //then
+        assertThat(firstStarts).hasSizeGreaterThan(1).allMatch(start -> start < TsidFactory.SEQUENCE_OFFSET_BOUND);
+        assertThat(secondIds).isNotEqualTo(firstIds);
+    }
+
+    @Test
+    @DisplayName("노드 번호 범위(0 ~ 15) 검증")
+    void invalidNode() {
+        assertThatThrownBy(() -> new TsidFactory(16, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
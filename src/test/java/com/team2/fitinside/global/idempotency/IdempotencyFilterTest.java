@@ -0,0 +1,178 @@
+package com.team2.fitinside.global.idempotency;
+
+import com.team2.fitinside.global.util.HashUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency-Key 필터 단위 테스트")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"orderItems\":[{\"productId\":1}]}";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(idempotencyStore, new SimpleMeterRegistry(), 65536, 1024);
+    }
+
+    @Test
+    @DisplayName("처음 보낸 요청은 처리 후 응답 저장, 컨트롤러는 본문을 그대로 읽음")
+    void processAndStore() throws Exception {
+        //given
+        given(idempotencyStore.acquire(anyString(), eq(HashUtils.sha256Hex(BODY))))
+                .willReturn(IdempotencyStore.Acquisition.ACQUIRED);
+        FilterChain chain = (req, res) -> {
+            assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+            ((HttpServletResponse) res).setStatus(201);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"id\":1}");
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(orderRequest(BODY), response, chain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        verify(idempotencyStore).complete(anyString(), eq(HashUtils.sha256Hex(BODY)), eq(201), anyString(), eq("{\"id\":1}"));
+        verify(idempotencyStore, never()).abandon(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 보낸 요청은 컨트롤러를 거치지 않고 저장된 응답 반환")
+    void replay() throws Exception {
+        //given
+        given(idempotencyStore.acquire(anyString(), anyString())).willReturn(IdempotencyStore.Acquisition.replay(
+                new StoredResponse(HashUtils.sha256Hex(BODY), 201, "application/json", "{\"id\":1}", LocalDateTime.now().plusHours(1))));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(orderRequest(BODY), response, filterChain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 본문을 보내면 422")
+    void rejectReusedKey() throws Exception {
+        //given
+        given(idempotencyStore.acquire(anyString(), anyString())).willReturn(IdempotencyStore.Acquisition.replay(
+                new StoredResponse(HashUtils.sha256Hex("{}"), 201, "application/json", "{\"id\":1}", LocalDateTime.now().plusHours(1))));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(orderRequest(BODY), response, filterChain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    @DisplayName("본문이 한도를 넘으면 Content-Length 가 없어도 한도까지만 읽고 413, 키도 잡지 않음")
+    void rejectTooLargeBody() throws Exception {
+        //given
+        MockHttpServletRequest declared = orderRequest("x".repeat(2048));
+        // chunked 요청처럼 길이를 알리지 않는 요청
+        HttpServletRequestWrapper undeclared = new HttpServletRequestWrapper(orderRequest("x".repeat(2048))) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        MockHttpServletResponse declaredResponse = new MockHttpServletResponse();
+        MockHttpServletResponse undeclaredResponse = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(declared, declaredResponse, filterChain);
+        filter.doFilter(undeclared, undeclaredResponse, filterChain);
+
+        //then
+        assertThat(declaredResponse.getStatus()).isEqualTo(413);
+        assertThat(undeclaredResponse.getStatus()).isEqualTo(413);
+        assertThat(undeclaredResponse.getContentAsString()).contains("IDEMPOTENCY_REQUEST_TOO_LARGE");
+        verifyNoInteractions(idempotencyStore, filterChain);
+    }
+
+    @Test
+    @DisplayName("서버 에러 응답은 저장하지 않고 같은 키로 다시 처리할 수 있게 함")
+    void abandonOnServerError() throws Exception {
+        //given
+        given(idempotencyStore.acquire(anyString(), anyString())).willReturn(IdempotencyStore.Acquisition.ACQUIRED);
+        FilterChain chain = (req, res) -> ((HttpServletResponse) res).setStatus(500);
+
+        //when
+        filter.doFilter(orderRequest(BODY), new MockHttpServletResponse(), chain);
+
+        //then
+        verify(idempotencyStore).abandon(anyString());
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("보관한 본문은 비동기 읽기(ReadListener)에도 바로 완료 통지")
+    void cachedBodyReadListener() throws Exception {
+        //given
+        IdempotencyFilter.CachedBodyRequest request = new IdempotencyFilter.CachedBodyRequest(orderRequest(BODY),
+                BODY.getBytes(StandardCharsets.UTF_8));
+        ReadListener readListener = mock(ReadListener.class);
+
+        //when
+        request.getInputStream().setReadListener(readListener);
+
+        //then
+        InOrder inOrder = inOrder(readListener);
+        inOrder.verify(readListener).onDataAvailable();
+        inOrder.verify(readListener).onAllDataRead();
+        verify(readListener, never()).onError(any());
+    }
+
+    private MockHttpServletRequest orderRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/order");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, "3f1c2b9e-order-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,90 @@
+package com.team2.fitinside.global.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 운영과 같은 MySQL 에 Flyway 마이그레이션으로 만든 스키마에서 실행 계획 확인
+// (ddl-auto 로 만든 스키마는 엔티티의 @Index 를 따르므로 마이그레이션에서 빠진 인덱스를 잡지 못함)
+// ddl-auto=validate 로 엔티티 매핑과 마이그레이션 스키마가 어긋나면 컨텍스트 시작 단계에서 실패
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("주요 조회 쿼리 실행 계획 테스트")
+class HotQueryExplainTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 각 리포지토리 메서드가 실제로 실행하는 조건/정렬과 동일한 형태의 SQL
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("ProductRepository.findByIsDeletedFalse",
+                        "SELECT * FROM product WHERE is_deleted = FALSE ORDER BY created_at DESC"),
+                Arguments.of("ProductRepository.findByCategoryAndIsDeletedFalse",
+                        "SELECT * FROM product WHERE category_id = 1 AND is_deleted = FALSE ORDER BY created_at DESC"),
+                Arguments.of("ProductRepository.findByCategoryIdInAndIsDeletedFalse",
+                        "SELECT * FROM product WHERE category_id IN (1, 2, 3) AND is_deleted = FALSE"),
+                Arguments.of("CartRepository.findAllByMember_Id",
+                        "SELECT * FROM cart WHERE member_id = 1"),
+                Arguments.of("CartRepository.findByMember_IdAndProduct_Id",
+                        "SELECT * FROM cart WHERE member_id = 1 AND product_id = 1"),
+                Arguments.of("AddressRepository.findByMemberIdAndDefaultAddress",
+                        "SELECT * FROM address WHERE member_id = 1 AND default_address = 'Y'"),
+                Arguments.of("AddressRepository.findAllByMemberId",
+                        "SELECT * FROM address WHERE member_id = 1 AND is_deleted = FALSE ORDER BY created_at DESC"),
+                Arguments.of("RefreshTokenRepository.findByTokenHash",
+                        "SELECT * FROM refresh_token WHERE token_hash = 'hash'"),
+                Arguments.of("RefreshTokenRepository.findExpiredIds",
+                        "SELECT refreshtoken_id FROM refresh_token WHERE expires_at < CURRENT_TIMESTAMP"),
+                Arguments.of("CouponRepository.findByCode",
+                        "SELECT * FROM coupon WHERE coupon_code = 'ABC123'"),
+                Arguments.of("CouponMemberRepository.findByMember_IdAndCoupon_IdAndUsedIs",
+                        "SELECT * FROM coupon_member WHERE member_id = 1 AND coupon_id = 1 AND used = FALSE"),
+                Arguments.of("MemberRepository.findByEmail",
+                        "SELECT * FROM member WHERE email = 'test@example.com' AND is_deleted = FALSE"),
+                Arguments.of("OrderRepository.findByMemberIdAndProductName",
+                        "SELECT * FROM orders WHERE member_id = 1 AND is_deleted = FALSE ORDER BY created_at DESC"),
+                Arguments.of("OrderProductRepository.searchFirst",
+                        "SELECT DISTINCT order_created_at, order_id FROM order_product WHERE member_id = 1 "
+                                + "AND order_product_name LIKE '%셔츠%' ORDER BY order_created_at DESC, order_id DESC")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("주요 조회 쿼리는 전체 테이블 스캔을 하지 않는다")
+    void hotQueryUsesIndex(String repositoryMethod, String sql) {
+        //when
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        //then
+        // type 이 ALL 이면 전체 스캔 (유니크 인덱스로 바로 판정된 경우 type 은 null)
+        assertThat(plan)
+                .as("%s 실행 계획: %s", repositoryMethod, plan)
+                .isNotEmpty()
+                .noneMatch(row -> "ALL".equals(row.get("type")));
+    }
+}
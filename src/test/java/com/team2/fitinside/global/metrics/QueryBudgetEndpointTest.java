@@ -0,0 +1,201 @@
+package com.team2.fitinside.global.metrics;
+
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.category.repository.CategoryRepository;
+import com.team2.fitinside.coupon.entity.Coupon;
+import com.team2.fitinside.coupon.entity.CouponMember;
+import com.team2.fitinside.coupon.entity.CouponType;
+import com.team2.fitinside.coupon.repository.CouponMemberRepository;
+import com.team2.fitinside.coupon.repository.CouponRepository;
+import com.team2.fitinside.member.entity.Authority;
+import com.team2.fitinside.member.entity.Member;
+import com.team2.fitinside.member.repository.MemberRepository;
+import com.team2.fitinside.order.entity.Order;
+import com.team2.fitinside.order.entity.OrderProduct;
+import com.team2.fitinside.order.repository.OrderRepository;
+import com.team2.fitinside.product.entity.Product;
+import com.team2.fitinside.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// @QueryBudget 이 붙은 엔드포인트를 실제 H2 + 전체 필터 체인으로 호출
+// 테스트는 fail-on-violation=true (build.gradle) 로 실행되므로 예산 초과/N+1 의심 시 QueryCountFilter 가 예외를 던져 실패
+// N+1 이 드러나도록 목록마다 n-plus-one-threshold(3) 건 이상 저장
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("@QueryBudget 엔드포인트 쿼리 수 검사")
+class QueryBudgetEndpointTest {
+
+    private static final int ROWS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponMemberRepository couponMemberRepository;
+
+    @Value("${fitinside.query-guard.fail-on-violation}")
+    private boolean failOnViolation;
+
+    private Member member;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(member(Authority.ROLE_USER));
+
+        Category category = categoryRepository.save(Category.builder()
+                .name("상의")
+                .displayOrder(1L)
+                .isDeleted(false)
+                .build());
+        products = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            products.add(productRepository.save(Product.builder()
+                    .category(category)
+                    .categoryName(category.getName())
+                    .productName("셔츠 " + i)
+                    .price(10_000)
+                    .stock(10)
+                    .productImgUrls(new ArrayList<>(List.of("https://img.example.com/shirt-" + i + ".png")))
+                    .productDescImgUrls(new ArrayList<>())
+                    .build()));
+        }
+    }
+
+    @Test
+    @DisplayName("테스트는 예산 위반 시 실패하도록 실행됨")
+    void failOnViolationEnabled() {
+        assertThat(failOnViolation).isTrue();
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 조회 (예산 2)")
+    void getAllCategories() throws Exception {
+        mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 (예산 4)")
+    void getAllProducts() throws Exception {
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("회원 주문 목록 조회 (예산 8)")
+    void findAllOrders() throws Exception {
+        //given
+        saveOrders();
+
+        //when, then
+        mockMvc.perform(get("/api/orders").with(loginAs(member, "USER")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("회원 주문 상품명 검색 (예산 8)")
+    void searchOrders() throws Exception {
+        //given
+        saveOrders();
+
+        //when, then
+        mockMvc.perform(get("/api/orders/search").param("productName", "셔츠").with(loginAs(member, "USER")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("쿠폰 보유 회원 목록 조회 (예산 4)")
+    void findCouponMembers() throws Exception {
+        //given
+        Member admin = memberRepository.save(member(Authority.ROLE_ADMIN));
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name("가입 쿠폰")
+                .code("ABC123")
+                .type(CouponType.AMOUNT)
+                .value(1_000)
+                .expiredAt(LocalDate.now().plusDays(30))
+                .build());
+        for (int i = 0; i < ROWS; i++) {
+            couponMemberRepository.save(CouponMember.builder()
+                    .coupon(coupon)
+                    .member(memberRepository.save(member(Authority.ROLE_USER)))
+                    .build());
+        }
+
+        //when, then
+        mockMvc.perform(get("/api/admin/coupons/" + coupon.getId()).with(loginAs(admin, "ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    private void saveOrders() {
+        for (Product product : products) {
+            Order order = Order.builder()
+                    .member(member)
+                    .deliveryFee(3_000)
+                    .postalCode("12345")
+                    .deliveryAddress("서울시 강남구")
+                    .deliveryReceiver("홍길동")
+                    .deliveryPhone("01012345678")
+                    .build();
+            order.addOrderProduct(OrderProduct.builder()
+                    .product(product)
+                    .orderProductName(product.getProductName())
+                    .orderProductPrice(product.getPrice())
+                    .count(1)
+                    .discountedPrice(product.getPrice())
+                    .build());
+            orderRepository.save(order);
+        }
+    }
+
+    private static Member member(Authority authority) {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        return Member.builder()
+                .email(name + "@example.com")
+                .userName(name)
+                .password("encoded")
+                .authority(authority)
+                .build();
+    }
+
+    // SecurityUtil.getCurrentMemberId 는 인증 이름을 회원 id 로 해석
+    private static RequestPostProcessor loginAs(Member member, String role) {
+        return user(String.valueOf(member.getId())).roles(role);
+    }
+}
@@ -0,0 +1,103 @@
+package com.team2.fitinside.global.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("요청당 쿼리 수 검사 필터 단위 테스트")
+class QueryCountFilterTest {
+
+    private static final String SELECT_PRODUCT = "select p1_0.id from product p1_0 where p1_0.id=?";
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountInspector inspector;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inspector = new QueryCountInspector(meterRegistry);
+        request = new MockHttpServletRequest("GET", "/api/orders");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders");
+    }
+
+    @Test
+    @DisplayName("요청당 실행된 SQL 수를 URI 패턴별로 기록")
+    void recordQueryCount() throws Exception {
+        //given
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry, true, 3);
+        FilterChain chain = (req, res) -> {
+            inspector.inspect("select o1_0.id from orders o1_0");
+            inspector.inspect("select count(o1_0.id) from orders o1_0");
+        };
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        //then
+        assertThat(meterRegistry.get("fitinside.http.db.queries").tag("uri", "/api/orders").summary().totalAmount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("테스트 모드에서 @QueryBudget 초과 시 예외 발생")
+    void budgetExceeded() {
+        //given
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry, true, 3);
+        request.setAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE, 1);
+        FilterChain chain = (req, res) -> {
+            inspector.inspect("select o1_0.id from orders o1_0");
+            inspector.inspect("select count(o1_0.id) from orders o1_0");
+        };
+
+        //when, then
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), chain))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /api/orders");
+    }
+
+    @Test
+    @DisplayName("같은 SELECT 형태가 반복되면 N+1 의심으로 기록")
+    void detectNPlusOne() throws Exception {
+        //given
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry, false, 3);
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < 3; i++) {
+                inspector.inspect(SELECT_PRODUCT);
+            }
+        };
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        //then
+        assertThat(meterRegistry.get("fitinside.http.db.violations").tag("type", "n_plus_one").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반복되는 INSERT (배치 저장) 는 N+1 로 보지 않음")
+    void ignoreRepeatedInsert() throws Exception {
+        //given
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry, true, 3);
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < 5; i++) {
+                inspector.inspect("insert into cart (member_id,product_id,quantity,id) values (?,?,?,?)");
+            }
+        };
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        //then
+        assertThat(meterRegistry.find("fitinside.http.db.violations").counter()).isNull();
+    }
+}
@@ -0,0 +1,147 @@
+package com.team2.fitinside.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("요청 제한 필터 단위 테스트")
+class RateLimitFilterTest {
+
+    @Mock
+    private FilterChain filterChain;
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Group write = new RateLimitProperties.Group();
+        write.setPaths(List.of("/api/carts/**"));
+        write.setMethods(List.of("POST"));
+        write.setCapacity(1);
+        write.setRefillPerSecond(0.5);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("write", write);
+        properties.setTrustedProxies(List.of("10.0.0.0/8"));
+        filter = new RateLimitFilter(new RateLimiter(1000, clock::get), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 429 와 Retry-After 반환")
+    void rejectWithRetryAfter() throws Exception {
+        //given
+        filter.doFilter(cartRequest("1.1.1.1"), new MockHttpServletResponse(), filterChain);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(cartRequest("1.1.1.1"), response, filterChain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("TOO_MANY_REQUESTS");
+        verify(filterChain, times(1)).doFilter(any(), any());
+        assertThat(meterRegistry.counter("fitinside.rate_limit.requests", "group", "write", "outcome", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인한 회원은 IP 가 달라도 같은 버킷 사용")
+    void keyByMember() throws Exception {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        filter.doFilter(cartRequest("1.1.1.1"), new MockHttpServletResponse(), filterChain);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(cartRequest("2.2.2.2"), response, filterChain);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("그룹에 해당하지 않는 요청은 제한하지 않음")
+    void skipUnmatched() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/carts");
+        request.setRemoteAddr("1.1.1.1");
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        }
+
+        //then
+        verify(filterChain, times(3)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 별로 제한")
+    void keyByForwardedAddress() throws Exception {
+        //given
+        filter.doFilter(forwardedCartRequest("10.0.1.5", "1.1.1.1"), new MockHttpServletResponse(), filterChain);
+        MockHttpServletResponse otherClient = new MockHttpServletResponse();
+        MockHttpServletResponse sameClient = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(forwardedCartRequest("10.0.1.5", "2.2.2.2"), otherClient, filterChain);
+        filter.doFilter(forwardedCartRequest("10.0.2.9", "1.1.1.1"), sameClient, filterChain);
+
+        //then
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(sameClient.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 위조한 X-Forwarded-For 앞부분과 신뢰하지 않는 접속 주소의 헤더는 무시")
+    void ignoreSpoofedForwardedFor() {
+        //given
+        MockHttpServletRequest viaProxy = forwardedCartRequest("10.0.1.5", "9.9.9.9, 1.1.1.1");
+        MockHttpServletRequest direct = forwardedCartRequest("3.3.3.3", "1.1.1.1");
+
+        //when, then
+        assertThat(filter.clientIp(viaProxy)).isEqualTo("1.1.1.1");
+        assertThat(filter.clientIp(direct)).isEqualTo("3.3.3.3");
+    }
+
+    private MockHttpServletRequest forwardedCartRequest(String proxyAddr, String forwardedFor) {
+        MockHttpServletRequest request = cartRequest(proxyAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+    private MockHttpServletRequest cartRequest(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/carts");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package com.team2.fitinside.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("토큰 버킷 요청 제한 단위 테스트")
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 허용 후 거절하고 대기 시간 반환")
+    void burstThenReject() {
+        //given
+        RateLimiter rateLimiter = new RateLimiter(1000, clock::get);
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("write:ip:1.1.1.1", 5, 1)).isZero();
+        }
+        long waitNanos = rateLimiter.tryAcquire("write:ip:1.1.1.1", 5, 1);
+
+        //then
+        assertThat(waitNanos).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 충전 속도만큼 다시 허용")
+    void refill() {
+        //given
+        RateLimiter rateLimiter = new RateLimiter(1000, clock::get);
+        for (int i = 0; i < 2; i++) {
+            rateLimiter.tryAcquire("search:member:1", 2, 2);
+        }
+        assertThat(rateLimiter.tryAcquire("search:member:1", 2, 2)).isPositive();
+
+        //when
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        //then
+        assertThat(rateLimiter.tryAcquire("search:member:1", 2, 2)).isZero();
+        assertThat(rateLimiter.tryAcquire("search:member:1", 2, 2)).isPositive();
+    }
+
+    @Test
+    @DisplayName("키별로 버킷이 분리됨")
+    void separateKeys() {
+        //given
+        RateLimiter rateLimiter = new RateLimiter(1000, clock::get);
+        rateLimiter.tryAcquire("login:ip:1.1.1.1", 1, 1);
+
+        //when
+        long otherKey = rateLimiter.tryAcquire("login:ip:2.2.2.2", 1, 1);
+
+        //then
+        assertThat(rateLimiter.tryAcquire("login:ip:1.1.1.1", 1, 1)).isPositive();
+        assertThat(otherKey).isZero();
+    }
+
+    @Test
+    @DisplayName("키 수 한도를 넘으면 가득 찬 버킷을 정리해 최대 키 수 유지")
+    void boundedKeys() {
+        //given
+        RateLimiter rateLimiter = new RateLimiter(16, clock::get);
+        for (int i = 0; i < 1000; i++) {
+            rateLimiter.tryAcquire("write:ip:" + i, 10, 10);
+        }
+
+        //when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        for (int i = 1000; i < 2000; i++) {
+            rateLimiter.tryAcquire("write:ip:" + i, 10, 10);
+        }
+
+        //then
+        assertThat(rateLimiter.size()).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("정리할 버킷이 없을 만큼 키가 몰려도 제한이 풀리지 않고 새 키는 그룹 공용 버킷을 사용")
+    void keyFloodStaysLimited() {
+        //given
+        RateLimiter rateLimiter = new RateLimiter(16, clock::get);
+        int allowed = 0;
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            if (rateLimiter.tryAcquire("login:ip:" + i, 1, 1) == 0) {
+                allowed++;
+            }
+        }
+
+        //then
+        assertThat(rateLimiter.size()).isLessThanOrEqualTo(16);
+        assertThat(allowed).isLessThanOrEqualTo(16 + 1);
+    }
+}
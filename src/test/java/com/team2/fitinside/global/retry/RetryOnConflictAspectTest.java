@@ -0,0 +1,105 @@
+package com.team2.fitinside.global.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("동시 수정 충돌 재시도 단위 테스트")
+class RetryOnConflictAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConflictingService target;
+    private ConflictingService proxy;
+
+    @BeforeEach
+    void setUp() {
+        target = new ConflictingService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new RetryOnConflictAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("충돌이 최대 횟수보다 적게 나면 재시도 후 성공")
+    void recover() {
+        //given
+        target.conflicts = 2;
+
+        //when
+        String result = proxy.update();
+
+        //then
+        assertThat(result).isEqualTo("ok");
+        assertThat(target.calls).isEqualTo(3);
+        assertThat(meterRegistry.counter("fitinside.conflict.attempts",
+                "method", "ConflictingService.update", "outcome", "retried").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("fitinside.conflict.attempts",
+                "method", "ConflictingService.update", "outcome", "recovered").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 횟수까지 충돌하면 마지막 예외를 그대로 던짐")
+    void exhausted() {
+        //given
+        target.conflicts = 10;
+
+        //when, then
+        assertThatThrownBy(() -> proxy.update()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(target.calls).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 트랜잭션 안에서 호출되면 재시도하지 않음")
+    void skipInsideTransaction() {
+        //given
+        target.conflicts = 1;
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        //when, then
+        assertThatThrownBy(() -> proxy.update()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(target.calls).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간은 0 이상, 시도마다 2배로 늘어난 상한 이하")
+    void jitteredBackoff() throws Exception {
+        //given
+        RetryOnConflict annotation = ConflictingService.class.getMethod("update").getAnnotation(RetryOnConflict.class);
+
+        //when, then
+        for (int i = 0; i < 100; i++) {
+            assertThat(RetryOnConflictAspect.backoff(annotation, 1)).isBetween(0L, 1L);
+            assertThat(RetryOnConflictAspect.backoff(annotation, 3)).isBetween(0L, 4L);
+            assertThat(RetryOnConflictAspect.backoff(annotation, 10)).isBetween(0L, 5L);
+        }
+    }
+
+    static class ConflictingService {
+
+        int conflicts;
+        int calls;
+
+        @RetryOnConflict(maxAttempts = 3, backoffMillis = 1, maxBackoffMillis = 5)
+        public String update() {
+            calls++;
+            if (calls <= conflicts) {
+                throw new ObjectOptimisticLockingFailureException(ConflictingService.class, 1L);
+            }
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.team2.fitinside.member.service;
+
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.member.dto.MemberRequestDto;
+import com.team2.fitinside.member.entity.Member;
+import com.team2.fitinside.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("로그인 단위 테스트")
+class AuthServiceTest {
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    private MemberRequestDto loginRequest(String email, String password) {
+        MemberRequestDto requestDto = new MemberRequestDto();
+        requestDto.setEmail(email);
+        requestDto.setPassword(password);
+        return requestDto;
+    }
+
+    @Test
+    @DisplayName("없는 회원이면 더미 해시를 검증하고 비밀번호 불일치와 같은 오류")
+    void loginUnknownMember() {
+        //given
+        given(memberRepository.findByEmail("nobody@example.com")).willReturn(Optional.empty());
+
+        //when, then
+        assertThatThrownBy(() -> authService.login(null, null, loginRequest("nobody@example.com", "password123")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_LOGIN);
+        then(passwordHasher).should().matchesDummy("password123");
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 INVALID_LOGIN")
+    void loginWrongPassword() {
+        //given
+        Member member = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .password("encoded")
+                .build();
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+        given(passwordHasher.matches("wrong-password1", "encoded")).willReturn(false);
+
+        //when, then
+        assertThatThrownBy(() -> authService.login(null, null, loginRequest("test@example.com", "wrong-password1")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_LOGIN);
+        then(passwordHasher).should(never()).matchesDummy(anyString());
+    }
+}
@@ -39,6 +39,9 @@ class MemberServiceTest {
     @Mock
     private MemberMapper memberMapper;
 
+    @Mock
+    private PasswordHasher passwordHasher;
+
     private Member member;
     private MemberResponseDto responseDto;
 
@@ -154,6 +157,44 @@ class MemberServiceTest {
         verify(memberMapper, times(0)).memberToResponse(any()); // memberToResponse()는 호출되지 않아야 함
     }
 
+    @Test
+    @DisplayName("회원 비밀번호 변경 성공 테스트")
+    void changeMemberPassword() {
+        // given
+        when(securityUtil.getCurrentMemberId()).thenReturn(1L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(passwordHasher.matches("test", "test")).thenReturn(true);
+        when(passwordHasher.encode("new-password")).thenReturn("encoded");
+        when(memberRepository.save(any(Member.class))).thenReturn(member);
+        when(memberMapper.memberToResponse(member)).thenReturn(responseDto);
+
+        // when
+        memberService.changeMemberPassword("test", "new-password");
+
+        // then
+        assertEquals("encoded", member.getPassword()); // 전용 실행기에서 계산한 해시로 저장되었는지 확인
+        verify(passwordHasher, times(1)).matches("test", "test");
+        verify(passwordHasher, times(1)).encode("new-password");
+    }
+
+    @Test
+    @DisplayName("기존 비밀번호가 다르면 새 비밀번호 해시를 계산하지 않음")
+    void changeMemberPassword_WrongPassword() {
+        // given
+        when(securityUtil.getCurrentMemberId()).thenReturn(1L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(passwordHasher.matches("wrong", "test")).thenReturn(false);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> memberService.changeMemberPassword("wrong", "new-password"));
+
+        // then
+        assertEquals(ErrorCode.AUTH_CODE_EXTENSION, exception.getErrorCode());
+        verify(passwordHasher, never()).encode(anyString());
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+
     @Test
     @DisplayName("회원 전화번호 변경 성공 테스트")
     void changeMemberPhone() {
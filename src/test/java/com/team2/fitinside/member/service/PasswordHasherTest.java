@@ -0,0 +1,103 @@
+package com.team2.fitinside.member.service;
+
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비밀번호 해시 실행기 단위 테스트")
+class PasswordHasherTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), executor, meterRegistry, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 생성/검증 결과와 계산 시간 기록")
+    void matches() {
+        //given
+        String encoded = passwordHasher.encode("password123");
+
+        //when
+        boolean matched = passwordHasher.matches("password123", encoded);
+
+        //then
+        assertThat(matched).isTrue();
+        assertThat(passwordHasher.matches("wrong-password", encoded)).isFalse();
+        assertThat(meterRegistry.get("fitinside.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실행기가 가득 차면 해시 계산 없이 429")
+    void rejectWhenSaturated() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        //when, then
+        try {
+            assertThatThrownBy(() -> passwordHasher.encode("password123"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+            assertThat(meterRegistry.get("fitinside.password.hash.rejected").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("낮은 strength 로 저장된 해시는 다시 저장 대상")
+    void upgradeEncoding() {
+        //given
+        String weak = new BCryptPasswordEncoder(4).encode("password123");
+
+        //when, then
+        assertThat(passwordHasher.upgradeEncoding(weak)).isTrue();
+        assertThat(passwordHasher.upgradeEncoding(passwordHasher.encode("password123"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("더미 해시 검증은 실제 검증과 같은 계산을 거치고 항상 불일치")
+    void matchesDummy() {
+        //when
+        boolean matched = passwordHasher.matchesDummy("password123");
+
+        //then
+        assertThat(matched).isFalse();
+        assertThat(meterRegistry.get("fitinside.password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+}
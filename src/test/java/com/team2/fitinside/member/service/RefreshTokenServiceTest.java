@@ -0,0 +1,130 @@
+package com.team2.fitinside.member.service;
+
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.global.util.HashUtils;
+import com.team2.fitinside.jwt.TokenProvider;
+import com.team2.fitinside.oath.entity.RefreshToken;
+import com.team2.fitinside.oath.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("리프레시 토큰 교체(rotation) 단위 테스트")
+class RefreshTokenServiceTest {
+
+    private static final String OLD_TOKEN = "old-refresh-token";
+    private static final String FAMILY_ID = "family-1";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RefreshTokenService refreshTokenService;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, tokenProvider, transactionTemplate, Duration.ofSeconds(5));
+        authentication = new UsernamePasswordAuthenticationToken("test@example.com", "", List.of());
+
+        given(tokenProvider.getRefreshTokenMemberId(OLD_TOKEN)).willReturn(1L);
+        given(tokenProvider.getRefreshTokenFamily(OLD_TOKEN)).willReturn(FAMILY_ID);
+    }
+
+    @Test
+    @DisplayName("사용되지 않은 토큰은 조회 없이 사용 처리 후 같은 family 로 새 토큰 발급")
+    void rotate() {
+        //given
+        given(refreshTokenRepository.markRotated(eq(HashUtils.sha256Hex(OLD_TOKEN)), any())).willReturn(1);
+        given(tokenProvider.generateRefreshToken(authentication, 1L, FAMILY_ID)).willReturn("new-refresh-token");
+
+        //when
+        String rotated = refreshTokenService.rotate(OLD_TOKEN, authentication);
+
+        //then
+        assertThat(rotated).isEqualTo("new-refresh-token");
+        verify(refreshTokenRepository, never()).findByTokenHash(anyString());
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 뒤 사용된 토큰이 다시 들어오면 family 전체 폐기")
+    void reuseRevokesFamily() {
+        //given
+        String tokenHash = HashUtils.sha256Hex(OLD_TOKEN);
+        RefreshToken used = new RefreshToken(1L, tokenHash, FAMILY_ID, LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(used, "rotatedAt", LocalDateTime.now().minusMinutes(5));
+        given(refreshTokenRepository.markRotated(eq(tokenHash), any())).willReturn(0);
+        given(refreshTokenRepository.findByTokenHash(tokenHash)).willReturn(Optional.of(used));
+
+        //when, then
+        assertThatThrownBy(() -> refreshTokenService.rotate(OLD_TOKEN, authentication))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        verify(refreshTokenRepository).revokeFamily(FAMILY_ID);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("사용 직후(유예 시간 안) 같은 토큰이 다시 들어오면 family 는 유지하고 거절만")
+    void concurrentReuseWithinGrace() {
+        //given
+        String tokenHash = HashUtils.sha256Hex(OLD_TOKEN);
+        RefreshToken justUsed = new RefreshToken(1L, tokenHash, FAMILY_ID, LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(justUsed, "rotatedAt", LocalDateTime.now().minusSeconds(1));
+        given(refreshTokenRepository.markRotated(eq(tokenHash), any())).willReturn(0);
+        given(refreshTokenRepository.findByTokenHash(tokenHash)).willReturn(Optional.of(justUsed));
+
+        //when, then
+        assertThatThrownBy(() -> refreshTokenService.rotate(OLD_TOKEN, authentication))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("폐기된 family 의 토큰은 사용 처리되지 않고 거부")
+    void revokedFamily() {
+        //given
+        String tokenHash = HashUtils.sha256Hex(OLD_TOKEN);
+        RefreshToken revoked = new RefreshToken(1L, tokenHash, FAMILY_ID, LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(revoked, "revoked", true);
+        given(refreshTokenRepository.markRotated(eq(tokenHash), any())).willReturn(0);
+        given(refreshTokenRepository.findByTokenHash(tokenHash)).willReturn(Optional.of(revoked));
+
+        //when, then
+        assertThatThrownBy(() -> refreshTokenService.rotate(OLD_TOKEN, authentication))
+                .isInstanceOf(CustomException.class);
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+}
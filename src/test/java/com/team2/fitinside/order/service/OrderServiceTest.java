@@ -0,0 +1,148 @@
+package com.team2.fitinside.order.service;
+
+import com.team2.fitinside.cart.repository.CartRepository;
+import com.team2.fitinside.config.SecurityUtil;
+import com.team2.fitinside.coupon.repository.CouponMemberRepository;
+import com.team2.fitinside.coupon.service.CouponService;
+import com.team2.fitinside.global.event.DomainEventPublisher;
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.member.repository.MemberRepository;
+import com.team2.fitinside.order.dto.OrderUserCursorResponseDto;
+import com.team2.fitinside.order.entity.Order;
+import com.team2.fitinside.order.mapper.OrderMapper;
+import com.team2.fitinside.order.repository.OrderProductRepository;
+import com.team2.fitinside.order.repository.OrderRepository;
+import com.team2.fitinside.order.repository.OrderSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("주문 검색 서비스 단위 테스트")
+class OrderServiceTest {
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderProductRepository orderProductRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private CouponMemberRepository couponMemberRepository;
+
+    @Mock
+    private SecurityUtil securityUtil;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 0, 0, 123456000);
+
+    @BeforeEach
+    void setUp() {
+        given(securityUtil.getCurrentMemberId()).willReturn(1L);
+    }
+
+    private static OrderSearchHit hit(LocalDateTime createdAt, Long orderId) {
+        return new OrderSearchHit() {
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public Long getOrderId() {
+                return orderId;
+            }
+        };
+    }
+
+    private static Order order(Long id, boolean deleted) {
+        Order order = Order.builder().id(id).build();
+        ReflectionTestUtils.setField(order, "isDeleted", deleted);
+        return order;
+    }
+
+    @Test
+    @DisplayName("한 건 더 조회해 다음 페이지가 있으면 마지막 결과로 커서를 만들고, 검색 순서를 유지한 채 삭제된 주문은 뺀다")
+    void searchFirstPage() {
+        //given
+        given(orderProductRepository.searchFirst(1L, "셔츠", PageRequest.of(0, 3)))
+                .willReturn(List.of(hit(now, 30L), hit(now.minusDays(1), 20L), hit(now.minusDays(2), 10L)));
+        // IN 조회 결과는 순서가 보장되지 않음
+        given(orderRepository.findAllWithOrderProductsByIdIn(List.of(30L, 20L)))
+                .willReturn(List.of(order(20L, false), order(30L, true)));
+        given(orderMapper.toOrderUserResponseDtoList(anyList())).willReturn(List.of());
+
+        //when
+        OrderUserCursorResponseDto response = orderService.searchOrders(" 셔츠 ", null, 2);
+
+        //then
+        verify(orderMapper).toOrderUserResponseDtoList(argThat(
+                orders -> orders.size() == 1 && orders.get(0).getId().equals(20L)));
+        OrderSearchCursor next = OrderSearchCursor.decode(response.getNextCursor());
+        assertThat(next.createdAt()).isEqualTo(now.minusDays(1));
+        assertThat(next.orderId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서 이후부터 검색하고, 마지막 페이지면 nextCursor 는 null 이다")
+    void searchAfterCursor() {
+        //given
+        String cursor = new OrderSearchCursor(now, 30L).encode();
+        given(orderProductRepository.searchAfter(1L, "", now, 30L, PageRequest.of(0, 6)))
+                .willReturn(List.of(hit(now.minusDays(1), 20L)));
+        given(orderRepository.findAllWithOrderProductsByIdIn(List.of(20L))).willReturn(List.of(order(20L, false)));
+        given(orderMapper.toOrderUserResponseDtoList(anyList())).willReturn(List.of());
+
+        //when
+        OrderUserCursorResponseDto response = orderService.searchOrders(null, cursor, 5);
+
+        //then
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 INVALID_ORDER_SEARCH_CURSOR 예외가 발생하고 검색하지 않는다")
+    void searchInvalidCursor() {
+        //when //then
+        assertThatThrownBy(() -> orderService.searchOrders("셔츠", "not-a-cursor", 5))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_ORDER_SEARCH_CURSOR);
+        verifyNoInteractions(orderProductRepository);
+    }
+}
@@ -0,0 +1,142 @@
+package com.team2.fitinside.product.bulk;
+
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.product.image.ImageLifecycleManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import(ProductBulkWriter.class)
+@DisplayName("상품 일괄 반영 JDBC 테스트")
+class ProductBulkWriterTest {
+
+    @Autowired
+    private ProductBulkWriter bulkWriter;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ImageLifecycleManager imageLifecycleManager;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = testEntityManager.persistAndFlush(Category.builder().name("상의").isDeleted(false).build()).getId();
+    }
+
+    private static ProductImportRow row(String sku, String productName, Integer price, String info, Integer stock,
+                                        List<String> productImgUrls) {
+        return new ProductImportRow(sku, productName != null ? "상의" : null, productName, price, info, stock, null,
+                productImgUrls, null);
+    }
+
+    private Map<String, Object> product(String sku) {
+        return jdbcTemplate.queryForMap(
+                "SELECT product_name, price, info, product_stock, is_sold_out FROM product WHERE sku = ?", sku);
+    }
+
+    @Test
+    @DisplayName("기존 상품은 값이 있는 필드만 바꾸고, 빠진 재고/설명/이미지는 그대로 둔다")
+    void partialRowKeepsMissingFields() {
+        //given
+        bulkWriter.upsert(List.of(new ProductBulkWriter.Item(1, row("SKU-1", "반팔", 10000, "면 100%", 5,
+                List.of("https://fitinside.s3.ap-northeast-2.amazonaws.com/images/a.png")), categoryId)), LocalDateTime.now());
+
+        //when
+        List<ProductBulkWriter.Item> rejected = bulkWriter.upsert(List.of(
+                new ProductBulkWriter.Item(2, row("SKU-1", null, 12000, null, null, null), null)), LocalDateTime.now());
+
+        //then
+        assertThat(rejected).isEmpty();
+        Map<String, Object> product = product("SKU-1");
+        assertThat(product.get("PRODUCT_NAME")).isEqualTo("반팔");
+        assertThat(product.get("PRICE")).isEqualTo(12000);
+        assertThat(product.get("INFO")).isEqualTo("면 100%");
+        assertThat(product.get("PRODUCT_STOCK")).isEqualTo(5);
+        assertThat(product.get("IS_SOLD_OUT")).isEqualTo(false);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product_img_urls i JOIN product p ON p.product_id = i.product_id WHERE p.sku = 'SKU-1'",
+                Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고를 0 으로 보내면 품절로 바뀌고, 필수 값이 빠진 새 상품은 등록하지 않고 돌려준다")
+    void stockZeroAndRejectedInsert() {
+        //given
+        bulkWriter.upsert(List.of(new ProductBulkWriter.Item(1, row("SKU-1", "반팔", 10000, null, 5, null), categoryId)),
+                LocalDateTime.now());
+
+        //when
+        List<ProductBulkWriter.Item> rejected = bulkWriter.upsert(List.of(
+                new ProductBulkWriter.Item(2, row("SKU-1", null, null, null, 0, null), null),
+                new ProductBulkWriter.Item(3, row("SKU-2", null, 5000, null, null, null), null)), LocalDateTime.now());
+
+        //then
+        assertThat(rejected).extracting(ProductBulkWriter.Item::rowNo).containsExactly(3L);
+        assertThat(product("SKU-1").get("IS_SOLD_OUT")).isEqualTo(true);
+        assertThat(product("SKU-1").get("PRICE")).isEqualTo(10000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE sku = 'SKU-2'", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 피드로 다시 들어와도 값만 바뀌고 삭제 상태는 유지된다")
+    void deletedProductStaysDeleted() {
+        //given
+        bulkWriter.upsert(List.of(new ProductBulkWriter.Item(1, row("SKU-1", "반팔", 10000, null, 5, null), categoryId)),
+                LocalDateTime.now());
+        jdbcTemplate.update("UPDATE product SET is_deleted = true WHERE sku = 'SKU-1'");
+
+        //when
+        bulkWriter.upsert(List.of(new ProductBulkWriter.Item(2, row("SKU-1", null, 12000, null, null, null), null)),
+                LocalDateTime.now());
+
+        //then
+        assertThat(product("SKU-1").get("PRICE")).isEqualTo(12000);
+        assertThat(jdbcTemplate.queryForObject("SELECT is_deleted FROM product WHERE sku = 'SKU-1'", Boolean.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미지를 교체하면 어떤 상품도 참조하지 않게 된 이전 이미지만 삭제 대기열에 넘긴다")
+    void replacedImagesQueuedForDeletion() {
+        //given
+        String shared = "https://fitinside.s3.ap-northeast-2.amazonaws.com/images/import/shared.png";
+        String old = "https://fitinside.s3.ap-northeast-2.amazonaws.com/images/import/old.png";
+        String kept = "https://fitinside.s3.ap-northeast-2.amazonaws.com/images/import/kept.png";
+        bulkWriter.upsert(List.of(
+                new ProductBulkWriter.Item(1, row("SKU-1", "반팔", 10000, null, 5, List.of(shared, old, kept)), categoryId),
+                new ProductBulkWriter.Item(2, row("SKU-2", "긴팔", 20000, null, 5, List.of(shared)), categoryId)),
+                LocalDateTime.now());
+
+        //when
+        bulkWriter.upsert(List.of(new ProductBulkWriter.Item(3, row("SKU-1", null, null, null, null,
+                List.of(kept, "https://fitinside.s3.ap-northeast-2.amazonaws.com/images/import/new.png")), null)),
+                LocalDateTime.now());
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(imageLifecycleManager).deleteAfterCommit(captor.capture());
+        assertThat(captor.getValue()).containsExactly(old);
+    }
+}
@@ -0,0 +1,110 @@
+package com.team2.fitinside.product.bulk;
+
+import com.sun.net.httpserver.HttpServer;
+import com.team2.fitinside.product.image.S3ImageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 이미지 내려받기 단위 테스트")
+class ProductImageFetcherTest {
+
+    private static final int MAX_BYTES = 1024;
+
+    @Mock
+    private S3ImageService s3ImageService;
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // 길이를 알리지 않고(chunked) 한도보다 큰 본문을 보냄
+        server.createContext("/huge.png", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(new byte[MAX_BYTES * 4]);
+            } catch (IOException ignored) {
+                // 클라이언트가 한도에서 읽기를 멈추면 연결이 끊김
+            }
+        });
+        server.createContext("/small.png", exchange -> {
+            exchange.sendResponseHeaders(200, 10);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(new byte[10]);
+            }
+        });
+        server.createContext("/redirect.png", exchange -> {
+            exchange.getResponseHeaders().add("Location", "file:///etc/passwd");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private ProductImageFetcher fetcher(boolean allowPrivateHosts) {
+        return new ProductImageFetcher(s3ImageService, new ThreadPoolTaskExecutorBuilder(), 1, Duration.ofSeconds(5),
+                MAX_BYTES, allowPrivateHosts);
+    }
+
+    @Test
+    @DisplayName("길이를 알 수 없는 본문도 한도를 넘는 순간 읽기를 멈추고 거부한다")
+    void rejectsOversizedBody() {
+        ProductImageFetcher fetcher = fetcher(true);
+        try {
+            assertThat(fetcher.download(baseUrl + "/small.png")).hasSize(10);
+            assertThatThrownBy(() -> fetcher.download(baseUrl + "/huge.png"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(String.valueOf(MAX_BYTES));
+        } finally {
+            fetcher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("http/https 가 아닌 주소와 내부 네트워크 주소는 리다이렉트 대상이어도 거부한다")
+    void rejectsUnsafeTargets() {
+        ProductImageFetcher privateAllowed = fetcher(true);
+        ProductImageFetcher fetcher = fetcher(false);
+        try {
+            assertThatThrownBy(() -> privateAllowed.download(baseUrl + "/redirect.png"))
+                    .hasMessageContaining("http/https");
+            assertThatThrownBy(() -> fetcher.download(baseUrl + "/small.png"))
+                    .hasMessageContaining("내부 네트워크");
+            assertThatThrownBy(() -> fetcher.checkAllowed(URI.create("http://169.254.169.254/latest/meta-data")))
+                    .hasMessageContaining("내부 네트워크");
+            assertThat(ProductImageFetcher.isInternal(InetAddress.getByName("10.1.2.3"))).isTrue();
+            assertThat(ProductImageFetcher.isInternal(InetAddress.getByName("100.64.0.1"))).isTrue();
+            assertThat(ProductImageFetcher.isInternal(InetAddress.getByName("fd00::1"))).isTrue();
+            assertThat(ProductImageFetcher.isInternal(InetAddress.getByName("8.8.8.8"))).isFalse();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            privateAllowed.destroy();
+            fetcher.destroy();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.team2.fitinside.product.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 일괄 가져오기 파일 읽기 단위 테스트")
+class ProductImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ProductImportReader reader(ProductImportFormat format, String content) {
+        return new ProductImportReader(new BufferedReader(new StringReader(content)), format, objectMapper);
+    }
+
+    @Test
+    @DisplayName("CSV 는 헤더 순서대로 읽고, 따옴표 안의 쉼표와 '|' 로 구분된 이미지 URL 을 해석한다")
+    void readCsv() throws IOException {
+        //given
+        String csv = "\uFEFFsku,productName,categoryName,price,stock,info,productImgUrls\n"
+                + "SKU-1,\"반팔, 티셔츠\",상의,10000,5,\"\"\"좋은\"\" 옷\",https://a.com/1.png|https://a.com/2.png\n"
+                + "\n"
+                + "SKU-2,바지,하의,20000,,,\n";
+
+        //when
+        ProductImportReader.ParsedRow first;
+        ProductImportReader.ParsedRow second;
+        ProductImportReader.ParsedRow end;
+        try (ProductImportReader reader = reader(ProductImportFormat.CSV, csv)) {
+            first = reader.next();
+            second = reader.next();
+            end = reader.next();
+        }
+
+        //then
+        assertThat(first.rowNo()).isEqualTo(1);
+        assertThat(first.error()).isNull();
+        assertThat(first.row().sku()).isEqualTo("SKU-1");
+        assertThat(first.row().productName()).isEqualTo("반팔, 티셔츠");
+        assertThat(first.row().info()).isEqualTo("\"좋은\" 옷");
+        assertThat(first.row().price()).isEqualTo(10000);
+        assertThat(first.row().productImgUrls()).containsExactly("https://a.com/1.png", "https://a.com/2.png");
+        assertThat(first.row().productDescImgUrls()).isNull();
+
+        assertThat(second.rowNo()).isEqualTo(2);
+        assertThat(second.row().stock()).isNull();
+        assertThat(second.row().productImgUrls()).isEmpty();
+        assertThat(end).isNull();
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 값이나 깨진 JSON 은 예외 대신 해당 행의 오류로 반환하고 다음 행을 계속 읽는다")
+    void rowErrors() throws IOException {
+        //given
+        String ndjson = """
+                {"sku":"SKU-1","productName":"반팔","categoryName":"상의","price":10000,"productImgUrls":["https://a.com/1.png"]}
+                {"sku":"SKU-2", broken
+                {"sku":"SKU-3","productName":"바지","categoryName":"하의","price":20000}
+                """;
+
+        //when
+        ProductImportReader.ParsedRow first;
+        ProductImportReader.ParsedRow broken;
+        ProductImportReader.ParsedRow third;
+        try (ProductImportReader reader = reader(ProductImportFormat.NDJSON, ndjson)) {
+            first = reader.next();
+            broken = reader.next();
+            third = reader.next();
+        }
+
+        //then
+        assertThat(first.row().productImgUrls()).containsExactly("https://a.com/1.png");
+        assertThat(broken.rowNo()).isEqualTo(2);
+        assertThat(broken.row()).isNull();
+        assertThat(broken.error()).startsWith("JSON 형식이 올바르지 않습니다");
+        assertThat(third.row().sku()).isEqualTo("SKU-3");
+        assertThat(third.row().productImgUrls()).isNull();
+
+        try (ProductImportReader reader = reader(ProductImportFormat.CSV, "sku,price\nSKU-1,abc\n")) {
+            assertThat(reader.next().error()).isEqualTo("price 값이 숫자가 아닙니다: abc");
+        }
+    }
+
+    @Test
+    @DisplayName("재개 시 커밋된 행 수만큼 건너뛰면 같은 행 번호부터 이어서 읽는다")
+    void skipCommittedRows() throws IOException {
+        //given
+        String csv = "sku,price\nSKU-1,1\n\nSKU-2,2\nSKU-3,3\n";
+
+        //when
+        ProductImportReader.ParsedRow next;
+        try (ProductImportReader reader = reader(ProductImportFormat.CSV, csv)) {
+            reader.skip(2);
+            next = reader.next();
+        }
+
+        //then
+        assertThat(next.rowNo()).isEqualTo(3);
+        assertThat(next.row().sku()).isEqualTo("SKU-3");
+    }
+
+    @Test
+    @DisplayName("CSV 한 줄 분리 시 빈 값도 위치를 유지한다")
+    void splitCsvKeepsEmptyValues() {
+        assertThat(ProductImportReader.splitCsv("a,,\"b,c\",")).isEqualTo(List.of("a", "", "b,c", ""));
+    }
+}
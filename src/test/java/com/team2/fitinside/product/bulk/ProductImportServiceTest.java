@@ -0,0 +1,116 @@
+package com.team2.fitinside.product.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team2.fitinside.category.service.CategoryTreeCache;
+import com.team2.fitinside.global.cache.CatalogVersionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 일괄 가져오기 서비스 단위 테스트")
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductImportJobRepository jobRepository;
+
+    @Mock
+    private ProductImportErrorRepository errorRepository;
+
+    @Mock
+    private ProductBulkWriter bulkWriter;
+
+    @Mock
+    private ProductImageFetcher imageFetcher;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private CatalogVersionRegistry catalogVersionRegistry;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path tempDir;
+
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new ProductImportService(jobRepository, errorRepository, bulkWriter, imageFetcher,
+                categoryTreeCache, catalogVersionRegistry, new TransactionTemplate(transactionManager), new ObjectMapper(),
+                new SimpleMeterRegistry(), new ThreadPoolTaskExecutorBuilder(), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productImportService.destroy();
+    }
+
+    @Test
+    @DisplayName("재개하면 커밋된 행 다음부터 처리하고, 필수 값이 빠진 새 상품 행만 오류로 남긴다")
+    void resumeFromCommittedRows() throws IOException {
+        //given
+        Path file = Files.writeString(tempDir.resolve("feed.csv"), """
+                sku,productName,categoryName,price,stock
+                SKU-1,반팔,상의,10000,5
+                SKU-2,바지,상의,20000,3
+                SKU-3,,,12000,
+                SKU-4,,,5000,
+                """);
+        ProductImportJob job = new ProductImportJob("feed.csv", file.toString(), ProductImportFormat.CSV, LocalDateTime.now());
+        job.chunkCommitted(2, 2, 0, LocalDateTime.now()); // 앞선 실행에서 두 행까지 커밋됨
+        given(jobRepository.findById(1L)).willReturn(Optional.of(job));
+        given(categoryTreeCache.idsByName()).willReturn(Map.of("상의", 1L));
+        // SKU-3 은 기존 상품(가격만 수정), SKU-4 는 없는 상품이라 반영되지 않음
+        given(bulkWriter.upsert(anyList(), any())).willAnswer(invocation ->
+                List.of(invocation.<List<ProductBulkWriter.Item>>getArgument(0).get(1)));
+
+        //when
+        productImportService.run(1L);
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductBulkWriter.Item>> items = ArgumentCaptor.forClass(List.class);
+        verify(bulkWriter).upsert(items.capture(), any());
+        assertThat(items.getValue()).extracting(ProductBulkWriter.Item::rowNo).containsExactly(3L, 4L);
+        assertThat(items.getValue().get(0).row().price()).isEqualTo(12000);
+        assertThat(items.getValue().get(0).row().stock()).isNull();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductImportError>> errors = ArgumentCaptor.forClass(List.class);
+        verify(errorRepository).saveAll(errors.capture());
+        assertThat(errors.getValue()).extracting(ProductImportError::getRowNo).containsExactly(4L);
+
+        assertThat(job.getStatus()).isEqualTo(ProductImportStatus.COMPLETED);
+        assertThat(job.getCommittedRows()).isEqualTo(4);
+        assertThat(job.getSucceededRows()).isEqualTo(3);
+        assertThat(job.getFailedRows()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.team2.fitinside.product.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3 이미지 삭제 대기열 단위 테스트")
+class ImageLifecycleManagerTest {
+
+    @Mock
+    private S3ImageService s3ImageService;
+
+    private ImageLifecycleManager imageLifecycleManager;
+
+    @BeforeEach
+    void setUp() {
+        imageLifecycleManager = new ImageLifecycleManager(s3ImageService, new SimpleMeterRegistry(),
+                new ThreadPoolTaskExecutorBuilder());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        imageLifecycleManager.destroy();
+    }
+
+    @Test
+    @DisplayName("쌓인 키는 1000개씩 나눠 다중 객체 삭제 요청으로 보낸다")
+    void deletesInBatches() {
+        //given
+        List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "image-" + i + ".png").toList();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        given(s3ImageService.deleteImagesFromS3(anyCollection())).willAnswer(invocation -> {
+            batchSizes.add(invocation.<Collection<String>>getArgument(0).size());
+            return 0;
+        });
+
+        //when
+        imageLifecycleManager.deleteKeys(keys);
+
+        //then
+        verify(s3ImageService, timeout(1000).times(3)).deleteImagesFromS3(anyCollection());
+        assertThat(batchSizes).containsExactly(1000, 1000, 500);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 삭제 요청한 이미지는 롤백되면 삭제하지 않고, 새로 올린 이미지는 롤백 시 삭제한다")
+    void rollbackKeepsReferencedImages() {
+        //given
+        given(s3ImageService.keyOf("https://fitinside.s3.ap-northeast-2.amazonaws.com/new.png")).willReturn("new.png");
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        imageLifecycleManager.deleteAfterCommit("https://fitinside.s3.ap-northeast-2.amazonaws.com/old.png");
+        imageLifecycleManager.discardOnRollback("https://fitinside.s3.ap-northeast-2.amazonaws.com/new.png");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //then
+        verify(s3ImageService, timeout(1000)).deleteImagesFromS3(List.of("new.png"));
+        verify(s3ImageService, after(100).never()).deleteImagesFromS3(List.of("old.png"));
+    }
+}
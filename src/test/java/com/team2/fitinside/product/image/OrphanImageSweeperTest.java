@@ -0,0 +1,82 @@
+package com.team2.fitinside.product.image;
+
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("고아 이미지 회수 단위 테스트")
+class OrphanImageSweeperTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private S3ImageService s3ImageService;
+
+    @Mock
+    private ImageLifecycleManager imageLifecycleManager;
+
+    private OrphanImageSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new OrphanImageSweeper(jdbcTemplate, s3ImageService, imageLifecycleManager, new SimpleMeterRegistry());
+
+        // 참조하는 행은 없고, 접두사마다 오래된 객체가 하나씩 있음
+        willAnswer(invocation -> {
+            String prefix = invocation.getArgument(0);
+            S3ObjectSummary object = new S3ObjectSummary();
+            object.setKey(prefix + "old.png");
+            object.setLastModified(Date.from(Instant.now().minus(Duration.ofDays(3))));
+            invocation.<Consumer<S3ObjectSummary>>getArgument(1).accept(object);
+            return null;
+        }).given(s3ImageService).forEachStoredImage(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이 애플리케이션이 쓰는 접두사만 조회하고, 기본(dry-run)에서는 삭제하지 않는다")
+    void dryRunByDefault() {
+        //when
+        sweeper.sweep();
+
+        //then
+        verify(s3ImageService).forEachStoredImage(eq("images/"), any());
+        verify(s3ImageService).forEachStoredImage(eq("uploads/"), any());
+        verify(imageLifecycleManager, never()).deleteKeys(anyCollection());
+    }
+
+    @Test
+    @DisplayName("dry-run 을 끄면 참조되지 않은 오래된 객체를 삭제 대기열에 넣는다")
+    void deletesWhenDryRunDisabled() {
+        //given
+        ReflectionTestUtils.setField(sweeper, "dryRun", false);
+
+        //when
+        sweeper.sweep();
+
+        //then
+        verify(imageLifecycleManager).deleteKeys(List.of("images/old.png", "uploads/old.png"));
+    }
+}
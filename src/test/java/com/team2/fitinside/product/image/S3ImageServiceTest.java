@@ -0,0 +1,197 @@
+package com.team2.fitinside.product.image;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.team2.fitinside.config.S3Config;
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.product.dto.ImageUploadSlotResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.net.URL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3 이미지 직접 업로드 단위 테스트")
+class S3ImageServiceTest {
+
+    private static final String KEY = "uploads/123e4567-e89b-12d3-a456-426614174000.png";
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    private S3ImageService s3ImageService;
+
+    @BeforeEach
+    void setUp() {
+        s3ImageService = new S3ImageService(amazonS3);
+        ReflectionTestUtils.setField(s3ImageService, "bucketName", "fitinside");
+        ReflectionTestUtils.setField(s3ImageService, "uploadMaxSize", DataSize.ofMegabytes(1));
+    }
+
+    // 설정값으로 실제 클라이언트를 만듦 (URL 생성만 사용하므로 네트워크 호출 없음)
+    private static S3ImageService withClient(String endpoint) {
+        S3Config s3Config = new S3Config();
+        ReflectionTestUtils.setField(s3Config, "accessKey", "test");
+        ReflectionTestUtils.setField(s3Config, "secretKey", "test");
+        ReflectionTestUtils.setField(s3Config, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(s3Config, "endpoint", endpoint);
+        S3ImageService service = new S3ImageService(s3Config.amazonS3());
+        ReflectionTestUtils.setField(service, "bucketName", "fitinside");
+        return service;
+    }
+
+    private static ObjectMetadata head(long size, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setContentType(contentType);
+        return metadata;
+    }
+
+    @Test
+    @DisplayName("업로드 슬롯은 Content-Type 이 서명된 PUT 주소로 발급된다")
+    void createUploadSlot() throws Exception {
+        //given
+        given(amazonS3.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .willReturn(new URL("http://localhost:9000/fitinside/uploads/a.png?X-Amz-Signature=abc"));
+
+        //when
+        ImageUploadSlotResponseDto slot = s3ImageService.createUploadSlot("셔츠.PNG", "image/png", 1024);
+
+        //then
+        ArgumentCaptor<GeneratePresignedUrlRequest> captor = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        verify(amazonS3).generatePresignedUrl(captor.capture());
+        assertThat(captor.getValue().getMethod()).isEqualTo(HttpMethod.PUT);
+        assertThat(captor.getValue().getContentType()).isEqualTo("image/png");
+        assertThat(captor.getValue().getKey()).isEqualTo(slot.getKey());
+        assertThat(slot.getKey()).startsWith("uploads/").endsWith(".png");
+        assertThat(slot.getUploadUrl()).contains("X-Amz-Signature");
+    }
+
+    @Test
+    @DisplayName("허용 크기를 넘는 슬롯 요청은 저장소 호출 없이 거부된다")
+    void createUploadSlotTooLarge() {
+        //when //then
+        assertThatThrownBy(() -> s3ImageService.createUploadSlot("a.png", "image/png", DataSize.ofMegabytes(2).toBytes()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IMAGE_SIZE_EXCEEDED);
+        verifyNoInteractions(amazonS3);
+    }
+
+    @Test
+    @DisplayName("HEAD 로 확인한 크기와 형식이 맞으면 공개 후 이미지 URL 을 반환한다")
+    void confirmUpload() throws Exception {
+        //given
+        given(amazonS3.getObjectMetadata("fitinside", KEY)).willReturn(head(2048, "image/png"));
+        given(amazonS3.getUrl("fitinside", KEY)).willReturn(new URL("https://fitinside.s3.ap-northeast-2.amazonaws.com/" + KEY));
+
+        //when
+        String imageUrl = s3ImageService.confirmUpload(KEY);
+
+        //then
+        assertThat(imageUrl).endsWith(KEY);
+        verify(amazonS3).setObjectAcl("fitinside", KEY, CannedAccessControlList.PublicRead);
+    }
+
+    @Test
+    @DisplayName("실제로 올라간 파일이 허용 크기를 넘으면 객체를 삭제하고 공개하지 않는다")
+    void confirmUploadTooLarge() {
+        //given
+        given(amazonS3.getObjectMetadata("fitinside", KEY)).willReturn(head(DataSize.ofMegabytes(5).toBytes(), "image/png"));
+
+        //when //then
+        assertThatThrownBy(() -> s3ImageService.confirmUpload(KEY))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IMAGE_SIZE_EXCEEDED);
+        verify(amazonS3).deleteObject(any(DeleteObjectRequest.class));
+        verify(amazonS3, never()).setObjectAcl(any(String.class), any(String.class), any(CannedAccessControlList.class));
+    }
+
+    @Test
+    @DisplayName("아직 업로드되지 않은 키는 UPLOADED_IMAGE_NOT_FOUND, 발급 형식이 아닌 키는 저장소 호출 없이 거부된다")
+    void confirmUploadInvalidKey() {
+        //given
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        given(amazonS3.getObjectMetadata("fitinside", KEY)).willThrow(notFound);
+
+        //when //then
+        assertThatThrownBy(() -> s3ImageService.confirmUpload(KEY))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UPLOADED_IMAGE_NOT_FOUND);
+        assertThatThrownBy(() -> s3ImageService.confirmUpload("banner/private.png"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_UPLOAD_KEY);
+    }
+
+    @Test
+    @DisplayName("S3 호환 저장소(경로 방식 주소)의 이미지 URL 에서도 버킷 이름을 제외한 키를 얻는다")
+    void keyOfPathStyleUrl() {
+        //given
+        S3ImageService localService = withClient("http://localhost:9000");
+
+        //when //then
+        assertThat(localService.isStoredImage("http://localhost:9000/fitinside/uploads/x.png")).isTrue();
+        assertThat(localService.keyOf("http://localhost:9000/fitinside/uploads/x.png")).isEqualTo("uploads/x.png");
+        assertThatThrownBy(() -> localService.keyOf("https://other.example.com/uploads/x.png"))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 만든 이미지 URL 은 주소 방식과 관계없이 원래 키로 되돌아간다")
+    void keyOfRoundTrip() {
+        //given
+        String key = "images/셔츠 1+2.png";
+
+        //when //then
+        for (String endpoint : new String[]{"http://localhost:9000", ""}) {
+            S3ImageService service = withClient(endpoint);
+            AmazonS3 client = (AmazonS3) ReflectionTestUtils.getField(service, "amazonS3");
+            assertThat(service.keyOf(client.getUrl("fitinside", key).toString())).isEqualTo(key);
+        }
+    }
+
+    @Test
+    @DisplayName("가져오기 이미지 키는 원본 URL 마다 고정되고, 이미 올라간 키는 URL 만 돌려준다")
+    void importKeyIsStable() throws Exception {
+        //given
+        String key = s3ImageService.importKey("https://cdn.example.com/a/shirt.PNG", "shirt.PNG");
+        given(amazonS3.doesObjectExist("fitinside", key)).willReturn(true);
+        given(amazonS3.getUrl("fitinside", key)).willReturn(new URL("https://fitinside.s3.ap-northeast-2.amazonaws.com/" + key));
+
+        //when
+        String storedUrl = s3ImageService.findStoredImage(key);
+
+        //then
+        assertThat(key).startsWith(S3ImageService.IMPORT_PREFIX).endsWith(".png")
+                .isEqualTo(s3ImageService.importKey("https://cdn.example.com/a/shirt.PNG", "shirt.PNG"))
+                .isNotEqualTo(s3ImageService.importKey("https://cdn.example.com/b/shirt.PNG", "shirt.PNG"));
+        assertThat(storedUrl).isEqualTo("https://fitinside.s3.ap-northeast-2.amazonaws.com/" + key);
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+}
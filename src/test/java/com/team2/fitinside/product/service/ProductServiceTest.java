@@ -0,0 +1,156 @@
+package com.team2.fitinside.product.service;
+
+import com.team2.fitinside.category.entity.Category;
+import com.team2.fitinside.category.repository.CategoryRepository;
+import com.team2.fitinside.category.service.CategoryTreeCache;
+import com.team2.fitinside.global.exception.CustomException;
+import com.team2.fitinside.global.exception.ErrorCode;
+import com.team2.fitinside.product.dto.ProductPatchDto;
+import com.team2.fitinside.product.entity.Product;
+import com.team2.fitinside.product.image.ImageLifecycleManager;
+import com.team2.fitinside.product.image.S3ImageService;
+import com.team2.fitinside.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 서비스 단위 테스트")
+class ProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private S3ImageService s3ImageService;
+
+    @Mock
+    private ImageLifecycleManager imageLifecycleManager;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @InjectMocks
+    private ProductService productService;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Category category = Category.builder().id(1L).name("상의").build();
+        product = Product.builder()
+                .id(10L)
+                .category(category)
+                .categoryName("상의")
+                .productName("반팔 티셔츠")
+                .price(10000)
+                .stock(5)
+                .productImgUrls(new ArrayList<>(List.of("a.png", "b.png", "c.png")))
+                .productDescImgUrls(new ArrayList<>(List.of("desc.png")))
+                .build();
+    }
+
+    @Test
+    @DisplayName("가격만 전달하면 가격만 바뀌고 나머지 필드와 카테고리는 그대로 유지된다")
+    void patchPriceOnly() {
+        //given
+        given(productRepository.findById(10L)).willReturn(Optional.of(product));
+        ProductPatchDto patchDto = new ProductPatchDto();
+        patchDto.setPrice(12000);
+
+        //when
+        productService.patchProduct(10L, patchDto);
+
+        //then
+        assertThat(product.getPrice()).isEqualTo(12000);
+        assertThat(product.getProductName()).isEqualTo("반팔 티셔츠");
+        assertThat(product.getStock()).isEqualTo(5);
+        assertThat(product.getProductImgUrls()).containsExactly("a.png", "b.png", "c.png");
+        verify(categoryRepository, never()).findByNameAndIsDeletedFalse(any());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("이미지 삭제/추가 목록은 기존 순서를 유지한 채 반영되고, 실제로 있던 이미지만 커밋 후 삭제 대기열에 넣는다")
+    void patchImagesDiff() {
+        //given
+        given(productRepository.findById(10L)).willReturn(Optional.of(product));
+        ProductPatchDto patchDto = new ProductPatchDto();
+        patchDto.setRemoveProductImgUrls(List.of("b.png", "missing.png"));
+        patchDto.setAddProductImgUrls(List.of("d.png"));
+
+        //when
+        productService.patchProduct(10L, patchDto);
+
+        //then
+        assertThat(product.getProductImgUrls()).containsExactly("a.png", "c.png", "d.png");
+        assertThat(product.getProductDescImgUrls()).containsExactly("desc.png");
+        verify(imageLifecycleManager).deleteAfterCommit(List.of("b.png"));
+    }
+
+    @Test
+    @DisplayName("상품 삭제 시 대표 이미지만 남기고 나머지 이미지는 커밋 후 삭제 대기열에 넣는다")
+    void deleteProductReleasesImages() {
+        //given
+        given(productRepository.findById(10L)).willReturn(Optional.of(product));
+
+        //when
+        productService.deleteProduct(10L);
+
+        //then
+        assertThat(product.isDeleted()).isTrue();
+        assertThat(product.getProductImgUrls()).containsExactly("a.png");
+        assertThat(product.getProductDescImgUrls()).isEmpty();
+        verify(imageLifecycleManager).deleteAfterCommit(List.of("b.png", "c.png", "desc.png"));
+    }
+
+    @Test
+    @DisplayName("재고를 0으로 바꾸면 품절 처리된다")
+    void patchStockToZero() {
+        //given
+        given(productRepository.findById(10L)).willReturn(Optional.of(product));
+        ProductPatchDto patchDto = new ProductPatchDto();
+        patchDto.setStock(0);
+
+        //when
+        productService.patchProduct(10L, patchDto);
+
+        //then
+        assertThat(product.getStock()).isZero();
+        assertThat(product.isSoldOut()).isTrue();
+    }
+
+    @Test
+    @DisplayName("음수 가격이면 INVALID_PRODUCT_PRICE 예외가 발생하고 상품은 변경되지 않는다")
+    void patchNegativePrice() {
+        //given
+        given(productRepository.findById(10L)).willReturn(Optional.of(product));
+        ProductPatchDto patchDto = new ProductPatchDto();
+        patchDto.setPrice(-1);
+
+        //when //then
+        assertThatThrownBy(() -> productService.patchProduct(10L, patchDto))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_PRODUCT_PRICE);
+        assertThat(product.getPrice()).isEqualTo(10000);
+    }
+}